@@ -0,0 +1,103 @@
+package team.molu.edayserver.repository;
+
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.GraphDatabase;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Session;
+import org.neo4j.harness.Neo4j;
+import org.neo4j.harness.Neo4jBuilders;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.neo4j.repository.query.Query;
+import team.molu.edayserver.load.SyntheticTaskTree;
+import team.molu.edayserver.schema.SchemaMigration;
+import team.molu.edayserver.schema.SchemaMigrations;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내장 Neo4j(neo4j-harness)의 합성 트리(기본 111,110개 할 일)에서 한 달 기간 조회 지연 시간 - 트리 순회 방식과 현재 방식 비교.
+ * traversal: root부터 모든 하위 노드를 순회하며 날짜를 문자열로 비교 (인덱스 도입 전 findTasksByDate)
+ * indexed: TaskRepository.findTasksByDate의 @Query를 그대로 실행
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=TaskDateRangeBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TaskDateRangeBenchmark {
+    // 인덱스 도입 전의 findTasksByDate 쿼리
+    private static final String TRAVERSAL_QUERY =
+            "MATCH (u:User {email: $email})-[CREATED_BY]->(r:Task {id: \"root\"}), (r)-[BELONGS_TO*]->(t:Task) " +
+            "WHERE ((date(t.startDate) >= date($startDate) AND date(t.startDate) <= date($endDate)) " +
+            "OR (date(t.endDate) >= date($startDate) AND DATE(t.endDate) <= DATE($endDate))) RETURN t";
+
+    private static final String INDEXED_QUERY = Arrays.stream(TaskRepository.class.getMethods())
+            .filter(method -> method.getName().equals("findTasksByDate"))
+            .findFirst()
+            .orElseThrow()
+            .getAnnotation(Query.class)
+            .value();
+
+    @Param({"5"})
+    public int depth;
+
+    @Param({"10"})
+    public int fanOut;
+
+    private Neo4j neo4j;
+    private Driver driver;
+    private Session session;
+    private Map<String, Object> traversalParams;
+    private Map<String, Object> indexedParams;
+
+    @Setup
+    public void setUp() {
+        neo4j = Neo4jBuilders.newInProcessBuilder().withDisabledServer().build();
+        driver = GraphDatabase.driver(neo4j.boltURI());
+
+        SyntheticTaskTree tree = SyntheticTaskTree.builder()
+                .users(1)
+                .depth(depth)
+                .fanOut(fanOut)
+                .trashRatio(0.1)
+                .archiveRatio(0.1)
+                .build();
+        tree.generate(driver);
+
+        // 인덱스 생성 및 maxTaskSpan backfill
+        session = driver.session();
+        for (SchemaMigration migration : SchemaMigrations.ALL) {
+            for (String statement : migration.getStatements()) {
+                session.run(statement).consume();
+            }
+        }
+        session.run("CALL db.awaitIndexes(300)").consume();
+
+        String email = tree.email(0);
+        traversalParams = Map.of("email", email, "startDate", "2024-03-01", "endDate", "2024-03-31");
+        indexedParams = Map.of("email", email,
+                "windowStart", LocalDateTime.parse("2024-03-01T00:00"),
+                "windowEnd", LocalDateTime.parse("2024-04-01T00:00"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        session.close();
+        driver.close();
+        neo4j.close();
+    }
+
+    @Benchmark
+    public List<Record> traversal() {
+        return session.run(TRAVERSAL_QUERY, traversalParams).list();
+    }
+
+    @Benchmark
+    public List<Record> indexed() {
+        return session.run(INDEXED_QUERY, indexedParams).list();
+    }
+}
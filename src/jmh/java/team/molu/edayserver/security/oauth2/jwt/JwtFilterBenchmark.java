@@ -0,0 +1,63 @@
+package team.molu.edayserver.security.oauth2.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증된 요청 한 건에 대해 JwtFilter가 토큰/경로 검사에 쓰는 CPU 시간 비교.
+ * legacy: 요청마다 String.matches 정규식 2회 + 파서 생성/서명 검증 5회 (isExpired, getTtl, getCategory, getEmail, getRole)
+ * parsedToken: 미리 컴파일된 경로 패턴 + 서명 검증 1회
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=JwtFilterBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtFilterBenchmark {
+    private static final String SECRET = "eday-benchmark-secret-key-for-hmac-sha-256-signing";
+    private static final String REQUEST_URI = "/api/v1/tasks/roots";
+
+    private SecretKey secretKey;
+    private JwtUtil jwtUtil;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        jwtUtil = new JwtUtil(SECRET);
+        accessToken = jwtUtil.createJwt("access", "bench@eday.site", "ROLE_USER", 60 * 60 * 1000L);
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        blackhole.consume(REQUEST_URI.matches("^\\/api\\/v1\\/login(?:\\/.*)?$"));
+        blackhole.consume(REQUEST_URI.matches("^\\/oauth2(?:\\/.*)?$"));
+
+        blackhole.consume(Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(accessToken).getPayload()
+                .getExpiration().before(new Date(System.currentTimeMillis())));
+        blackhole.consume(Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(accessToken).getPayload().getExpiration());
+        blackhole.consume(Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(accessToken).getPayload().get("category", String.class));
+        blackhole.consume(Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(accessToken).getPayload().get("email", String.class));
+        blackhole.consume(Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(accessToken).getPayload().get("role", String.class));
+    }
+
+    @Benchmark
+    public void parsedToken(Blackhole blackhole) {
+        blackhole.consume(JwtFilter.LOGIN_PATH.matcher(REQUEST_URI).matches());
+        blackhole.consume(JwtFilter.OAUTH2_PATH.matcher(REQUEST_URI).matches());
+
+        ParsedToken token = jwtUtil.parse(accessToken);
+        blackhole.consume(token.isExpired());
+        blackhole.consume(token.getExpiration());
+        blackhole.consume(token.getCategory());
+        blackhole.consume(token.getEmail());
+        blackhole.consume(token.getRole());
+    }
+}
@@ -0,0 +1,56 @@
+package team.molu.edayserver.security.oauth2.jwt;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 실행되는 JwtUtil 경로 비용 (gc 프로파일러로 호출당 할당량 함께 확인).
+ * create: 토큰 생성 + HMAC 서명 (로그인, 재발급)
+ * parse: 서명 검증 + claim 파싱 (JwtFilter 캐시 미스)
+ * verifyTampered / verifyExpired: 서명 불일치, 만료 토큰 - 예외 경로
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=JwtUtilBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtUtilBenchmark {
+    private static final String SECRET = "eday-benchmark-secret-key-for-hmac-sha-256-signing";
+    private static final String EMAIL = "bench@eday.site";
+
+    private JwtUtil jwtUtil;
+    private String accessToken;
+    private String tamperedToken;
+    private String expiredToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET);
+        accessToken = jwtUtil.createJwt("access", EMAIL, "MEMBER", JwtUtil.ACCESS_TOKEN_TTL);
+        // 서명 마지막 글자 변경
+        char last = accessToken.charAt(accessToken.length() - 1);
+        tamperedToken = accessToken.substring(0, accessToken.length() - 1) + (last == 'A' ? 'B' : 'A');
+        expiredToken = jwtUtil.createJwt("access", EMAIL, "MEMBER", -1000L);
+    }
+
+    @Benchmark
+    public String create() {
+        return jwtUtil.createJwt("access", EMAIL, "MEMBER", JwtUtil.ACCESS_TOKEN_TTL);
+    }
+
+    @Benchmark
+    public ParsedToken parse() {
+        return jwtUtil.parse(accessToken);
+    }
+
+    @Benchmark
+    public ParsedToken verifyTampered() {
+        return jwtUtil.parse(tamperedToken);
+    }
+
+    @Benchmark
+    public ParsedToken verifyExpired() {
+        return jwtUtil.parse(expiredToken);
+    }
+}
@@ -0,0 +1,84 @@
+package team.molu.edayserver.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.*;
+import reactor.core.publisher.Flux;
+import team.molu.edayserver.domain.Task;
+import team.molu.edayserver.dto.TasksDto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 조회 응답 한 건을 만드는 비용 (할 일 수별).
+ * mapList / mapFlux: Task → TaskResponse 변환 (반복문, TaskService와 같은 Flux.map + collectList)
+ * serialize: SearchTasksResponse JSON 직렬화 (응답 스트림에 쓰는 것과 같이 버퍼 없이 출력)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=TaskMappingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskMappingBenchmark {
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    // Spring Boot 기본 ObjectMapper와 같은 설정 (JavaTimeModule, 날짜는 ISO 문자열)
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private List<Task> tasks;
+    private TasksDto.SearchTasksResponse response;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime start = LocalDateTime.of(2024, 5, 1, 9, 0);
+        tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tasks.add(Task.builder()
+                    .id(UUID.randomUUID().toString())
+                    .name("할 일 " + i)
+                    .memo(i % 3 == 0 ? null : "메모 " + i)
+                    .startDate(start.plusHours(i))
+                    .endDate(start.plusHours(i + 1))
+                    .priority(i % 5)
+                    .check(i % 2 == 0)
+                    .build());
+        }
+        response = TasksDto.SearchTasksResponse.builder()
+                .taskList(mapList())
+                .nextCursor(null)
+                .build();
+    }
+
+    @Benchmark
+    public List<TasksDto.TaskResponse> mapList() {
+        List<TasksDto.TaskResponse> result = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            result.add(TaskService.convertToTaskResponse(task));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<TasksDto.TaskResponse> mapFlux() {
+        return Flux.fromIterable(tasks)
+                .map(TaskService::convertToTaskResponse)
+                .collectList()
+                .block();
+    }
+
+    @Benchmark
+    public void serialize() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), response);
+    }
+}
@@ -0,0 +1,105 @@
+package team.molu.edayserver.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import team.molu.edayserver.domain.Task;
+import team.molu.edayserver.dto.CustomOAuth2User;
+import team.molu.edayserver.dto.TasksDto;
+import team.molu.edayserver.dto.UserDto;
+import team.molu.edayserver.repository.TaskRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * 같은 크기의 워커 풀에서 요청 묶음(requests개)을 처리하는 시간 - 블로킹 방식과 논블로킹 방식 비교.
+ * Neo4j 왕복 지연은 delayElement(roundTripMillis)로 흉내냅니다. (두 방식 모두 같은 타이머 사용)
+ * blocking: 워커 스레드가 요청마다 block()으로 응답을 기다림 (기존 방식)
+ * nonBlocking: 같은 워커 풀에서 구독만 하고 스레드를 바로 반환
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=TaskServiceThroughputBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TaskServiceThroughputBenchmark {
+    // 워커 스레드에서도 보이도록 SecurityContextHolder(스레드 로컬) 대신 Reactor Context로 인증 정보 전달
+    private static final Authentication AUTHENTICATION = new UsernamePasswordAuthenticationToken(
+            new CustomOAuth2User(UserDto.builder().email("bench@eday.site").role("USER").build()), null, List.of());
+
+    @Param({"4"})
+    public int workerThreads;
+
+    @Param({"64"})
+    public int requests;
+
+    @Param({"20"})
+    public int roundTripMillis;
+
+    private ExecutorService workers;
+    private Scheduler workerScheduler;
+    private TaskService taskService;
+
+    @Setup
+    public void setUp() {
+        workers = Executors.newFixedThreadPool(workerThreads);
+        workerScheduler = Schedulers.fromExecutorService(workers);
+
+        Task task = new Task("1", "Task 1", "Memo 1", LocalDateTime.now(), LocalDateTime.now().plusDays(1), 1, false);
+        Duration roundTrip = Duration.ofMillis(roundTripMillis);
+        // 호출 기록이 반복마다 쌓이지 않도록 stubOnly mock 사용
+        TaskRepository taskRepository = mock(TaskRepository.class, withSettings().stubOnly());
+        when(taskRepository.findTaskById(anyString(), anyString())).thenAnswer(invocation -> Mono.just(task).delayElement(roundTrip));
+        taskService = new TaskService(taskRepository,
+                mock(TaskTypeaheadIndex.class, withSettings().stubOnly()),
+                mock(TaskChangeLog.class, withSettings().stubOnly()),
+                mock(TransactionalOperator.class, withSettings().stubOnly()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        workerScheduler.dispose();
+        workers.shutdownNow();
+    }
+
+    @Benchmark
+    public List<TasksDto.TaskResponse> blocking() throws Exception {
+        List<Future<TasksDto.TaskResponse>> futures = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            String taskId = String.valueOf(i);
+            futures.add(workers.submit(() -> findTaskById(taskId).block()));
+        }
+        List<TasksDto.TaskResponse> responses = new ArrayList<>(requests);
+        for (Future<TasksDto.TaskResponse> future : futures) {
+            responses.add(future.get());
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public List<TasksDto.TaskResponse> nonBlocking() {
+        return Flux.range(0, requests)
+                .flatMap(i -> findTaskById(String.valueOf(i)).subscribeOn(workerScheduler), requests)
+                .collectList()
+                .block();
+    }
+
+    private Mono<TasksDto.TaskResponse> findTaskById(String taskId) {
+        return taskService.findTaskById(taskId).contextWrite(ReactiveSecurityContextHolder.withAuthentication(AUTHENTICATION));
+    }
+}
@@ -0,0 +1,36 @@
+package team.molu.edayserver.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import team.molu.edayserver.security.oauth2.jwt.TokenRevocationList;
+import team.molu.edayserver.security.oauth2.jwt.VerifiedTokenCache;
+
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * 검증된 access 토큰 캐시 적중률과 크기, 폐기 토큰 목록 크기를 노출합니다.
+     */
+    @Bean
+    MeterBinder tokenCacheMetrics(VerifiedTokenCache verifiedTokenCache, TokenRevocationList tokenRevocationList) {
+        return registry -> {
+            FunctionCounter.builder("eday.jwt.verified.cache.requests", verifiedTokenCache, VerifiedTokenCache::getHitCount)
+                    .description("Verified access token cache lookups")
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("eday.jwt.verified.cache.requests", verifiedTokenCache, VerifiedTokenCache::getMissCount)
+                    .description("Verified access token cache lookups")
+                    .tag("result", "miss")
+                    .register(registry);
+            Gauge.builder("eday.jwt.verified.cache.size", verifiedTokenCache, VerifiedTokenCache::size)
+                    .description("Verified access tokens currently cached")
+                    .register(registry);
+            Gauge.builder("eday.jwt.revoked.size", tokenRevocationList, TokenRevocationList::size)
+                    .description("Revoked tokens kept in memory")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package team.molu.edayserver.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.neo4j.ConfigBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class Neo4jConfig {
+
+    /**
+     * 드라이버가 한 번에 가져오는 레코드 수를 제한합니다.
+     * 리액티브 세션에서는 구독자의 요청량(demand)에 맞춰 이 크기 단위로 레코드를 가져오므로,
+     * 스트리밍 응답의 메모리 사용량이 결과 크기와 무관하게 일정하게 유지됩니다.
+     */
+    @Bean
+    ConfigBuilderCustomizer fetchSizeCustomizer(@Value("${eday.neo4j.fetch-size:500}") long fetchSize) {
+        return builder -> builder.withFetchSize(fetchSize);
+    }
+}
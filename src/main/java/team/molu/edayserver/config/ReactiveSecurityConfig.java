@@ -0,0 +1,106 @@
+package team.molu.edayserver.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.RedirectServerAuthenticationEntryPoint;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.web.cors.CorsConfiguration;
+import team.molu.edayserver.security.oauth2.CustomJWTServerSuccessHandler;
+import team.molu.edayserver.security.oauth2.jwt.JwtReactiveAuthenticationManager;
+import team.molu.edayserver.security.oauth2.jwt.JwtUtil;
+import team.molu.edayserver.security.oauth2.jwt.JwtWebFilter;
+import team.molu.edayserver.security.oauth2.jwt.TokenRevocationList;
+import team.molu.edayserver.security.oauth2.jwt.VerifiedTokenCache;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * reactive 모드(spring.profiles.active=reactive)의 보안 설정. SecurityConfig와 같은 규칙을 WebFilter 기반으로 구성합니다.
+ * 인증부터 Cypher 실행까지 블로킹 호출이 없으므로 요청마다 스레드를 점유하지 않고 적은 수의 이벤트 루프 스레드에서 처리됩니다.
+ */
+@Configuration
+@EnableWebFluxSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveSecurityConfig {
+
+    private final CustomJWTServerSuccessHandler customJWTServerSuccessHandler;
+    private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationList tokenRevocationList;
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+
+        //cors
+        http
+                .cors(corsCustomizer -> corsCustomizer.configurationSource(exchange -> {
+
+                    CorsConfiguration configuration = new CorsConfiguration();
+
+                    configuration.setAllowedOrigins(Collections.singletonList("http://localhost:3000"));
+                    configuration.setAllowedMethods(Collections.singletonList("*"));
+                    configuration.setAllowCredentials(true);
+                    configuration.setAllowedHeaders(Collections.singletonList("*"));
+                    configuration.setMaxAge(3600L);
+
+                    // 조회 API의 ETag를 클라이언트가 읽어 If-None-Match로 보낼 수 있도록 노출
+                    configuration.setExposedHeaders(Arrays.asList("Set-Cookie", "Authorization", "ETag"));
+
+                    return configuration;
+                }));
+
+        //csrf disable
+        http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable);
+
+        //Form 로그인 방식 disable
+        http
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable);
+
+        //HTTP Basic 인증 방식 disable
+        http
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable);
+
+        //JWT WebFilter 추가
+        http
+                .addFilterAt(new JwtWebFilter(jwtUtil, verifiedTokenCache, new JwtReactiveAuthenticationManager(tokenRevocationList)),
+                        SecurityWebFiltersOrder.AUTHENTICATION);
+
+        //oauth2 (사용자 정보는 CustomReactiveOauth2UserService 빈으로 조회)
+        http
+                .oauth2Login((oauth2) -> oauth2
+                        .authenticationSuccessHandler(customJWTServerSuccessHandler));
+
+        //미인증 요청은 OAuth2 로그인 페이지로 이동
+        http
+                .exceptionHandling((exceptionHandling) -> exceptionHandling
+                        .authenticationEntryPoint(new RedirectServerAuthenticationEntryPoint("https://eday.site/oauth2/authorization/google")));
+
+        //경로별 인가 작업
+        http
+                .authorizeExchange((auth) -> auth
+                        .pathMatchers("/actuator/health/**").permitAll()
+                        .pathMatchers("/actuator/prometheus", "/actuator/slowqueries").hasAuthority("ADMIN")
+                        .pathMatchers("/oauth2/users/**").permitAll()
+                        .pathMatchers("/login/oauth2/code/**").permitAll()
+                        .pathMatchers("/api/v1/login/oauth2/code/**").permitAll()
+                        .pathMatchers("/api/v1/oauth2/authorization/**").permitAll()
+                        .anyExchange().authenticated());
+
+        //세션 설정 : STATELESS (SecurityContext를 저장하지 않고 매 요청 JWT로 인증)
+        http
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance());
+
+        return http.build();
+    }
+}
@@ -1,8 +1,10 @@
 package team.molu.edayserver.config;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -16,12 +18,16 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import team.molu.edayserver.security.oauth2.CustomJWTSuccessHandler;
 import team.molu.edayserver.security.oauth2.jwt.JwtFilter;
 import team.molu.edayserver.security.oauth2.jwt.JwtUtil;
+import team.molu.edayserver.security.oauth2.jwt.TokenRevocationList;
+import team.molu.edayserver.security.oauth2.jwt.VerifiedTokenCache;
 import team.molu.edayserver.service.CustomOauth2UserService;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 @Configuration
 @EnableWebSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 @Slf4j
 public class SecurityConfig {
@@ -29,6 +35,8 @@ public class SecurityConfig {
     private final CustomOauth2UserService customOAuth2UserService;
     private final CustomJWTSuccessHandler customJWTSuccessHandler;
     private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationList tokenRevocationList;
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
 
@@ -47,8 +55,8 @@ public class SecurityConfig {
                         configuration.setAllowedHeaders(Collections.singletonList("*"));
                         configuration.setMaxAge(3600L);
 
-                        configuration.setExposedHeaders(Collections.singletonList("Set-Cookie"));
-                        configuration.setExposedHeaders(Collections.singletonList("Authorization"));
+                        // 조회 API의 ETag를 클라이언트가 읽어 If-None-Match로 보낼 수 있도록 노출
+                        configuration.setExposedHeaders(Arrays.asList("Set-Cookie", "Authorization", "ETag"));
 
                         return configuration;
                     }
@@ -70,8 +78,8 @@ public class SecurityConfig {
 
         //JWTFilter 추가
         http
-                .addFilterBefore(new JwtFilter(jwtUtil), UsernamePasswordAuthenticationFilter.class)
-                .addFilterAfter(new JwtFilter(jwtUtil), OAuth2LoginAuthenticationFilter.class);
+                .addFilterBefore(new JwtFilter(jwtUtil, verifiedTokenCache, tokenRevocationList), UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(new JwtFilter(jwtUtil, verifiedTokenCache, tokenRevocationList), OAuth2LoginAuthenticationFilter.class);
 
         //oauth2
         http
@@ -84,6 +92,10 @@ public class SecurityConfig {
         //경로별 인가 작업
         http
                 .authorizeHttpRequests((auth) -> auth
+                        // Mono/Flux 응답의 ASYNC 재디스패치는 최초 REQUEST 디스패치에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        .requestMatchers("/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/prometheus", "/actuator/slowqueries").hasAuthority("ADMIN")
                         .requestMatchers("/oauth2/users/**").permitAll()
                         .requestMatchers("/login/oauth2/code/**").permitAll()
                         .requestMatchers("/api/v1/login/oauth2/code/**").permitAll()
@@ -1,22 +1,26 @@
 package team.molu.edayserver.controller;
 
-import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
-import team.molu.edayserver.domain.Jwt;
-import team.molu.edayserver.repository.JwtRepository;
+import team.molu.edayserver.dto.JwtDto;
 import team.molu.edayserver.repository.UserRepository;
 import team.molu.edayserver.security.oauth2.jwt.JwtUtil;
+import team.molu.edayserver.security.oauth2.jwt.ParsedToken;
+import team.molu.edayserver.service.LoginService;
+
+import java.security.GeneralSecurityException;
 
 @Controller
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 @Slf4j
 @ResponseBody
@@ -24,7 +28,7 @@ public class LoginController {
     private final UserRepository userRepository;
 
     private final JwtUtil jwtUtil;
-    private final JwtRepository jwtRepository;
+    private final LoginService loginService;
 
 //    @GetMapping("/login")
 //    public String loginPage() {
@@ -45,66 +49,53 @@ public class LoginController {
         //get refresh token
         String refresh = null;
         Cookie[] cookies = request.getCookies();
-        for (Cookie cookie : cookies) {
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
 
-            if (cookie.getName().equals("refresh")) {
+                if (cookie.getName().equals("refresh")) {
 
-                refresh = cookie.getValue();
+                    refresh = cookie.getValue();
+                }
             }
         }
 
-        if (refresh.isBlank()) {
+        if (refresh == null || refresh.isBlank()) {
 
             //response status code
             return new ResponseEntity<>("refresh token null", HttpStatus.BAD_REQUEST);
         }
 
         //expired check
-        try {
-            jwtUtil.isExpired(refresh);
-        } catch (ExpiredJwtException e) {
+        ParsedToken refreshToken = jwtUtil.parse(refresh);
+        if (refreshToken.isExpired()) {
 
             //response status code
             return new ResponseEntity<>("refresh token expired", HttpStatus.BAD_REQUEST);
         }
 
         // 토큰이 refresh인지 확인 (발급시 페이로드에 명시)
-        String category = jwtUtil.getCategory(refresh);
-
-        if (!category.equals("refresh")) {
+        if (!refreshToken.isValid() || !"refresh".equals(refreshToken.getCategory())) {
 
             //response status code
             return new ResponseEntity<>("invalid refresh token", HttpStatus.BAD_REQUEST);
         }
 
-        //DB에 저장되어 있는지 확인
-        Jwt jwt = jwtRepository.findJwtByEmail(jwtUtil.getEmail(refresh)).block();
-        if (jwt == null) {
+        //DB에 저장된 토큰 확인 및 회전을 한 번의 쿼리로 처리
+        JwtDto.TokenPair tokens;
+        try {
+            tokens = jwtUtil.rotateRefreshToken(refreshToken);
+        } catch (GeneralSecurityException e) {
+            log.warn("refresh token rotation failed : {}", e.getMessage());
+            tokens = null;
+        }
+        if (tokens == null) {
             //response body
             return new ResponseEntity<>("invalid refresh token", HttpStatus.BAD_REQUEST);
         }
 
-        String email = jwtUtil.getEmail(refresh);
-        String role = jwtUtil.getRole(refresh);
-
-        //make new JWT
-        String newAccess = jwtUtil.createJwt("access", email, role, 60*60*1000L);
-        String newRefresh = jwtUtil.createJwt("refresh", email, role, 24*60*60*1000L);
-
-        //Refresh 토큰 저장 DB에 기존의 Refresh 토큰 삭제 후 새 Refresh 토큰 저장
-        Jwt deleteJwt = jwtRepository.findJwtByEmail(email).block();
-        jwtRepository.delete(deleteJwt);
-
-        Jwt newJwt = Jwt.builder()
-                .user(userRepository.findUserByEmail(email).block())
-                .refresh(newRefresh)
-                .ttl(jwtUtil.getTtl(newRefresh))
-                .build();
-        jwtRepository.save(newJwt);
-
         //response
-        response.addCookie(createCookie("access", newAccess));
-        response.addCookie(createCookie("refresh", newRefresh));
+        response.addCookie(createCookie("access", tokens.getAccess()));
+        response.addCookie(createCookie("refresh", tokens.getRefresh()));
 
         return new ResponseEntity<>(HttpStatus.OK);
     }
@@ -117,7 +108,7 @@ public class LoginController {
 //        cookie.setSecure(true);  // HTTPS일 때 사용
         cookie.setPath("/");
         cookie.setHttpOnly(true);
-        log.info("Created Cookie: name={}, value={}", key, value);
+        log.debug("Created Cookie: name={}", key);
 
         return cookie;
     }
@@ -132,28 +123,33 @@ public class LoginController {
     @PostMapping("api/v1/logout")
     public void logout(HttpServletRequest request, HttpServletResponse response) {
 
-        //get refresh token
+        //get refresh / access token
         String refresh = null;
+        String access = null;
         Cookie[] cookies = request.getCookies();
-        for (Cookie cookie : cookies) {
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+
+                if (cookie.getName().equals("refresh")) {
 
-            if (cookie.getName().equals("refresh")) {
+                    refresh = cookie.getValue();
+                } else if (cookie.getName().equals("access")) {
 
-                refresh = cookie.getValue();
+                    access = cookie.getValue();
+                }
             }
         }
 
         //refresh null check
-        if (refresh.isBlank()) {
+        if (refresh == null || refresh.isBlank()) {
 
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
             return;
         }
 
         //expired check
-        try {
-            jwtUtil.isExpired(refresh);
-        } catch (ExpiredJwtException e) {
+        ParsedToken refreshToken = jwtUtil.parse(refresh);
+        if (!refreshToken.isValid()) {
 
             //response status code
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
@@ -161,8 +157,7 @@ public class LoginController {
         }
 
         // 토큰이 refresh인지 확인 (발급시 페이로드에 명시)
-        String category = jwtUtil.getCategory(refresh);
-        if (!category.equals("refresh")) {
+        if (!"refresh".equals(refreshToken.getCategory())) {
 
             //response status code
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
@@ -170,23 +165,22 @@ public class LoginController {
         }
 
         try {
-            //DB에 저장되어 있는지 확인
-            Jwt jwt = jwtRepository.findJwtByEmail(jwtUtil.getEmail(refresh)).block();
-
             //로그아웃 진행
-            //Refresh 토큰 DB에서 제거
-            jwtRepository.delete(jwt);
+            loginService.logout(refreshToken, access).block();
 
-            //Refresh 토큰 Cookie 값 0
+            //Refresh / Access 토큰 Cookie 값 0
             Cookie cookie = new Cookie("refresh", null);
             cookie.setMaxAge(0);
             cookie.setPath("/");
+            Cookie accessCookie = new Cookie("access", null);
+            accessCookie.setMaxAge(0);
+            accessCookie.setPath("/");
 
             response.addCookie(cookie);
+            response.addCookie(accessCookie);
             response.setStatus(HttpServletResponse.SC_OK);
         } catch (RuntimeException e) {
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
         }
     }
 }
-
@@ -5,7 +5,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import team.molu.edayserver.repository.UserRepository;
@@ -22,9 +21,7 @@ public class MainController {
     private UserService userService;
 
     @GetMapping("/")
-    public String mainAPI() {
-
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    public String mainAPI(Authentication authentication) {
 
         Collection<? extends GrantedAuthority> authorities = authentication.getAuthorities();
         Iterator<? extends GrantedAuthority> iter = authorities.iterator();
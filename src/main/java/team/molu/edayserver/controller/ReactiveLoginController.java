@@ -0,0 +1,120 @@
+package team.molu.edayserver.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpCookie;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import team.molu.edayserver.repository.UserRepository;
+import team.molu.edayserver.security.oauth2.jwt.JwtUtil;
+import team.molu.edayserver.security.oauth2.jwt.ParsedToken;
+import team.molu.edayserver.service.LoginService;
+
+/**
+ * reactive 모드의 LoginController. 재발급과 로그아웃을 블로킹 없이 처리합니다.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveLoginController {
+    private final UserRepository userRepository;
+
+    private final JwtUtil jwtUtil;
+    private final LoginService loginService;
+
+    /** 로그인 */
+    @PostMapping("api/v1/login")
+    public Mono<Void> login() {
+        return Mono.empty();
+    }
+
+    /** reissue */
+    @PostMapping("api/v1/reissue")
+    public Mono<ResponseEntity<String>> reissue(ServerWebExchange exchange) {
+
+        //get refresh token
+        String refresh = cookieValue(exchange, "refresh");
+        if (refresh == null || refresh.isBlank()) {
+            return Mono.just(new ResponseEntity<>("refresh token null", HttpStatus.BAD_REQUEST));
+        }
+
+        //expired check
+        ParsedToken refreshToken = jwtUtil.parse(refresh);
+        if (refreshToken.isExpired()) {
+            return Mono.just(new ResponseEntity<>("refresh token expired", HttpStatus.BAD_REQUEST));
+        }
+
+        // 토큰이 refresh인지 확인 (발급시 페이로드에 명시)
+        if (!refreshToken.isValid() || !"refresh".equals(refreshToken.getCategory())) {
+            return Mono.just(new ResponseEntity<>("invalid refresh token", HttpStatus.BAD_REQUEST));
+        }
+
+        //DB에 저장된 토큰 확인 및 회전을 한 번의 쿼리로 처리
+        return jwtUtil.rotate(refreshToken)
+                .map(tokens -> {
+                    ServerHttpResponse response = exchange.getResponse();
+                    response.addCookie(createCookie("access", tokens.getAccess()));
+                    response.addCookie(createCookie("refresh", tokens.getRefresh()));
+                    return new ResponseEntity<String>(HttpStatus.OK);
+                })
+                .onErrorResume(e -> {
+                    log.warn("refresh token rotation failed : {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .defaultIfEmpty(new ResponseEntity<>("invalid refresh token", HttpStatus.BAD_REQUEST));
+    }
+
+    /** OAuth2 test용 delete User */
+    @DeleteMapping("oauth2/users/{email}")
+    public Mono<Void> deleteUsers(@PathVariable String email) {
+        return userRepository.deleteUser(email);
+    }
+
+    /** logout */
+    @PostMapping("api/v1/logout")
+    public Mono<ResponseEntity<Void>> logout(ServerWebExchange exchange) {
+
+        //refresh null check
+        String refresh = cookieValue(exchange, "refresh");
+        if (refresh == null || refresh.isBlank()) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+
+        //expired check, 토큰이 refresh인지 확인
+        ParsedToken refreshToken = jwtUtil.parse(refresh);
+        if (!refreshToken.isValid() || !"refresh".equals(refreshToken.getCategory())) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+
+        //로그아웃 진행 후 Refresh / Access 토큰 Cookie 값 0
+        return loginService.logout(refreshToken, cookieValue(exchange, "access"))
+                .then(Mono.fromCallable(() -> {
+                    ServerHttpResponse response = exchange.getResponse();
+                    response.addCookie(ResponseCookie.from("refresh", "").maxAge(0).path("/").build());
+                    response.addCookie(ResponseCookie.from("access", "").maxAge(0).path("/").build());
+                    return ResponseEntity.ok().<Void>build();
+                }))
+                .onErrorReturn(ResponseEntity.badRequest().build());
+    }
+
+    /** 쿠키 생성 */
+    private ResponseCookie createCookie(String key, String value) {
+        return ResponseCookie.from(key, value)
+                .maxAge(60*60*60)
+                .path("/")
+                .httpOnly(true)
+                .build();
+    }
+
+    private static String cookieValue(ServerWebExchange exchange, String name) {
+        HttpCookie cookie = exchange.getRequest().getCookies().getFirst(name);
+        return cookie != null ? cookie.getValue() : null;
+    }
+}
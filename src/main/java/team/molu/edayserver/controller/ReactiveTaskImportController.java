@@ -0,0 +1,37 @@
+package team.molu.edayserver.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import team.molu.edayserver.dto.TasksDto;
+import team.molu.edayserver.importer.TaskImportFormat;
+import team.molu.edayserver.service.TaskImportService;
+
+/**
+ * reactive 모드의 TaskImportController. 요청 본문 DataBuffer를 소량씩 요청하는 InputStream으로 감싸 같은 가져오기 로직을 사용합니다.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@RequestMapping("api/v1/tasks")
+public class ReactiveTaskImportController {
+    // 본문을 읽을 때 한 번에 요청하는 DataBuffer 수
+    private static final int BODY_DEMAND = 4;
+
+    private final TaskImportService taskImportService;
+
+    @PostMapping(value = "/import", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TasksDto.TaskImportProgress> importTasks(@RequestParam(value = "parentId", defaultValue = "0") String parentId,
+                                                         @RequestParam(value = "format", required = false) String format,
+                                                         @RequestParam(value = "importId", required = false) String importId,
+                                                         @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+                                                         @RequestBody Flux<DataBuffer> body) {
+        TaskImportFormat importFormat = TaskImportFormat.of(format, contentType);
+        return taskImportService.importTasks(parentId, importFormat, importId, DataBufferUtils.subscriberInputStream(body, BODY_DEMAND));
+    }
+}
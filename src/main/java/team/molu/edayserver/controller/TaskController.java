@@ -1,18 +1,32 @@
 package team.molu.edayserver.controller;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.ErrorResponse;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import team.molu.edayserver.domain.Task;
 import team.molu.edayserver.dto.TasksDto;
+import team.molu.edayserver.service.TaskBatchService;
 import team.molu.edayserver.service.TaskService;
+import team.molu.edayserver.util.ETagUtils;
+
+import java.util.function.Supplier;
 
 @RestController()
 @RequestMapping("api/v1/tasks")
 public class TaskController {
     private final TaskService taskService;
+    private final TaskBatchService taskBatchService;
 
-    public TaskController(TaskService taskService) { this.taskService = taskService; }
+    public TaskController(TaskService taskService, TaskBatchService taskBatchService) {
+        this.taskService = taskService;
+        this.taskBatchService = taskBatchService;
+    }
 
     /**
      * taskId가 유효한 지 체크 하는 private 함수
@@ -25,149 +39,214 @@ public class TaskController {
         return !trimmedTaskId.equals("root") && !trimmedTaskId.equals("trash") && !trimmedTaskId.equals("archive");
     }
 
+    /**
+     * 사용자 revision으로 만든 ETag가 If-None-Match와 같으면 할 일을 조회하지 않고 304를 반환하고,
+     * 다르면 조회 결과를 ETag와 함께 반환하는 private 함수
+     *
+     * @param ifNoneMatch If-None-Match 헤더 값
+     * @param body 조회 함수 (ETag가 다를 때만 구독)
+     * @return 304 또는 200 응답
+     */
+    private <T> Mono<ResponseEntity<T>> conditional(String ifNoneMatch, Supplier<Mono<T>> body) {
+        CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+        // 조회 Mono는 요청 스레드에서 미리 조립 (ETag 조회가 끝난 드라이버 스레드에는 servlet 인증 정보가 없음)
+        Mono<T> result = body.get();
+
+        return taskService.findETag().flatMap(etag -> {
+            if (ETagUtils.matches(ifNoneMatch, etag)) {
+                return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).<T>build());
+            }
+            return result.map(response -> ResponseEntity.ok().eTag(etag).cacheControl(cacheControl).body(response));
+        });
+    }
+
     @GetMapping("/roots")
-    public ResponseEntity<TasksDto.SearchTasksResponse> findRootTasks() {
-        TasksDto.SearchTasksResponse tasks = taskService.findTaskByRoot();
-        return ResponseEntity.ok(tasks);
+    public Mono<ResponseEntity<TasksDto.SearchTasksResponse>> findRootTasks(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return conditional(ifNoneMatch, taskService::findTaskByRoot);
+    }
+
+    @GetMapping("/roots/tree")
+    public Mono<ResponseEntity<TasksDto.TaskTreeResponse>> findRootTree(@RequestParam(value = "depth", required = false) Integer depth,
+                                                                       @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return conditional(ifNoneMatch, () -> taskService.findTaskTree("root", depth));
     }
 
     @GetMapping("/{taskId}")
-    public ResponseEntity<?> findTaskDetail(@PathVariable String taskId) {
+    public Mono<ResponseEntity<?>> findTaskDetail(@PathVariable String taskId,
+                                                  @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         if(!isValidTaskId(taskId)) {
-            return ResponseEntity.badRequest().body(taskId + " is not allowed.");
+            return Mono.just(ResponseEntity.badRequest().body(taskId + " is not allowed."));
         } else {
-            TasksDto.TaskResponse tasks = taskService.findTaskById(taskId);
-            return ResponseEntity.ok(tasks);
+            return conditional(ifNoneMatch, () -> taskService.findTaskById(taskId)).<ResponseEntity<?>>map(response -> response);
         }
     }
 
     @GetMapping("/{taskId}/subtasks")
-    public ResponseEntity<?> findChildTasks(@PathVariable String taskId) {
+    public Mono<ResponseEntity<?>> findChildTasks(@PathVariable String taskId,
+                                                  @RequestParam(value = "limit", required = false) Integer limit,
+                                                  @RequestParam(value = "cursor", required = false) String cursor,
+                                                  @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if(!isValidTaskId(taskId)) {
+            return Mono.just(ResponseEntity.badRequest().body(taskId + " is not allowed."));
+        } else {
+            return conditional(ifNoneMatch, () -> taskService.findSubtaskById(taskId, limit, cursor)).<ResponseEntity<?>>map(response -> response);
+        }
+    }
+
+    @GetMapping("/{taskId}/tree")
+    public Mono<ResponseEntity<?>> findTaskTree(@PathVariable String taskId,
+                                                @RequestParam(value = "depth", required = false) Integer depth,
+                                                @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         if(!isValidTaskId(taskId)) {
-            return ResponseEntity.badRequest().body(taskId + " is not allowed.");
+            return Mono.just(ResponseEntity.badRequest().body(taskId + " is not allowed."));
         } else {
-            TasksDto.SearchTasksResponse tasks = taskService.findSubtaskById(taskId);
-            return ResponseEntity.ok(tasks);
+            return conditional(ifNoneMatch, () -> taskService.findTaskTree(taskId, depth)).<ResponseEntity<?>>map(response -> response);
         }
     }
 
     @GetMapping("/{taskId}/routes")
-    public ResponseEntity<?> getTaskRoutesById(@PathVariable String taskId) {
+    public Mono<ResponseEntity<?>> getTaskRoutesById(@PathVariable String taskId) {
         if(!isValidTaskId(taskId)) {
-            return ResponseEntity.badRequest().body(taskId + " is not allowed.");
+            return Mono.just(ResponseEntity.badRequest().body(taskId + " is not allowed."));
         } else {
-            TasksDto.TaskRouteResponse routes = taskService.getTaskRoutes(taskId);
-            return ResponseEntity.ok(routes);
+            return taskService.getTaskRoutes(taskId).<ResponseEntity<?>>map(ResponseEntity::ok);
         }
     }
 
+    @PostMapping("/lookup")
+    public Mono<ResponseEntity<TasksDto.TaskLookupResponse>> findTasksByIds(@RequestBody TasksDto.TaskLookupRequest taskDto) {
+        return taskService.findTasksByIds(taskDto).map(ResponseEntity::ok);
+    }
+
     @PostMapping
-    public ResponseEntity<?> createTask(@RequestBody TasksDto.TaskCreateRequest taskDto) {
+    public Mono<ResponseEntity<?>> createTask(@RequestBody TasksDto.TaskCreateRequest taskDto) {
         if(!isValidTaskId(taskDto.getParentId())) {
-            return ResponseEntity.badRequest().body(taskDto.getParentId() + " is not allowed.");
+            return Mono.just(ResponseEntity.badRequest().body(taskDto.getParentId() + " is not allowed."));
         } else {
-            TasksDto.TaskResponse task = taskService.createTask(taskDto);
-            return ResponseEntity.ok(task);
+            return taskService.createTask(taskDto).<ResponseEntity<?>>map(ResponseEntity::ok);
         }
     }
 
     @PatchMapping
-    public ResponseEntity<?> updateTask(@RequestBody TasksDto.TaskUpdateRequest taskDto) {
+    public Mono<ResponseEntity<?>> updateTask(@RequestBody TasksDto.TaskUpdateRequest taskDto) {
         if(!isValidTaskId(taskDto.getTaskId())) {
-            return ResponseEntity.badRequest().body(taskDto.getTaskId() + " is not allowed.");
+            return Mono.just(ResponseEntity.badRequest().body(taskDto.getTaskId() + " is not allowed."));
         } else {
-            TasksDto.TaskResponse task = taskService.updateTask(taskDto);
-            return ResponseEntity.ok(task);
+            return taskService.updateTask(taskDto).<ResponseEntity<?>>map(ResponseEntity::ok);
         }
     }
 
     @PostMapping("/delete")
-    public ResponseEntity<?> deleteTask(@RequestBody TasksDto.TaskDeleteRequest taskDto) {
+    public Mono<ResponseEntity<?>> deleteTask(@RequestBody TasksDto.TaskDeleteRequest taskDto) {
         if(!isValidTaskId(taskDto.getTaskId())) {
-            return ResponseEntity.badRequest().body(taskDto.getTaskId() + " is not allowed.");
+            return Mono.just(ResponseEntity.badRequest().body(taskDto.getTaskId() + " is not allowed."));
         } else {
-            TasksDto.TaskDeleteResponse taskDeleteResponse = taskService.deleteTask(taskDto);
-            return ResponseEntity.ok(taskDeleteResponse);
+            return taskService.deleteTask(taskDto).<ResponseEntity<?>>map(ResponseEntity::ok);
         }
     }
 
     @GetMapping(value = "", params = {"startDate","endDate"})
-    public ResponseEntity<TasksDto.SearchTasksResponse> findTasksByDate(@RequestParam("startDate") String startDate, @RequestParam("endDate") String endDate) {
-    	TasksDto.SearchTasksResponse task = taskService.findTasksByDate(startDate, endDate);
-        return ResponseEntity.ok(task);
+    public Mono<ResponseEntity<TasksDto.SearchTasksResponse>> findTasksByDate(@RequestParam("startDate") String startDate, @RequestParam("endDate") String endDate,
+                                                                            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    	return conditional(ifNoneMatch, () -> taskService.findTasksByDate(startDate, endDate));
     }
 
     @GetMapping("/all")
-    public ResponseEntity<TasksDto.SearchTasksResponse> findAllTasks() {
-    	TasksDto.SearchTasksResponse task = taskService.findAllTasks();
-        return ResponseEntity.ok(task);
+    public Mono<ResponseEntity<TasksDto.SearchTasksResponse>> findAllTasks(@RequestParam(value = "limit", required = false) Integer limit,
+                                                                         @RequestParam(value = "cursor", required = false) String cursor,
+                                                                         @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    	return conditional(ifNoneMatch, () -> taskService.findAllTasks(limit, cursor));
+    }
+
+    @GetMapping(value = "/stream", params = {"startDate","endDate"}, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TasksDto.TaskResponse> streamTasksByDate(@RequestParam("startDate") String startDate, @RequestParam("endDate") String endDate) {
+        return taskService.streamTasksByDate(startDate, endDate);
+    }
+
+    @GetMapping(value = "/all/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TasksDto.TaskResponse> streamAllTasks() {
+        return taskService.streamAllTasks();
     }
 
     @PostMapping("/restore")
-    public ResponseEntity<?> restoreTask(@RequestBody TasksDto.TaskRestoreRequest taskDto) {
+    public Mono<ResponseEntity<?>> restoreTask(@RequestBody TasksDto.TaskRestoreRequest taskDto) {
         if(!isValidTaskId(taskDto.getTaskId())) {
-            return ResponseEntity.badRequest().body(taskDto.getTaskId() + " is not allowed.");
+            return Mono.just(ResponseEntity.badRequest().body(taskDto.getTaskId() + " is not allowed."));
         } else if (!isValidTaskId(taskDto.getParentId())) {
-            return ResponseEntity.badRequest().body(taskDto.getParentId() + " is not allowed.");
+            return Mono.just(ResponseEntity.badRequest().body(taskDto.getParentId() + " is not allowed."));
         } else {
-            TasksDto.TaskRestoreResponse taskRestoreResponse = taskService.restoreTask(taskDto);
-            return ResponseEntity.ok(taskRestoreResponse);
+            return taskService.restoreTask(taskDto).<ResponseEntity<?>>map(ResponseEntity::ok);
         }
     }
 
     @DeleteMapping("/drop")
-    public ResponseEntity<?> dropTask(@RequestBody TasksDto.TaskDeleteRequest taskDto) {
+    public Mono<ResponseEntity<?>> dropTask(@RequestBody TasksDto.TaskDeleteRequest taskDto) {
         if(!isValidTaskId(taskDto.getTaskId())) {
-            return ResponseEntity.badRequest().body(taskDto.getTaskId() + " is not allowed.");
+            return Mono.just(ResponseEntity.badRequest().body(taskDto.getTaskId() + " is not allowed."));
         } else {
-            TasksDto.TaskDeleteResponse taskDropResponse = taskService.dropTask(taskDto);
-            return ResponseEntity.ok(taskDropResponse);
+            return taskService.dropTask(taskDto).<ResponseEntity<?>>map(ResponseEntity::ok);
         }
     }
 
     @DeleteMapping("/drop/all")
-    public ResponseEntity<TasksDto.EmptyTrashResponse> dropAllTasks() {
-        TasksDto.EmptyTrashResponse emptyTrashResponse = taskService.dropAllTask();
-        return  ResponseEntity.ok(emptyTrashResponse);
+    public Mono<ResponseEntity<TasksDto.EmptyTrashResponse>> dropAllTasks() {
+        return taskService.dropAllTask().map(ResponseEntity::ok);
     }
 
     @PostMapping("/move")
-    public ResponseEntity<?> moveTask(@RequestBody TasksDto.TaskMoveRequest taskDto) {
+    public Mono<ResponseEntity<?>> moveTask(@RequestBody TasksDto.TaskMoveRequest taskDto) {
         if(!isValidTaskId(taskDto.getTaskId())) {
-            return ResponseEntity.badRequest().body(taskDto.getTaskId() + " is not allowed.");
+            return Mono.just(ResponseEntity.badRequest().body(taskDto.getTaskId() + " is not allowed."));
         } else if (!isValidTaskId(taskDto.getParentId())) {
-            return ResponseEntity.badRequest().body(taskDto.getParentId() + " is not allowed.");
+            return Mono.just(ResponseEntity.badRequest().body(taskDto.getParentId() + " is not allowed."));
         } else {
-            TasksDto.TaskMoveResponse taskMoveResponse = taskService.moveTask(taskDto);
-            return ResponseEntity.ok(taskMoveResponse);
+            return taskService.moveTask(taskDto).<ResponseEntity<?>>map(ResponseEntity::ok);
         }
     }
 
     @PostMapping("/archive")
-    public ResponseEntity<?> archiveTask(@RequestBody TasksDto.TaskArchiveRequest taskDto) {
+    public Mono<ResponseEntity<?>> archiveTask(@RequestBody TasksDto.TaskArchiveRequest taskDto) {
         if(!isValidTaskId(taskDto.getTaskId())) {
-            return ResponseEntity.badRequest().body(taskDto.getTaskId() + " is not allowed.");
+            return Mono.just(ResponseEntity.badRequest().body(taskDto.getTaskId() + " is not allowed."));
         } else {
-            TasksDto.TaskArchiveResponse taskArchiveResponse = taskService.archiveTask(taskDto);
-            return ResponseEntity.ok(taskArchiveResponse);
+            return taskService.archiveTask(taskDto).<ResponseEntity<?>>map(ResponseEntity::ok);
         }
     }
 
     @PostMapping("/unarchive")
-    public ResponseEntity<?> unarchiveTask(@RequestBody TasksDto.TaskUnarchiveRequest taskDto) {
+    public Mono<ResponseEntity<?>> unarchiveTask(@RequestBody TasksDto.TaskUnarchiveRequest taskDto) {
         if(!isValidTaskId(taskDto.getTaskId())) {
-            return ResponseEntity.badRequest().body(taskDto.getTaskId() + " is not allowed.");
+            return Mono.just(ResponseEntity.badRequest().body(taskDto.getTaskId() + " is not allowed."));
         } else if (!isValidTaskId(taskDto.getParentId())) {
-            return ResponseEntity.badRequest().body(taskDto.getParentId() + " is not allowed.");
+            return Mono.just(ResponseEntity.badRequest().body(taskDto.getParentId() + " is not allowed."));
         } else {
-            TasksDto.TaskUnarchiveResponse taskUnarchiveResponse = taskService.unarchiveTask(taskDto);
-            return ResponseEntity.ok(taskUnarchiveResponse);
+            return taskService.unarchiveTask(taskDto).<ResponseEntity<?>>map(ResponseEntity::ok);
         }
     }
 
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<TasksDto.TaskBatchResponse>> executeBatch(@RequestBody TasksDto.TaskBatchRequest taskDto) {
+        return taskBatchService.executeBatch(taskDto).map(ResponseEntity::ok);
+    }
+
     @PostMapping("/search")
-    public ResponseEntity<TasksDto.SearchTasksResponse> searchTaskByName(@RequestBody TasksDto.TaskSearchByNameRequest taskDto) {
-        TasksDto.SearchTasksResponse searchTasksResponse = taskService.searchTasksByName(taskDto);
-        return ResponseEntity.ok(searchTasksResponse);
+    public Mono<ResponseEntity<TasksDto.SearchTasksResponse>> searchTaskByName(@RequestBody TasksDto.TaskSearchByNameRequest taskDto) {
+        return taskService.searchTasksByName(taskDto).map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/search/fulltext")
+    public Mono<ResponseEntity<TasksDto.SearchTasksResponse>> searchTaskByFullText(@RequestBody TasksDto.TaskFullTextSearchRequest taskDto) {
+        return taskService.searchTasksByFullText(taskDto).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/changes")
+    public Mono<ResponseEntity<TasksDto.TaskChangesResponse>> findChanges(@RequestParam(value = "since", required = false) Long since) {
+        return taskService.findChanges(since).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/typeahead")
+    public Mono<ResponseEntity<TasksDto.SearchTasksResponse>> typeahead(@RequestParam("q") String query,
+                                                                       @RequestParam(value = "limit", required = false) Integer limit) {
+        return taskService.typeahead(query, limit).map(ResponseEntity::ok);
     }
 }
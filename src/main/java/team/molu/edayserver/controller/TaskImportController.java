@@ -0,0 +1,34 @@
+package team.molu.edayserver.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import team.molu.edayserver.dto.TasksDto;
+import team.molu.edayserver.importer.TaskImportFormat;
+import team.molu.edayserver.service.TaskImportService;
+
+import java.io.InputStream;
+
+/**
+ * 할 일 가져오기. 요청 본문을 그대로 파일로 받으며 (multipart 아님) 메모리에 모으지 않고 읽는 대로 가져옵니다.
+ * 형식은 format 파라미터(json / csv / ics) 또는 Content-Type(application/json / text/csv / text/calendar)으로 지정합니다.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+@RequestMapping("api/v1/tasks")
+public class TaskImportController {
+    private final TaskImportService taskImportService;
+
+    @PostMapping(value = "/import", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TasksDto.TaskImportProgress> importTasks(@RequestParam(value = "parentId", defaultValue = "0") String parentId,
+                                                         @RequestParam(value = "format", required = false) String format,
+                                                         @RequestParam(value = "importId", required = false) String importId,
+                                                         @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+                                                         InputStream body) {
+        return taskImportService.importTasks(parentId, TaskImportFormat.of(format, contentType), importId, body);
+    }
+}
@@ -0,0 +1,31 @@
+package team.molu.edayserver.domain;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.neo4j.core.schema.*;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 로그아웃 등으로 폐기된 토큰(jti). 토큰이 원래 만료되는 시각(expiresAt)까지만 보관합니다.
+ * 애플리케이션 시작 시 TokenRevocationList가 만료되지 않은 항목을 모두 읽어 메모리에 적재합니다.
+ */
+@Getter
+@Node("RevokedToken")
+public class RevokedToken {
+    @Id
+    private final String jti;
+
+    @Property
+    private final String owner;
+
+    @Property
+    private final ZonedDateTime expiresAt;
+
+    @Builder
+    public RevokedToken(String jti, String owner, ZonedDateTime expiresAt) {
+        this.jti = jti;
+        this.owner = owner;
+        this.expiresAt = expiresAt;
+    }
+}
@@ -33,6 +33,18 @@ public class Task {
     @Property
     private Boolean check;
 
+    // 소유자 email (비정규화) - owner 기준 복합 인덱스 조회용
+    @Property
+    private String owner;
+
+    // 기준 노드(root/trash/archive)부터 자신까지의 id 경로 (예: "/root/{부모 id}/{자기 id}/") - (owner, path) 인덱스로 서브트리 조회
+    @Property
+    private String path;
+
+    // 부모 노드 id (비정규화) - (owner, parentId, priority, id) 인덱스로 자식 페이지 조회
+    @Property
+    private String parentId;
+
     @Relationship(type = "CREATED_BY", direction = Relationship.Direction.INCOMING)
     private User createdBy;
 
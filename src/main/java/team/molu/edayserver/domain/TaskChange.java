@@ -0,0 +1,39 @@
+package team.molu.edayserver.domain;
+
+import lombok.Getter;
+import org.springframework.data.neo4j.core.schema.*;
+import org.springframework.data.neo4j.core.support.UUIDStringGenerator;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 할 일 변경 기록. 사용자 revision이 증가할 때마다 영향을 받은 할 일 하나당 하나씩 생성됩니다.
+ * 서브트리 전체가 바뀌는 작업(cascade 삭제, 이동, 아카이빙, 복구)은 서브트리 루트에 대해서만 subtree 기록을 남깁니다.
+ * 변경 내용 자체는 저장하지 않고, 동기화 시점에 할 일의 현재 상태(또는 tombstone)를 조회합니다.
+ */
+@Getter
+@Node("TaskChange")
+public class TaskChange {
+    @Id @GeneratedValue(UUIDStringGenerator.class)
+    private String id;
+
+    @Property
+    private String owner;
+
+    @Property
+    private Long rev;
+
+    @Property
+    private String taskId;
+
+    // create, update, delete, move, archive, unarchive, restore
+    @Property
+    private String op;
+
+    // true이면 taskId를 루트로 하는 서브트리 전체의 변경 (노드 단위 기록은 null)
+    @Property
+    private Boolean subtree;
+
+    @Property
+    private ZonedDateTime at;
+}
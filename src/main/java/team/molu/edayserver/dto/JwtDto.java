@@ -0,0 +1,25 @@
+package team.molu.edayserver.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Date;
+
+public class JwtDto {
+    @Getter
+    @Builder
+    public static class RefreshRotationDto {
+        // ROTATED, CONCURRENT, REUSED, INVALID
+        private String outcome;
+        // 회전 후 저장된(암호화된) refresh 토큰 - CONCURRENT일 때 먼저 회전한 요청의 토큰을 함께 내려줌
+        private String refresh;
+        private Date ttl;
+    }
+
+    @Getter
+    @Builder
+    public static class TokenPair {
+        private String access;
+        private String refresh;
+    }
+}
@@ -116,6 +116,7 @@ public class TasksDto {
     @Builder
     public static class SearchTasksResponse {
         private List<TaskResponse> taskList;
+        private String nextCursor;
     }
 
     @Getter
@@ -144,10 +145,188 @@ public class TasksDto {
         private Integer order;
     }
 
+    @Getter
+    @Builder
+    public static class TaskTreeRowDto {
+        private String taskId;
+        private String parentId;
+        private String name;
+        private String memo;
+        private LocalDateTime startDate;
+        private LocalDateTime endDate;
+        private Integer priority;
+        private Boolean check;
+        private Integer depth;
+        private Integer childCount;
+    }
+
+    @Getter
+    @Builder
+    public static class TaskTreeResponse {
+        private String taskId;
+        private String name;
+        private String memo;
+        private LocalDateTime startDate;
+        private LocalDateTime endDate;
+        private Integer priority;
+        private Boolean check;
+        // 직계 자식 수 - children이 null(요청 depth 밖)이어도 펼칠 수 있는지 판단
+        private Integer childCount;
+        private List<TaskTreeResponse> children;
+    }
+
+    @Getter
+    @Builder
+    public static class TaskSyncStateDto {
+        private Long revision;
+        private Long horizon;
+    }
+
+    @Getter
+    @Builder
+    public static class TaskChangeDto {
+        private String taskId;
+        private Long rev;
+        private Boolean deleted;
+        // 루트 바로 아래 노드는 "0"
+        private String parentId;
+        private String name;
+        private String memo;
+        private LocalDateTime startDate;
+        private LocalDateTime endDate;
+        private Integer priority;
+        private Boolean check;
+    }
+
+    @Getter
+    @Builder
+    public static class TaskChangesResponse {
+        // 다음 요청의 since로 사용할 revision
+        private Long revision;
+        // true이면 since가 압축된 구간에 있어 전체를 다시 조회해야 함
+        private Boolean reset;
+        private List<TaskChangeDto> tasks;
+        private List<String> deletedTaskIds;
+        // 하위 노드까지 모두 삭제된 것으로 처리할 할 일 ID (삭제 목록을 먼저 적용한 뒤 tasks를 적용)
+        private List<String> deletedSubtreeIds;
+    }
+
     @Getter
     @Builder
     public static class TaskSearchByNameRequest {
         private String text;
         private String type;
+        private Integer limit;
+        private String cursor;
+    }
+
+    @Getter
+    @Builder
+    public static class TaskFullTextSearchRequest {
+        private String text;
+        private String type;
+        private Integer limit;
+        private Integer offset;
+    }
+
+    @Getter
+    @Builder
+    public static class TaskPathDto {
+        private String taskId;
+        private String path;
+    }
+
+    @Getter
+    @Builder
+    public static class TaskImportProgress {
+        // 재시도할 때 같은 값을 보내면 이미 가져온 행은 건너뜀
+        private String importId;
+        // 지금까지 읽은 행 수, 생성된 행 수, 이미 있어서 건너뛴 행 수, 실패한 행 수
+        private Long rows;
+        private Long imported;
+        private Long skipped;
+        private Long failed;
+        // 이번 배치에서 실패한 행 (누적하지 않음)
+        private List<TaskImportError> errors;
+        // 마지막 메시지이면 true, 파일을 끝까지 읽지 못했으면 error에 원인
+        private Boolean done;
+        private String error;
+    }
+
+    @Getter
+    @Builder
+    public static class TaskImportError {
+        private Long line;
+        private String sourceId;
+        private String message;
+    }
+
+    @Getter
+    @Builder
+    @Jacksonized
+    public static class TaskBatchRequest {
+        // 순서대로 실행할 작업 목록
+        private List<TaskBatchOperation> operations;
+    }
+
+    @Getter
+    @Builder
+    @Jacksonized
+    public static class TaskBatchOperation {
+        // create, update, move, delete, archive, restore
+        private String op;
+        // create 외의 작업 대상, "$n"이면 같은 요청의 n번째(0부터) create로 만든 할 일
+        private String taskId;
+        // create, move, restore의 부모 ("0"이면 루트, "$n" 사용 가능)
+        private String parentId;
+        private String name;
+        private String memo;
+        private LocalDateTime startDate;
+        private LocalDateTime endDate;
+        private Integer priority;
+        private Boolean check;
+        // delete에서 true이면 서브트리 전체를, 아니면 해당 노드만 휴지통으로 이동
+        private Boolean cascade;
+    }
+
+    @Getter
+    @Builder
+    public static class TaskBatchResponse {
+        // 요청과 같은 순서의 작업별 결과
+        private List<TaskBatchResult> results;
+    }
+
+    @Getter
+    @Builder
+    public static class TaskBatchResult {
+        private Integer index;
+        private String op;
+        private String taskId;
+        private String parentId;
+        // 생성 / 수정 / 이동 / 삭제 / 아카이빙 / 복구된 노드 개수
+        private Integer affectedNodes;
+    }
+
+    @Getter
+    @Builder
+    public static class TaskBatchRowDto {
+        private Integer index;
+        private Integer affectedNodes;
+    }
+
+    @Getter
+    @Builder
+    @Jacksonized
+    public static class TaskLookupRequest {
+        private List<String> taskIds;
+    }
+
+    @Getter
+    @Builder
+    public static class TaskLookupResponse {
+        // 요청한 순서대로의 할 일 (같은 id는 한 번만)
+        private List<TaskResponse> taskList;
+        // 없거나 다른 사용자의 할 일이라 조회되지 않은 id
+        private List<String> missingTaskIds;
     }
 }
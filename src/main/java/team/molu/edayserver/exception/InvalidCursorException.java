@@ -0,0 +1,7 @@
+package team.molu.edayserver.exception;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package team.molu.edayserver.exception;
+
+public class InvalidImportException extends RuntimeException {
+    public InvalidImportException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package team.molu.edayserver.exception;
+
+public class InvalidTaskBatchException extends RuntimeException {
+    public InvalidTaskBatchException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package team.molu.edayserver.exception;
+
+public class InvalidTaskLookupException extends RuntimeException {
+    public InvalidTaskLookupException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package team.molu.edayserver.exception;
+
+public class TaskBatchFailedException extends RuntimeException {
+    public TaskBatchFailedException(String message) {
+        super(message);
+    }
+}
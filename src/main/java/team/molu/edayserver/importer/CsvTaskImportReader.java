@@ -0,0 +1,180 @@
+package team.molu.edayserver.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PushbackReader;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * CSV 가져오기 (RFC 4180, UTF-8).
+ * 첫 줄은 헤더이며 id, parentId, name, memo, startDate, endDate, priority, check 열을 순서와 대소문자에 관계없이 읽습니다.
+ * (name 외에는 생략 가능, 모르는 열은 무시) parentId는 같은 파일에서 앞서 나온 행의 id를 가리키며, 비어 있으면 가져오기 대상 부모 아래에 생성합니다.
+ * id 열이 없거나 비어 있는 행은 줄 번호로 식별합니다.
+ */
+class CsvTaskImportReader implements TaskImportReader {
+    // 한 행의 최대 길이 (따옴표 안의 줄바꿈 포함) - 넘으면 나머지를 버리고 오류 행으로 보고
+    static final int MAX_RECORD_LENGTH = 64 * 1024;
+
+    private final PushbackReader reader;
+    private Map<String, Integer> columns;
+    private long line = 1;
+    private long recordLine;
+    private boolean unterminatedQuote;
+    private boolean overflow;
+
+    CsvTaskImportReader(InputStream in) {
+        this.reader = new PushbackReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+    }
+
+    @Override
+    public TaskImportRow next() throws IOException {
+        if (columns == null) {
+            List<String> header = readRecord();
+            if (header == null) {
+                return null;
+            }
+            columns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                // UTF-8 BOM 제거
+                String column = header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+                columns.putIfAbsent(column, i);
+            }
+            if (!columns.containsKey("name")) {
+                throw new IOException("CSV header must contain a name column");
+            }
+        }
+
+        List<String> record;
+        do {
+            record = readRecord();
+            if (record == null) {
+                return null;
+            }
+        } while (record.size() == 1 && record.get(0).isBlank());
+
+        String sourceId = TaskImportRow.blankToNull(column(record, "id"));
+        if (sourceId == null) {
+            sourceId = "#" + recordLine;
+        }
+        if (overflow) {
+            return TaskImportRow.error(recordLine, sourceId, "row is longer than " + MAX_RECORD_LENGTH + " characters");
+        }
+        if (unterminatedQuote) {
+            return TaskImportRow.error(recordLine, sourceId, "unterminated quoted field");
+        }
+
+        String field = null;
+        try {
+            TaskImportRow.TaskImportRowBuilder builder = TaskImportRow.builder()
+                    .line(recordLine)
+                    .sourceId(sourceId)
+                    .parentSourceId(TaskImportRow.blankToNull(column(record, "parentid")))
+                    .name(TaskImportRow.blankToNull(column(record, "name")))
+                    .memo(column(record, "memo"));
+            field = "startDate";
+            builder.startDate(TaskImportRow.dateTime(column(record, "startdate")));
+            field = "endDate";
+            builder.endDate(TaskImportRow.dateTime(column(record, "enddate")));
+            field = "priority";
+            builder.priority(TaskImportRow.integer(column(record, "priority")));
+            field = "check";
+            builder.check(TaskImportRow.bool(column(record, "check")));
+
+            TaskImportRow row = builder.build();
+            return row.getName() != null ? row : TaskImportRow.error(recordLine, sourceId, "name is required");
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            return TaskImportRow.error(recordLine, sourceId, "invalid " + field + ": " + e.getMessage());
+        }
+    }
+
+    private String column(List<String> record, String name) {
+        Integer index = columns.get(name);
+        return index != null && index < record.size() ? record.get(index) : null;
+    }
+
+    // 한 레코드를 읽어 필드 목록으로 반환, 파일 끝이면 null
+    private List<String> readRecord() throws IOException {
+        recordLine = line;
+        unterminatedQuote = false;
+        overflow = false;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean fieldStart = true;
+        boolean any = false;
+        int length = 0;
+        int c;
+        while ((c = reader.read()) != -1) {
+            any = true;
+            if (quoted) {
+                if (c == '"') {
+                    int n = reader.read();
+                    if (n == '"') {
+                        length = append(field, '"', length);
+                        continue;
+                    }
+                    if (n != -1) {
+                        reader.unread(n);
+                    }
+                    quoted = false;
+                    continue;
+                }
+                if (c == '\n') {
+                    line++;
+                }
+                length = append(field, (char) c, length);
+                continue;
+            }
+            if (c == '"' && fieldStart) {
+                quoted = true;
+                fieldStart = false;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                fieldStart = true;
+            } else if (c == '\r' || c == '\n') {
+                if (c == '\r') {
+                    int n = reader.read();
+                    if (n != '\n' && n != -1) {
+                        reader.unread(n);
+                    }
+                }
+                line++;
+                fields.add(field.toString());
+                return fields;
+            } else {
+                length = append(field, (char) c, length);
+                fieldStart = false;
+            }
+        }
+        if (!any) {
+            return null;
+        }
+        unterminatedQuote = quoted;
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private int append(StringBuilder field, char c, int length) {
+        if (length >= MAX_RECORD_LENGTH) {
+            overflow = true;
+            return length;
+        }
+        field.append(c);
+        return length + 1;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
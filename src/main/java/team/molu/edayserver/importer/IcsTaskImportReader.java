@@ -0,0 +1,220 @@
+package team.molu.edayserver.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
+/**
+ * iCalendar(.ics) 가져오기 (RFC 5545).
+ * VTODO와 VEVENT를 할 일 하나씩으로 읽습니다. UID → id, SUMMARY → name, DESCRIPTION → memo, DTSTART → startDate,
+ * DUE / DTEND → endDate, PRIORITY → priority, STATUS:COMPLETED 또는 COMPLETED → check,
+ * RELATED-TO (RELTYPE이 없거나 PARENT) → 부모 UID
+ * 날짜는 시간대 변환 없이 적힌 시각 그대로 읽습니다. 컴포넌트 안의 VALARM 등 하위 컴포넌트는 무시합니다.
+ */
+class IcsTaskImportReader implements TaskImportReader {
+    // 접힌 줄을 펼친 한 줄의 최대 길이 - 넘는 부분은 버림
+    static final int MAX_LINE_LENGTH = 64 * 1024;
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final BufferedReader reader;
+    private String lookahead;
+    private long line;
+    private long lookaheadLine;
+
+    IcsTaskImportReader(InputStream in) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public TaskImportRow next() throws IOException {
+        Component component = null;
+        int nestedDepth = 0;
+
+        String contentLine;
+        while ((contentLine = readContentLine()) != null) {
+            int colon = valueSeparator(contentLine);
+            if (colon < 0) {
+                continue;
+            }
+            String[] nameAndParams = contentLine.substring(0, colon).split(";");
+            String name = nameAndParams[0].trim().toUpperCase(Locale.ROOT);
+            String value = contentLine.substring(colon + 1);
+
+            if (name.equals("BEGIN")) {
+                String type = value.trim().toUpperCase(Locale.ROOT);
+                if (component == null && (type.equals("VTODO") || type.equals("VEVENT"))) {
+                    component = new Component(line);
+                } else if (component != null) {
+                    nestedDepth++;
+                }
+            } else if (name.equals("END") && component != null) {
+                if (nestedDepth > 0) {
+                    nestedDepth--;
+                } else {
+                    return component.row();
+                }
+            } else if (component != null && nestedDepth == 0) {
+                component.property(name, nameAndParams, value);
+            }
+        }
+        // 닫히지 않은 컴포넌트
+        return component != null ? TaskImportRow.error(component.line, component.sourceId(), "missing END") : null;
+    }
+
+    // 접힌 줄(공백 / 탭으로 시작)을 이어 붙인 한 줄, 파일 끝이면 null
+    private String readContentLine() throws IOException {
+        String first = lookahead != null ? lookahead : reader.readLine();
+        long firstLine = lookahead != null ? lookaheadLine : line + 1;
+        lookahead = null;
+        if (first == null) {
+            return null;
+        }
+        line = firstLine;
+
+        StringBuilder builder = new StringBuilder(first.length() > MAX_LINE_LENGTH ? first.substring(0, MAX_LINE_LENGTH) : first);
+        String next;
+        long nextLine = line;
+        while ((next = reader.readLine()) != null) {
+            nextLine++;
+            if (next.isEmpty() || (next.charAt(0) != ' ' && next.charAt(0) != '\t')) {
+                lookahead = next;
+                lookaheadLine = nextLine;
+                break;
+            }
+            if (builder.length() < MAX_LINE_LENGTH) {
+                builder.append(next, 1, Math.min(next.length(), 1 + MAX_LINE_LENGTH - builder.length()));
+            }
+        }
+        return builder.toString();
+    }
+
+    // 파라미터 값의 따옴표 안에 있지 않은 첫 번째 ':'
+    private static int valueSeparator(String contentLine) {
+        boolean quoted = false;
+        for (int i = 0; i < contentLine.length(); i++) {
+            char c = contentLine.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == ':' && !quoted) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String param(String[] nameAndParams, String param) {
+        for (int i = 1; i < nameAndParams.length; i++) {
+            int equals = nameAndParams[i].indexOf('=');
+            if (equals > 0 && nameAndParams[i].substring(0, equals).trim().equalsIgnoreCase(param)) {
+                return nameAndParams[i].substring(equals + 1).replace("\"", "").trim();
+            }
+        }
+        return null;
+    }
+
+    static String unescape(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\\' && i + 1 < text.length()) {
+                char n = text.charAt(++i);
+                builder.append(n == 'n' || n == 'N' ? '\n' : n);
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 20240105T093000Z, 20240105T093000, 20240105 형식의 날짜를 읽습니다. (UTC 표시 'Z'는 무시)
+     */
+    static LocalDateTime dateTime(String value) {
+        String trimmed = value.trim();
+        if (trimmed.endsWith("Z") || trimmed.endsWith("z")) {
+            trimmed = trimmed.substring(0, trimmed.length() - 1);
+        }
+        return trimmed.length() == 8 ? LocalDate.parse(trimmed, DATE).atStartOfDay() : LocalDateTime.parse(trimmed, DATE_TIME);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private static final class Component {
+        private final long line;
+        private final TaskImportRow.TaskImportRowBuilder builder = TaskImportRow.builder();
+        private String uid;
+        private String name;
+        private String endDate;
+        private boolean due;
+        private String error;
+
+        private Component(long line) {
+            this.line = line;
+        }
+
+        private void property(String property, String[] nameAndParams, String value) {
+            try {
+                switch (property) {
+                    case "UID" -> uid = TaskImportRow.blankToNull(value);
+                    case "SUMMARY" -> name = TaskImportRow.blankToNull(unescape(value));
+                    case "DESCRIPTION" -> builder.memo(unescape(value));
+                    case "DTSTART" -> builder.startDate(dateTime(value));
+                    // VTODO는 DUE, VEVENT는 DTEND - 둘 다 있으면 DUE 우선
+                    case "DUE" -> {
+                        builder.endDate(dateTime(value));
+                        due = true;
+                    }
+                    case "DTEND" -> {
+                        if (!due) {
+                            builder.endDate(dateTime(value));
+                        }
+                    }
+                    case "PRIORITY" -> builder.priority(TaskImportRow.integer(value));
+                    case "STATUS" -> {
+                        if (value.trim().equalsIgnoreCase("COMPLETED")) {
+                            builder.check(true);
+                        }
+                    }
+                    case "COMPLETED" -> builder.check(true);
+                    case "RELATED-TO" -> {
+                        String relType = param(nameAndParams, "RELTYPE");
+                        if (relType == null || relType.equalsIgnoreCase("PARENT")) {
+                            builder.parentSourceId(TaskImportRow.blankToNull(value));
+                        }
+                    }
+                    default -> {
+                    }
+                }
+            } catch (DateTimeParseException | IllegalArgumentException e) {
+                if (error == null) {
+                    error = "invalid " + property + ": " + value;
+                }
+            }
+        }
+
+        private String sourceId() {
+            return uid != null ? uid : "#" + line;
+        }
+
+        private TaskImportRow row() {
+            if (error == null && name == null) {
+                error = "SUMMARY is required";
+            }
+            if (error != null) {
+                return TaskImportRow.error(line, sourceId(), error);
+            }
+            return builder.line(line).sourceId(sourceId()).name(name).build();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package team.molu.edayserver.importer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+
+/**
+ * JSON 트리 가져오기.
+ * <pre>
+ * [{"id": "a", "name": "할 일", "memo": "...", "startDate": "2024-01-05T09:30", "endDate": "2024-01-06",
+ *   "priority": 1, "check": false, "children": [{"name": "하위 할 일"}]}]
+ * </pre>
+ * 스트리밍 파서로 토큰을 읽으며, 메모리에는 현재 노드부터 최상위 노드까지의 조상만 유지합니다.
+ * 노드는 children 배열을 만나는 순간(없으면 객체가 끝날 때) 반환되므로 children은 객체의 마지막 필드여야 하며,
+ * children 뒤에 오는 필드는 오류 행으로 보고하고 무시합니다. id가 없는 노드는 파일 안의 순번으로 식별합니다.
+ */
+class JsonTaskImportReader implements TaskImportReader {
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder().build();
+    private static final Set<String> FIELDS = Set.of("id", "name", "memo", "startDate", "endDate", "priority", "check");
+
+    private final JsonParser parser;
+    // 현재 노드와 그 조상들 (맨 위가 현재 노드)
+    private final Deque<Node> stack = new ArrayDeque<>();
+    private long ordinal;
+    private boolean started;
+
+    JsonTaskImportReader(InputStream in) throws IOException {
+        this.parser = JSON_FACTORY.createParser(in);
+    }
+
+    @Override
+    public TaskImportRow next() throws IOException {
+        if (!started) {
+            started = true;
+            JsonToken first = parser.nextToken();
+            if (first == null) {
+                return null;
+            }
+            // 최상위가 배열이 아니면 노드 하나로 취급
+            if (first == JsonToken.START_OBJECT) {
+                push();
+            } else if (first != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "expected an array of tasks");
+            }
+        }
+
+        JsonToken token;
+        while ((token = parser.nextToken()) != null) {
+            switch (token) {
+                case START_OBJECT -> push();
+                case FIELD_NAME -> {
+                    TaskImportRow row = field(stack.element(), parser.currentName());
+                    if (row != null) {
+                        return row;
+                    }
+                }
+                case END_OBJECT -> {
+                    Node node = stack.pop();
+                    if (!node.emitted) {
+                        return node.row();
+                    }
+                }
+                case END_ARRAY -> {
+                    // children 배열의 끝이면 부모 객체의 나머지 필드로, 최상위 배열의 끝이면 종료
+                    if (stack.isEmpty()) {
+                        return null;
+                    }
+                }
+                default -> throw new JsonParseException(parser, "expected a task object");
+            }
+        }
+        return null;
+    }
+
+    private void push() {
+        Node parent = stack.peek();
+        Node node = new Node(parser.currentTokenLocation().getLineNr(), "#" + (++ordinal),
+                parent != null ? parent.sourceId : null);
+        stack.push(node);
+    }
+
+    private TaskImportRow field(Node node, String name) throws IOException {
+        JsonToken value = parser.nextToken();
+        if ("children".equals(name)) {
+            if (value == JsonToken.START_ARRAY) {
+                if (!node.emitted) {
+                    node.emitted = true;
+                    return node.row();
+                }
+                return null;
+            }
+            parser.skipChildren();
+            return value == JsonToken.VALUE_NULL ? null : node.fail("children must be an array");
+        }
+        if (!FIELDS.contains(name)) {
+            parser.skipChildren();
+            return null;
+        }
+        if (value == JsonToken.START_OBJECT || value == JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return node.fail("invalid " + name);
+        }
+        if (node.emitted) {
+            return TaskImportRow.error(node.line, node.sourceId, "'" + name + "' after children is ignored");
+        }
+
+        String text = value == JsonToken.VALUE_NULL ? null : parser.getText();
+        try {
+            switch (name) {
+                case "id" -> {
+                    if (text != null && !text.isBlank()) {
+                        node.sourceId = text.trim();
+                    }
+                }
+                case "name" -> node.builder.name(TaskImportRow.blankToNull(text));
+                case "memo" -> node.builder.memo(text);
+                case "startDate" -> node.builder.startDate(TaskImportRow.dateTime(text));
+                case "endDate" -> node.builder.endDate(TaskImportRow.dateTime(text));
+                case "priority" -> node.builder.priority(TaskImportRow.integer(text));
+                case "check" -> node.builder.check(TaskImportRow.bool(text));
+                default -> {
+                }
+            }
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            return node.fail("invalid " + name + ": " + text);
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+    private static final class Node {
+        private final long line;
+        private final String parentSourceId;
+        private final TaskImportRow.TaskImportRowBuilder builder = TaskImportRow.builder();
+        private String sourceId;
+        private String error;
+        private boolean emitted;
+
+        private Node(long line, String sourceId, String parentSourceId) {
+            this.line = line;
+            this.sourceId = sourceId;
+            this.parentSourceId = parentSourceId;
+        }
+
+        // 반환 전이면 오류를 기록해 두고, 이미 반환된 노드라면 별도의 오류 행으로 보고
+        private TaskImportRow fail(String message) {
+            if (emitted) {
+                return TaskImportRow.error(line, sourceId, message);
+            }
+            if (error == null) {
+                error = message;
+            }
+            return null;
+        }
+
+        private TaskImportRow row() {
+            TaskImportRow row = builder.line(line).sourceId(sourceId).parentSourceId(parentSourceId).build();
+            if (error == null && row.getName() == null) {
+                error = "name is required";
+            }
+            return error != null ? TaskImportRow.error(line, sourceId, error) : row;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package team.molu.edayserver.importer;
+
+import team.molu.edayserver.exception.InvalidImportException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+
+/**
+ * 가져오기 파일 형식. format 파라미터가 없으면 Content-Type으로 판별합니다.
+ */
+public enum TaskImportFormat {
+    JSON("application/json"),
+    CSV("text/csv"),
+    ICS("text/calendar");
+
+    private final String mediaType;
+
+    TaskImportFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public TaskImportReader open(InputStream in) throws IOException {
+        return switch (this) {
+            case JSON -> new JsonTaskImportReader(in);
+            case CSV -> new CsvTaskImportReader(in);
+            case ICS -> new IcsTaskImportReader(in);
+        };
+    }
+
+    /**
+     * @param format      요청 파라미터 (json / csv / ics), null이면 contentType 사용
+     * @param contentType 요청 Content-Type 헤더
+     */
+    public static TaskImportFormat of(String format, String contentType) {
+        if (format != null && !format.isBlank()) {
+            try {
+                return valueOf(format.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidImportException("Unsupported import format: " + format);
+            }
+        }
+        if (contentType != null) {
+            String lower = contentType.toLowerCase(Locale.ROOT);
+            for (TaskImportFormat value : values()) {
+                if (lower.startsWith(value.mediaType)) {
+                    return value;
+                }
+            }
+        }
+        throw new InvalidImportException("Unsupported import content type: " + contentType);
+    }
+}
@@ -0,0 +1,19 @@
+package team.molu.edayserver.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 가져오기 파일을 앞에서부터 한 행씩 읽는 reader.
+ * 파일 전체를 메모리에 올리지 않으며, 부모는 항상 자식보다 먼저 반환됩니다. (JSON 트리)
+ * CSV / ICS는 파일에 적힌 순서대로 반환하므로, 부모 행이 자식 행보다 뒤에 있으면 자식은 부모를 찾지 못해 실패합니다.
+ */
+public interface TaskImportReader extends Closeable {
+    /**
+     * 다음 행을 읽습니다. 값이 잘못된 행은 error가 채워진 행으로 반환됩니다.
+     *
+     * @return 다음 행, 파일 끝이면 null
+     * @throws IOException 파일 구조가 깨져 더 읽을 수 없을 때
+     */
+    TaskImportRow next() throws IOException;
+}
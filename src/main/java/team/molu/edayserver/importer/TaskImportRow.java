@@ -0,0 +1,76 @@
+package team.molu.edayserver.importer;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 가져오기 파일에서 읽은 할 일 한 건.
+ * sourceId / parentSourceId는 파일 안에서의 식별자이며, 실제 Task id는 가져오기 id와 sourceId로 결정적으로 만듭니다.
+ * parentSourceId가 null이면 가져오기 대상 부모 바로 아래에 생성합니다.
+ * 읽는 도중 값이 잘못된 행은 error만 채워서 반환하고, 파일의 나머지는 계속 읽습니다.
+ */
+@Getter
+@Builder
+public class TaskImportRow {
+    // 행이 시작하는 파일의 줄 번호 (1부터)
+    private final long line;
+    private final String sourceId;
+    private final String parentSourceId;
+    private final String name;
+    private final String memo;
+    private final LocalDateTime startDate;
+    private final LocalDateTime endDate;
+    private final Integer priority;
+    private final Boolean check;
+    private final String error;
+
+    public boolean isValid() {
+        return error == null;
+    }
+
+    public static TaskImportRow error(long line, String sourceId, String error) {
+        return TaskImportRow.builder()
+                .line(line)
+                .sourceId(sourceId)
+                .error(error)
+                .build();
+    }
+
+    /**
+     * "2024-01-05T09:30" 또는 "2024-01-05" (00:00으로 변환) 형식의 날짜를 읽습니다. 빈 값은 null
+     *
+     * @throws java.time.format.DateTimeParseException 형식이 맞지 않을 때
+     */
+    static LocalDateTime dateTime(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.length() == 10 ? LocalDate.parse(trimmed).atStartOfDay() : LocalDateTime.parse(trimmed);
+    }
+
+    static Integer integer(String value) {
+        return value == null || value.isBlank() ? null : Integer.valueOf(value.trim());
+    }
+
+    static Boolean bool(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String trimmed = value.trim();
+        if (trimmed.equalsIgnoreCase("true") || trimmed.equals("1")) {
+            return true;
+        }
+        if (trimmed.equalsIgnoreCase("false") || trimmed.equals("0")) {
+            return false;
+        }
+        throw new IllegalArgumentException("invalid boolean: " + trimmed);
+    }
+
+    static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
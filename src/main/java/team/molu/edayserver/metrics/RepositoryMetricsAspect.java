@@ -0,0 +1,131 @@
+package team.molu.edayserver.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 리포지토리 쿼리별 실행 시간 / 결과 행 수 측정.
+ * 리액티브 리포지토리는 호출 즉시 Mono/Flux를 반환하므로, 구독 시작부터 완료(또는 오류, 취소)까지를 측정합니다.
+ * <ul>
+ *     <li>eday.repository.query (timer): repository, method, outcome(success/error/cancelled), rows(결과 행 수 구간)</li>
+ *     <li>eday.repository.query.rows (summary): repository, method - 성공한 쿼리의 결과 행 수</li>
+ * </ul>
+ * 행 수는 태그 수가 늘지 않도록 구간(0, 1, 2-10, 11-100, 101-1000, 1000+)으로 기록합니다.
+ * 임계값을 넘은 쿼리(취소 제외)는 {@link SlowQueryLog}에 넘깁니다.
+ */
+@Aspect
+@Component
+public class RepositoryMetricsAspect {
+    static final String QUERY_METRIC = "eday.repository.query";
+    static final String ROWS_METRIC = "eday.repository.query.rows";
+
+    private final MeterRegistry meterRegistry;
+    private final SlowQueryLog slowQueryLog;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    public RepositoryMetricsAspect(MeterRegistry meterRegistry, SlowQueryLog slowQueryLog) {
+        this.meterRegistry = meterRegistry;
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Around("execution(* team.molu.edayserver.repository.*Repository.*(..))")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        String repository = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Object[] args = joinPoint.getArgs();
+        Object result = joinPoint.proceed();
+
+        if (result instanceof Mono<?> mono) {
+            return measure(repository, method, args, mono);
+        }
+        if (result instanceof Flux<?> flux) {
+            return measure(repository, method, args, flux);
+        }
+        return result;
+    }
+
+    <T> Mono<T> measure(String repository, Method method, Object[] args, Mono<T> mono) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            AtomicLong rows = new AtomicLong();
+            return mono.doOnNext(value -> rows.incrementAndGet())
+                    .doFinally(signal -> record(repository, method, args, sample, signal, rows.get()));
+        });
+    }
+
+    <T> Flux<T> measure(String repository, Method method, Object[] args, Flux<T> flux) {
+        return Flux.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            AtomicLong rows = new AtomicLong();
+            return flux.doOnNext(value -> rows.incrementAndGet())
+                    .doFinally(signal -> record(repository, method, args, sample, signal, rows.get()));
+        });
+    }
+
+    private void record(String repository, Method javaMethod, Object[] args, Timer.Sample sample, SignalType signal, long rows) {
+        String method = javaMethod.getName();
+        String outcome = outcome(signal);
+        String bucket = rowsBucket(rows);
+        long durationNanos = sample.stop(timers.computeIfAbsent(repository + '.' + method + '|' + outcome + '|' + bucket,
+                key -> Timer.builder(QUERY_METRIC)
+                        .description("Neo4j repository query latency")
+                        .tag("repository", repository)
+                        .tag("method", method)
+                        .tag("outcome", outcome)
+                        .tag("rows", bucket)
+                        .register(meterRegistry)));
+
+        if (signal == SignalType.ON_COMPLETE) {
+            summaries.computeIfAbsent(repository + '.' + method,
+                    key -> DistributionSummary.builder(ROWS_METRIC)
+                            .description("Rows returned by Neo4j repository query")
+                            .baseUnit("rows")
+                            .tag("repository", repository)
+                            .tag("method", method)
+                            .register(meterRegistry))
+                    .record(rows);
+        }
+        if (signal != SignalType.CANCEL && slowQueryLog.isSlow(durationNanos)) {
+            slowQueryLog.record(repository, javaMethod, args, durationNanos, rows, outcome);
+        }
+    }
+
+    private static String outcome(SignalType signal) {
+        switch (signal) {
+            case ON_COMPLETE:
+                return "success";
+            case ON_ERROR:
+                return "error";
+            default:
+                return "cancelled";
+        }
+    }
+
+    static String rowsBucket(long rows) {
+        if (rows <= 1) {
+            return Long.toString(rows);
+        } else if (rows <= 10) {
+            return "2-10";
+        } else if (rows <= 100) {
+            return "11-100";
+        } else if (rows <= 1000) {
+            return "101-1000";
+        }
+        return "1000+";
+    }
+}
@@ -0,0 +1,23 @@
+package team.molu.edayserver.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 최근 느린 리포지토리 쿼리와 샘플링된 PROFILE 요약 (/actuator/slowqueries)
+ */
+@Component
+@Endpoint(id = "slowqueries")
+@RequiredArgsConstructor
+public class SlowQueryEndpoint {
+    private final SlowQueryLog slowQueryLog;
+
+    @ReadOperation
+    public List<SlowQueryLog.SlowQuery> slowQueries() {
+        return slowQueryLog.recent();
+    }
+}
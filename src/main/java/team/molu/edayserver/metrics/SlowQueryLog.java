@@ -0,0 +1,259 @@
+package team.molu.edayserver.metrics;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.async.ResultCursor;
+import org.neo4j.driver.summary.ProfiledPlan;
+import org.neo4j.driver.summary.ResultSummary;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.neo4j.repository.query.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * 느린 리포지토리 쿼리 기록.
+ * 임계값(eday.repository.slow-query.threshold)을 넘은 쿼리는 메서드, 파라미터(개인정보 가림), 결과 행 수, 실행 시간을 로그로 남기고
+ * 최근 기록을 고정 크기 버퍼에 보관합니다. (/actuator/slowqueries, ADMIN 권한)
+ * <p>
+ * 느린 쿼리 중 일부(profile-sample-rate)는 같은 Cypher와 파라미터로 PROFILE을 다시 실행해 db hits와 연산자 목록을 저장합니다.
+ * PROFILE은 쿼리를 실제로 실행하므로 항상 롤백되는 트랜잭션 안에서 돌리고, DB에 부하가 몰리지 않도록 동시에 하나만 실행합니다.
+ * 쓰기 쿼리는 원래 쿼리가 커밋된 뒤에 다시 실행되므로 (예: 이미 삭제된 서브트리) 계획은 같아도 db hits는 다를 수 있습니다.
+ */
+@Component
+@Slf4j
+public class SlowQueryLog {
+    // 로그와 버퍼에 값 대신 마스킹하는 파라미터 이름 (Map 파라미터의 키 포함)
+    private static final Set<String> REDACTED_NAMES = Set.of("email", "owner", "name", "memo", "text", "query");
+    private static final String REDACTED = "***";
+    private static final int MAX_VALUE_LENGTH = 64;
+    // 목록 파라미터(일괄 작업의 행 목록 등)는 앞쪽 일부만 보관
+    private static final int MAX_ELEMENTS = 10;
+    private static final int MAX_OPERATORS = 32;
+    private static final int MAX_CONCURRENT_PROFILES = 1;
+
+    private final Driver driver;
+    private final long thresholdNanos;
+    private final double profileSampleRate;
+    private final int capacity;
+    private final DoubleSupplier random;
+    private final Deque<SlowQuery> recent = new ArrayDeque<>();
+    private final AtomicInteger profilesInFlight = new AtomicInteger();
+
+    @Autowired
+    public SlowQueryLog(Driver driver,
+                        @Value("${eday.repository.slow-query.threshold:500ms}") Duration threshold,
+                        @Value("${eday.repository.slow-query.profile-sample-rate:0.1}") double profileSampleRate,
+                        @Value("${eday.repository.slow-query.capacity:100}") int capacity) {
+        this(driver, threshold, profileSampleRate, capacity, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    SlowQueryLog(Driver driver, Duration threshold, double profileSampleRate, int capacity, DoubleSupplier random) {
+        this.driver = driver;
+        this.thresholdNanos = threshold.toNanos();
+        this.profileSampleRate = profileSampleRate;
+        this.capacity = capacity;
+        this.random = random;
+    }
+
+    public boolean isSlow(long durationNanos) {
+        return durationNanos >= thresholdNanos;
+    }
+
+    /**
+     * 느린 쿼리를 기록합니다. 샘플링된 경우 PROFILE을 비동기로 실행하고, 끝나면 같은 기록에 계획 요약을 채웁니다.
+     *
+     * @param repository    리포지토리 이름
+     * @param method        리포지토리 메서드 (@Query Cypher와 파라미터 이름을 읽음)
+     * @param args          호출 인자
+     * @param durationNanos 구독부터 종료까지 걸린 시간
+     * @param rows          결과 행 수
+     * @param outcome       success / error
+     */
+    public void record(String repository, Method method, Object[] args, long durationNanos, long rows, String outcome) {
+        Map<String, Object> parameters = parameters(method, args);
+        SlowQuery slowQuery = new SlowQuery(Instant.now(), repository, method.getName(), redact(parameters),
+                rows, durationNanos / 1_000_000, outcome);
+        log.warn("slow query {}.{} : {}ms, rows={}, outcome={}, params={}", repository, method.getName(),
+                slowQuery.getDurationMs(), rows, outcome, slowQuery.getParameters());
+
+        synchronized (recent) {
+            if (recent.size() >= capacity) {
+                recent.removeFirst();
+            }
+            recent.addLast(slowQuery);
+        }
+
+        Query query = method.getAnnotation(Query.class);
+        if (query == null || query.value().isBlank() || random.getAsDouble() >= profileSampleRate) {
+            return;
+        }
+        if (profilesInFlight.incrementAndGet() > MAX_CONCURRENT_PROFILES) {
+            profilesInFlight.decrementAndGet();
+            return;
+        }
+        AsyncSession session = driver.session(AsyncSession.class);
+        profile(session, query.value(), parameters)
+                .whenComplete((summary, error) -> {
+                    session.closeAsync();
+                    profilesInFlight.decrementAndGet();
+                    if (error != null) {
+                        log.info("slow query profile failed {}.{} : {}", repository, method.getName(), error.getMessage());
+                        return;
+                    }
+                    if (summary.hasProfile()) {
+                        slowQuery.profile = QueryProfile.of(summary.profile());
+                        log.warn("slow query profile {}.{} : dbHits={}, operators={}", repository, method.getName(),
+                                slowQuery.profile.getDbHits(), slowQuery.profile.getOperators());
+                    }
+                });
+    }
+
+    /** 최근 느린 쿼리 (오래된 순) */
+    public List<SlowQuery> recent() {
+        synchronized (recent) {
+            return new ArrayList<>(recent);
+        }
+    }
+
+    // PROFILE 실행 후 결과와 관계없이 롤백
+    private static CompletionStage<ResultSummary> profile(AsyncSession session, String cypher, Map<String, Object> parameters) {
+        return session.beginTransactionAsync().thenCompose(tx -> tx.runAsync("PROFILE " + cypher, parameters)
+                .thenCompose(ResultCursor::consumeAsync)
+                .handle((summary, error) -> tx.rollbackAsync().handle((ignored, rollbackError) -> {
+                    if (error != null) {
+                        throw error instanceof CompletionException e ? e : new CompletionException(error);
+                    }
+                    return summary;
+                }))
+                .thenCompose(Function.identity()));
+    }
+
+    // @Param이 있으면 그 이름, 없으면 컴파일된 파라미터 이름 (-parameters)
+    static Map<String, Object> parameters(Method method, Object[] args) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        Parameter[] declared = method.getParameters();
+        for (int i = 0; i < declared.length && args != null && i < args.length; i++) {
+            Param param = declared[i].getAnnotation(Param.class);
+            parameters.put(param != null ? param.value() : declared[i].getName(), args[i]);
+        }
+        return parameters;
+    }
+
+    static Map<String, Object> redact(Map<?, ?> parameters) {
+        Map<String, Object> redacted = new LinkedHashMap<>();
+        for (Map.Entry<?, ?> entry : parameters.entrySet()) {
+            String key = String.valueOf(entry.getKey());
+            redacted.put(key, REDACTED_NAMES.contains(key) ? REDACTED : redactValue(entry.getValue()));
+        }
+        return redacted;
+    }
+
+    private static Object redactValue(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Map<?, ?> map) {
+            return redact(map);
+        }
+        // 일괄 작업은 행(Map) 목록을 넘기므로 목록 / 배열 안의 값도 같은 규칙으로 가림
+        if (value instanceof Collection<?> collection) {
+            return redactElements(collection.iterator(), collection.size());
+        }
+        if (value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            return redactElements(IntStream.range(0, length).mapToObj(i -> Array.get(value, i)).iterator(), length);
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            return value;
+        }
+        String text = value.toString();
+        // 이름과 관계없이 email 형태의 값은 가림
+        if (text.indexOf('@') >= 0) {
+            return REDACTED;
+        }
+        return text.length() > MAX_VALUE_LENGTH ? text.substring(0, MAX_VALUE_LENGTH) + "..." : text;
+    }
+
+    private static List<Object> redactElements(Iterator<?> elements, int size) {
+        List<Object> redacted = new ArrayList<>(Math.min(size, MAX_ELEMENTS + 1));
+        for (int i = 0; i < MAX_ELEMENTS && elements.hasNext(); i++) {
+            redacted.add(redactValue(elements.next()));
+        }
+        if (size > MAX_ELEMENTS) {
+            redacted.add("... (" + (size - MAX_ELEMENTS) + " more)");
+        }
+        return redacted;
+    }
+
+    @Getter
+    public static final class SlowQuery {
+        private final Instant at;
+        private final String repository;
+        private final String method;
+        private final Map<String, Object> parameters;
+        private final long rows;
+        private final long durationMs;
+        private final String outcome;
+        // 샘플링되지 않았거나 PROFILE이 끝나지 않았으면 null
+        private volatile QueryProfile profile;
+
+        SlowQuery(Instant at, String repository, String method, Map<String, Object> parameters,
+                  long rows, long durationMs, String outcome) {
+            this.at = at;
+            this.repository = repository;
+            this.method = method;
+            this.parameters = parameters;
+            this.rows = rows;
+            this.durationMs = durationMs;
+            this.outcome = outcome;
+        }
+    }
+
+    /** PROFILE 계획 요약: 전체 db hits와 연산자별 db hits (계획 트리 전위 순회) */
+    @Getter
+    public static final class QueryProfile {
+        private final long dbHits;
+        private final long rows;
+        private final List<String> operators;
+
+        private QueryProfile(long dbHits, long rows, List<String> operators) {
+            this.dbHits = dbHits;
+            this.rows = rows;
+            this.operators = operators;
+        }
+
+        static QueryProfile of(ProfiledPlan plan) {
+            List<String> operators = new ArrayList<>();
+            long dbHits = collect(plan, operators);
+            return new QueryProfile(dbHits, plan.records(), operators);
+        }
+
+        private static long collect(ProfiledPlan plan, List<String> operators) {
+            if (operators.size() < MAX_OPERATORS) {
+                operators.add(plan.operatorType() + "(" + plan.dbHits() + ")");
+            }
+            long dbHits = plan.dbHits();
+            for (ProfiledPlan child : plan.children()) {
+                dbHits += collect(child, operators);
+            }
+            return dbHits;
+        }
+    }
+}
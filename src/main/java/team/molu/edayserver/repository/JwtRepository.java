@@ -4,8 +4,48 @@ import org.springframework.data.neo4j.repository.ReactiveNeo4jRepository;
 import org.springframework.data.neo4j.repository.query.Query;
 import reactor.core.publisher.Mono;
 import team.molu.edayserver.domain.Jwt;
+import team.molu.edayserver.dto.JwtDto;
+
+import java.util.Date;
 
 public interface JwtRepository extends ReactiveNeo4jRepository<Jwt, String> {
-    @Query("MATCH (u:User {email = $email})-[r:HAS_JWT]->(j:Jwt) RETURN j")
+    // 가장 최근에 발급된 로그인(family)의 Jwt 조회
+    @Query("MATCH (u:User {email: $email})-[r:HAS_JWT]->(j:Jwt) RETURN j ORDER BY j.ttl DESC LIMIT 1")
     Mono<Jwt> findJwtByEmail(String email);
+
+    /**
+     * 제시된 refresh 토큰(jti)을 확인하고 한 번의 트랜잭션으로 회전합니다.
+     * Jwt 노드는 로그인마다 하나씩(family) 만들어지며, 확인과 폐기는 토큰의 family 노드에만 적용됩니다.
+     * (family claim이 없는 이전 토큰은 family가 없는 기존 노드로 확인)
+     * 먼저 Jwt 노드에 쓰기를 하여 잠금을 잡으므로, 여러 탭에서 동시에 재발급을 요청해도 순서대로 평가됩니다.
+     * - ROTATED: 현재 토큰 - 같은 노드에 새 토큰을 저장 (새 노드를 만들지 않으므로 고아 노드 없음)
+     * - CONCURRENT: 유예 시간 안에 방금 회전된 직전 토큰 - 먼저 회전한 요청의 토큰을 그대로 사용
+     * - REUSED: 그 밖의 이전 토큰 (탈취 의심) - 이 family 폐기, 재로그인 필요
+     * - INVALID: 폐기되었거나 저장된 토큰 없음
+     * jti가 없는 기존 토큰은 저장된 토큰에도 jti가 없을 때 한 번 회전을 허용합니다.
+     */
+    @Query("MATCH (u:User {email: $email})-[:HAS_JWT]->(j:Jwt) " +
+            "WHERE j.family = $family OR ($family IS NULL AND j.family IS NULL) " +
+            "SET j.rotationLock = true " +
+            "WITH j, j.jti AS currentJti, j.previousJti AS previousJti, j.rotatedAt AS rotatedAt, coalesce(j.revoked, false) AS revoked " +
+            "WITH j, currentJti, CASE " +
+            "  WHEN revoked THEN \"INVALID\" " +
+            "  WHEN currentJti = $presentedJti OR (currentJti IS NULL AND $presentedJti IS NULL) THEN \"ROTATED\" " +
+            "  WHEN previousJti = $presentedJti AND rotatedAt >= datetime() - duration({seconds: $graceSeconds}) THEN \"CONCURRENT\" " +
+            "  ELSE \"REUSED\" END AS outcome " +
+            "FOREACH (_ IN CASE WHEN outcome = \"ROTATED\" THEN [1] ELSE [] END | " +
+            "  SET j.previousJti = currentJti, j.jti = $newJti, j.refresh = $newRefresh, j.ttl = datetime($newTtl), j.rotatedAt = datetime()) " +
+            "FOREACH (_ IN CASE WHEN outcome = \"REUSED\" THEN [1] ELSE [] END | " +
+            "  SET j.revoked = true, j.revokedAt = datetime()) " +
+            "REMOVE j.rotationLock " +
+            "RETURN outcome, j.refresh AS refresh, j.ttl AS ttl")
+    Mono<JwtDto.RefreshRotationDto> rotateRefreshToken(String email, String family, String presentedJti, String newJti,
+                                                       String newRefresh, Date newTtl, long graceSeconds);
+
+    // 로그아웃 - 이 로그인(family)의 refresh 토큰만 폐기 (만료 후 다음 로그인 때 정리)
+    @Query("MATCH (u:User {email: $email})-[:HAS_JWT]->(j:Jwt) " +
+            "WHERE j.family = $family OR ($family IS NULL AND j.family IS NULL) " +
+            "SET j.revoked = true, j.revokedAt = datetime() " +
+            "RETURN j")
+    Mono<Jwt> revokeJwt(String email, String family);
 }
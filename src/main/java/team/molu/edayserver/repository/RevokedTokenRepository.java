@@ -0,0 +1,28 @@
+package team.molu.edayserver.repository;
+
+import org.springframework.data.neo4j.repository.ReactiveNeo4jRepository;
+import org.springframework.data.neo4j.repository.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import team.molu.edayserver.domain.RevokedToken;
+
+import java.util.Date;
+
+public interface RevokedTokenRepository extends ReactiveNeo4jRepository<RevokedToken, String> {
+    // 폐기 토큰 기록 (같은 jti로 여러 번 호출해도 하나만 유지)
+    @Query("MERGE (r:RevokedToken {jti: $jti}) " +
+            "SET r.owner = $owner, r.expiresAt = datetime($expiresAt) " +
+            "RETURN r")
+    Mono<RevokedToken> revoke(String jti, String owner, Date expiresAt);
+
+    // 아직 만료되지 않은 폐기 토큰 (시작 시 메모리 적재용)
+    @Query("MATCH (r:RevokedToken) WHERE r.expiresAt > datetime() RETURN r")
+    Flux<RevokedToken> findActive();
+
+    // 만료된 폐기 토큰 batch 삭제 - 삭제한 개수 반환
+    @Query("MATCH (r:RevokedToken) WHERE r.expiresAt <= datetime() " +
+            "WITH r LIMIT $batchSize " +
+            "DETACH DELETE r " +
+            "RETURN count(*)")
+    Mono<Integer> deleteExpired(int batchSize);
+}
@@ -0,0 +1,104 @@
+package team.molu.edayserver.repository;
+
+import org.springframework.data.neo4j.repository.ReactiveNeo4jRepository;
+import org.springframework.data.neo4j.repository.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import team.molu.edayserver.domain.TaskChange;
+import team.molu.edayserver.dto.TasksDto;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+public interface TaskChangeRepository extends ReactiveNeo4jRepository<TaskChange, String> {
+    // 사용자 revision 증가 후 지정한 노드들에 대한 변경 기록 생성 (User 노드 쓰기 잠금으로 사용자별 revision 직렬화)
+    @Query("MATCH (u:User {email: $email}) " +
+            "SET u.revision = coalesce(u.revision, 0) + 1 " +
+            "WITH u.revision AS rev " +
+            "UNWIND $taskIds AS taskId " +
+            "CREATE (:TaskChange {id: randomUUID(), owner: $email, rev: rev, taskId: taskId, op: $op, at: datetime()}) " +
+            "RETURN DISTINCT rev")
+    Mono<Long> recordTasks(String email, String op, List<String> taskIds);
+
+    // 사용자 revision 증가 후 지정한 노드들의 서브트리 단위 변경 기록 생성 (서브트리 루트당 하나, 조회 시점에 펼침)
+    @Query("MATCH (u:User {email: $email}) " +
+            "SET u.revision = coalesce(u.revision, 0) + 1 " +
+            "WITH u.revision AS rev " +
+            "UNWIND $taskIds AS taskId " +
+            "CREATE (:TaskChange {id: randomUUID(), owner: $email, rev: rev, taskId: taskId, op: $op, subtree: true, at: datetime()}) " +
+            "RETURN DISTINCT rev")
+    Mono<Long> recordSubtrees(String email, String op, List<String> taskIds);
+
+    // 단일 삭제 전 변경 기록 - 삭제할 노드는 노드 단위로, 삭제된 노드의 부모로 옮겨질 자식들은 서브트리 단위로 기록
+    // (삭제할 수 있는 노드가 없으면 revision을 올리지 않음)
+    @Query("MATCH (t:Task {owner: $email}) WHERE t.id IN $taskIds AND NOT t.path STARTS WITH \"/trash/\" " +
+            "OPTIONAL MATCH (t)-[:BELONGS_TO]->(c:Task) " +
+            "WITH collect(DISTINCT t.id) AS deletedIds, collect(DISTINCT c.id) AS childIds " +
+            "WHERE size(deletedIds) > 0 " +
+            "MATCH (u:User {email: $email}) " +
+            "SET u.revision = coalesce(u.revision, 0) + 1 " +
+            "WITH u.revision AS rev, deletedIds, childIds " +
+            "FOREACH (taskId IN deletedIds | " +
+            "  CREATE (:TaskChange {id: randomUUID(), owner: $email, rev: rev, taskId: taskId, op: $op, at: datetime()})) " +
+            "FOREACH (taskId IN childIds | " +
+            "  CREATE (:TaskChange {id: randomUUID(), owner: $email, rev: rev, taskId: taskId, op: $op, subtree: true, at: datetime()})) " +
+            "RETURN rev")
+    Mono<Long> recordDeletedTasks(String email, String op, List<String> taskIds);
+
+    // 사용자 현재 revision, 압축으로 변경 기록이 사라진 마지막 revision(horizon)
+    @Query("MATCH (u:User {email: $email}) " +
+            "RETURN coalesce(u.revision, 0) AS revision, coalesce(u.changeHorizon, 0) AS horizon")
+    Mono<TasksDto.TaskSyncStateDto> findSyncState(String email);
+
+    // since 이후 노드 단위로 변경된 노드들의 현재 상태 - 루트 하위에 없으면(삭제/아카이브/영구삭제) tombstone
+    @Query("MATCH (ch:TaskChange {owner: $email}) WHERE ch.rev > $since AND ch.subtree IS NULL " +
+            "WITH ch.taskId AS taskId, max(ch.rev) AS rev " +
+            "OPTIONAL MATCH (t:Task {id: taskId, owner: $email}) " +
+            "WHERE t.path STARTS WITH \"/root/\" " +
+            "OPTIONAL MATCH (p:Task)-[:BELONGS_TO]->(t) " +
+            "RETURN taskId, rev, t IS NULL AS deleted, " +
+            "CASE WHEN p.id = \"root\" THEN \"0\" ELSE p.id END AS parentId, " +
+            "t.name AS name, t.memo AS memo, t.startDate AS startDate, t.endDate AS endDate, " +
+            "t.priority AS priority, t.check AS check " +
+            "ORDER BY rev, taskId")
+    Flux<TasksDto.TaskChangeDto> findChangesSince(String email, long since);
+
+    // since 이후 서브트리 단위로 변경된 노드 중 루트 하위에 있는 서브트리를 현재 노드들로 펼침
+    // (겹치는 서브트리의 노드는 가장 큰 revision으로 한 번만 반환)
+    @Query("MATCH (ch:TaskChange {owner: $email}) WHERE ch.rev > $since AND ch.subtree = true " +
+            "WITH ch.taskId AS rootId, max(ch.rev) AS rev " +
+            "MATCH (r:Task {id: rootId, owner: $email}) WHERE r.path STARTS WITH \"/root/\" " +
+            "MATCH (t:Task) WHERE t.owner = $email AND t.path STARTS WITH r.path " +
+            "WITH t, max(rev) AS rev " +
+            "OPTIONAL MATCH (p:Task)-[:BELONGS_TO]->(t) " +
+            "RETURN t.id AS taskId, rev, false AS deleted, " +
+            "CASE WHEN p.id = \"root\" THEN \"0\" ELSE p.id END AS parentId, " +
+            "t.name AS name, t.memo AS memo, t.startDate AS startDate, t.endDate AS endDate, " +
+            "t.priority AS priority, t.check AS check " +
+            "ORDER BY rev, taskId")
+    Flux<TasksDto.TaskChangeDto> findSubtreeChangesSince(String email, long since);
+
+    // since 이후 서브트리 단위로 변경된 노드 중 루트 하위에 없는 서브트리 - 루트 ID 하나로 서브트리 전체의 tombstone
+    @Query("MATCH (ch:TaskChange {owner: $email}) WHERE ch.rev > $since AND ch.subtree = true " +
+            "WITH ch.taskId AS taskId, max(ch.rev) AS rev " +
+            "OPTIONAL MATCH (t:Task {id: taskId, owner: $email}) " +
+            "WHERE t.path STARTS WITH \"/root/\" " +
+            "WITH taskId, rev WHERE t IS NULL " +
+            "RETURN taskId, rev, true AS deleted, null AS parentId, null AS name, null AS memo, " +
+            "null AS startDate, null AS endDate, null AS priority, null AS check " +
+            "ORDER BY rev, taskId")
+    Flux<TasksDto.TaskChangeDto> findDeletedSubtreesSince(String email, long since);
+
+    // 보존 기간이 지난 변경 기록을 batchSize 개씩 삭제하고, 사용자별 horizon을 삭제된 가장 큰 revision으로 올림
+    // (탈퇴한 사용자의 기록은 horizon 갱신 없이 삭제)
+    @Query("MATCH (ch:TaskChange) WHERE ch.at < $cutoff " +
+            "WITH ch LIMIT $batchSize " +
+            "WITH ch.owner AS owner, max(ch.rev) AS horizon, collect(ch) AS changes " +
+            "OPTIONAL MATCH (u:User {email: owner}) " +
+            "SET u.changeHorizon = CASE WHEN coalesce(u.changeHorizon, 0) > horizon THEN u.changeHorizon ELSE horizon END " +
+            "WITH changes " +
+            "UNWIND changes AS ch " +
+            "DELETE ch " +
+            "RETURN count(ch)")
+    Mono<Integer> compactChanges(ZonedDateTime cutoff, int batchSize);
+}
@@ -9,226 +9,523 @@ import reactor.core.publisher.Mono;
 import team.molu.edayserver.domain.Task;
 import team.molu.edayserver.dto.TasksDto;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
+/**
+ * 할 일(Task) 쿼리.
+ * 모든 Task는 기준 노드(root / trash / archive)부터 자신까지의 id 경로를 path에 저장합니다. (예: "/root/{부모 id}/{자기 id}/")
+ * 경로 조회, 후손 검사는 노드 하나를 읽는 것으로, 서브트리 조회는 (owner, path) 인덱스의 접두사 범위 탐색으로 처리합니다.
+ * 노드의 부모를 바꾸는 쿼리는 같은 트랜잭션에서 서브트리 전체의 path 접두사를 새 부모 기준으로 바꿉니다.
+ * <p>
+ * 모든 Task는 부모 id를 parentId에, 우선순위를 priority(없으면 0)에 저장합니다. 부모를 바꾸는 쿼리는 parentId도 함께 바꾸며,
+ * (priority, id) keyset 페이지 조회는 (owner, priority, id) / (owner, parentId, priority, id) 인덱스 순서대로 읽습니다.
+ * <p>
+ * 할 일의 날짜를 쓰는 쿼리는 사용자의 가장 긴 할 일 기간(User.maxTaskSpan, 초)을 함께 늘립니다. 기간 조회는 이 값으로
+ * startDate 범위 탐색의 하한을 정합니다. (줄어들지는 않으므로 하한은 항상 안전한 쪽)
+ * <p>
+ * 모든 Task는 소유자 email을 owner에 저장하고, id로 노드를 찾는 쿼리는 모두 (id, owner)로 찾습니다.
+ * 다른 사용자의 노드는 존재하지 않는 노드와 똑같이 취급되므로 (빈 결과) 소유권 검사를 위한 트리 탐색이 필요 없습니다.
+ */
 public interface TaskRepository extends ReactiveNeo4jRepository<Task, String> {
-    // email로 root 노드들 조회
-    @Query("MATCH (u:User)-[CREATED_BY]->(r:Task {id: \"root\"}), (r)-[BELONGS_TO]->(t:Task) WHERE u.email = $email RETURN t")
+    // email로 root 노드들 조회 - 응답이 같으면 ETag도 같도록 (priority, id) 순서 고정
+    @Query("MATCH (r:Task {owner: $email, path: \"/root/\"})-[:BELONGS_TO]->(t:Task) " +
+            "RETURN t " +
+            "ORDER BY t.priority, t.id")
     Flux<Task> findRootTasks(String email);
 
     // id로 task 조회
-    @Query("MATCH (t:Task {id: $taskId}) RETURN t")
-    Mono<Task> findTaskById(String taskId);
+    @Query("MATCH (t:Task {id: $taskId, owner: $email}) RETURN t")
+    Mono<Task> findTaskById(String email, String taskId);
+
+    // id 목록으로 task 일괄 조회 - 있는 노드만 순서 없이 반환 (task_id_owner 인덱스)
+    @Query("UNWIND $taskIds AS taskId " +
+            "MATCH (t:Task {id: taskId, owner: $email}) " +
+            "RETURN t")
+    Flux<Task> findTasksByIds(String email, List<String> taskIds);
 
     // id로 자식 노드들 조회
-    @Query("MATCH (t:Task {id: $taskId})-[:BELONGS_TO]->(r:Task) RETURN r")
-    Flux<Task> findSubtaskById(String taskId);
-
-    // id로 경로 조회
-    @Query("MATCH path = (t:Task {id: $taskId})<-[:BELONGS_TO*0..]-(p:Task) " +
-            "WHERE NOT (p)<-[:CREATED_BY]-(:User) " +
-            "WITH t, nodes(path)[1..] AS parents " +
-            "WITH t, parents, range(0, size(parents)-1) AS indices " +
-            "RETURN [i in indices | {name: parents[i].name, taskId: parents[i].id, order: i+1}] + [{name: t.name, taskId: t.id, order: 0}] AS routes " +
-            "ORDER BY size(routes) DESC " +
-            "LIMIT 1")
-    Flux<TasksDto.TaskRouteDto> findRoutesById(String taskId);
+    @Query("MATCH (t:Task {id: $taskId, owner: $email})-[:BELONGS_TO]->(r:Task) RETURN r")
+    Flux<Task> findSubtaskById(String email, String taskId);
+
+    // id로 자식 노드들 페이지 조회 - (priority, id) keyset, cursorId가 null이면 첫 페이지
+    // (owner, parentId, priority, id) 인덱스를 커서 위치부터 순서대로 읽으므로 정렬 없이 limit개만 읽음
+    @Query("MATCH (r:Task) USING INDEX r:Task(owner, parentId, priority, id) " +
+            "WHERE r.owner = $email AND r.parentId = $taskId AND r.priority >= coalesce($cursorPriority, -2147483648) AND r.id IS NOT NULL " +
+            "AND (r.priority > coalesce($cursorPriority, -2147483648) OR r.id > coalesce($cursorId, \"\")) " +
+            "RETURN r " +
+            "ORDER BY r.priority, r.id " +
+            "LIMIT $limit")
+    Flux<Task> findSubtaskPageById(String email, String taskId, Integer cursorPriority, String cursorId, int limit);
+
+    // 특정 노드와 depth 단계까지의 하위 노드들을 한 번에 조회 (depth가 null이면 서브트리 전체)
+    // depth가 있으면 관계를 따라 depth 단계까지만 확장 (깊이 조건을 확장 중에 검사하므로 그 아래 노드는 읽지 않음)
+    // depth가 null일 때만 (owner, path) 접두사 범위 탐색으로 서브트리 전체를 읽음
+    // 부모가 먼저 오도록 깊이 순 정렬, 각 노드의 직계 자식 수를 함께 반환
+    // 깊이와 부모 id는 path에서 계산 ("/root/a/b/" → 부모 a)
+    @Query("MATCH (t:Task {id: $taskId, owner: $email}) " +
+            "WITH t, size(split(t.path, \"/\")) AS baseSize " +
+            "CALL { WITH t, baseSize " +
+            "  WITH t, baseSize WHERE $depth IS NOT NULL " +
+            "  MATCH (t)((:Task)-[:BELONGS_TO]->(n:Task) WHERE size(split(n.path, \"/\")) <= baseSize + $depth)*(c:Task) " +
+            "  RETURN c " +
+            "  UNION " +
+            "  WITH t " +
+            "  WITH t WHERE $depth IS NULL " +
+            "  MATCH (c:Task) WHERE c.owner = $email AND c.path STARTS WITH t.path " +
+            "  RETURN c } " +
+            "WITH c, split(c.path, \"/\") AS ids, size(split(c.path, \"/\")) - baseSize AS depth " +
+            "RETURN c.id AS taskId, " +
+            "CASE WHEN depth = 0 THEN null ELSE ids[-3] END AS parentId, " +
+            "c.name AS name, c.memo AS memo, c.startDate AS startDate, c.endDate AS endDate, " +
+            "c.priority AS priority, c.check AS check, depth, " +
+            "COUNT { (c)-[:BELONGS_TO]->(:Task) } AS childCount " +
+            "ORDER BY depth, c.priority, c.id")
+    Flux<TasksDto.TaskTreeRowDto> findTaskTree(String email, String taskId, Integer depth);
+
+    // id로 경로 조회 - path의 조상 id(기준 노드 제외)를 가까운 부모부터 order 1, 2, ... 로, 자기 자신은 order 0으로 마지막에 반환
+    @Query("MATCH (t:Task {id: $taskId, owner: $email}) " +
+            "WITH t, reverse([id IN split(t.path, \"/\") WHERE id <> \"\"][1..-1]) AS parentIds " +
+            "UNWIND range(0, size(parentIds)) AS i " +
+            "WITH t, i, CASE WHEN i < size(parentIds) THEN parentIds[i] ELSE t.id END AS routeId " +
+            "MATCH (r:Task {id: routeId, owner: $email}) " +
+            "RETURN r.id AS taskId, r.name AS name, CASE WHEN r = t THEN 0 ELSE i + 1 END AS order " +
+            "ORDER BY i")
+    Flux<TasksDto.TaskRouteDto> findRoutesById(String email, String taskId);
 
     // 루트에 노드 추가
-    @Query("MATCH (u:User {email: $task.email}) " +
-            "MATCH (u)-[:CREATED_BY]->(r:Task {id: \"root\"}) " +
+    @Query("MATCH (r:Task {owner: $task.email, path: \"/root/\"}) " +
             "CREATE (t:Task { " +
             "id: $task.id, " +
             "name: $task.name, " +
             "memo: $task.memo, " +
             "startDate: $task.startDate, " +
             "endDate: $task.endDate, " +
-            "priority: $task.priority, " +
-            "check: $task.check " +
+            "priority: coalesce($task.priority, 0), " +
+            "check: $task.check, " +
+            "owner: $task.email, " +
+            "parentId: r.id, " +
+            "path: r.path + $task.id + \"/\" " +
             "}) " +
             "CREATE (r)-[:BELONGS_TO]->(t) " +
+            "WITH t " +
+            "CALL { WITH t " +
+            "  MATCH (u:User {email: t.owner}) " +
+            "  WITH u, duration.inSeconds(t.startDate, t.endDate).seconds AS span " +
+            "  WHERE span > coalesce(u.maxTaskSpan, 0) " +
+            "  SET u.maxTaskSpan = span } " +
             "RETURN t")
     Mono<Task> createTaskWithRootParent(Map<String, Object> task);
 
     // 특정 노드에 하위 노드 추가
-    @Query("MATCH (r:Task {id: $task.parentId}) " +
+    @Query("MATCH (r:Task {id: $task.parentId, owner: $task.email}) " +
             "CREATE (t:Task { " +
             "id: $task.id, " +
             "name: $task.name, " +
             "memo: $task.memo, " +
             "startDate: $task.startDate, " +
             "endDate: $task.endDate, " +
-            "priority: $task.priority, " +
-            "check: $task.check " +
+            "priority: coalesce($task.priority, 0), " +
+            "check: $task.check, " +
+            "owner: $task.email, " +
+            "parentId: r.id, " +
+            "path: r.path + $task.id + \"/\" " +
             "}) " +
             "CREATE (r)-[:BELONGS_TO]->(t) " +
+            "WITH t " +
+            "CALL { WITH t " +
+            "  MATCH (u:User {email: t.owner}) " +
+            "  WITH u, duration.inSeconds(t.startDate, t.endDate).seconds AS span " +
+            "  WHERE span > coalesce(u.maxTaskSpan, 0) " +
+            "  SET u.maxTaskSpan = span } " +
             "RETURN t")
     Mono<Task> createTaskWithParent(Map<String, Object> task);
 
+    // 가져오기 - 부모로 쓸 노드들의 path 조회 (루트 하위의 노드만)
+    @Query("UNWIND $taskIds AS taskId " +
+            "MATCH (t:Task {id: taskId, owner: $email}) WHERE t.path STARTS WITH \"/root/\" " +
+            "RETURN t.id AS taskId, t.path AS path")
+    Flux<TasksDto.TaskPathDto> findTaskPaths(String email, List<String> taskIds);
+
+    // 가져오기 - 배치의 노드들을 path와 함께 생성, 이미 있는 id(같은 가져오기의 재시도)는 건너뛰고 생성한 id만 반환
+    @Query("UNWIND $rows AS row " +
+            "OPTIONAL MATCH (e:Task {id: row.id, owner: $email}) " +
+            "WITH row WHERE e IS NULL " +
+            "CREATE (t:Task { " +
+            "id: row.id, " +
+            "name: row.name, " +
+            "memo: row.memo, " +
+            "startDate: row.startDate, " +
+            "endDate: row.endDate, " +
+            "priority: coalesce(row.priority, 0), " +
+            "check: row.check, " +
+            "owner: $email, " +
+            "parentId: row.parentId, " +
+            "path: row.path " +
+            "}) " +
+            "WITH t " +
+            "CALL { WITH t " +
+            "  MATCH (u:User {email: t.owner}) " +
+            "  WITH u, duration.inSeconds(t.startDate, t.endDate).seconds AS span " +
+            "  WHERE span > coalesce(u.maxTaskSpan, 0) " +
+            "  SET u.maxTaskSpan = span } " +
+            "RETURN t.id")
+    Flux<String> importTasks(String email, List<Map<String, Object>> rows);
+
+    // 가져오기 - 생성한 노드들을 부모에 연결 (같은 배치 안의 부모도 앞의 쿼리에서 이미 생성됨)
+    @Query("UNWIND $rows AS row " +
+            "MATCH (p:Task {id: row.parentId, owner: $email}) " +
+            "MATCH (t:Task {id: row.id, owner: $email}) " +
+            "CREATE (p)-[:BELONGS_TO]->(t) " +
+            "RETURN count(t)")
+    Mono<Integer> linkImportedTasks(String email, List<Map<String, Object>> rows);
+
     // 특정 노드 수정
-    @Query("MATCH (t:Task {id: $task.id})" +
+    @Query("MATCH (t:Task {id: $task.id, owner: $task.email}) " +
             "SET t.name = $task.name, t.memo = $task.memo, t.startDate = $task.startDate, t.endDate = $task.endDate, " +
-            "    t.priority = $task.priority, t.check = $task.check " +
+            "    t.priority = coalesce($task.priority, 0), t.check = $task.check " +
+            "WITH t " +
+            "CALL { WITH t " +
+            "  MATCH (u:User {email: t.owner}) " +
+            "  WITH u, duration.inSeconds(t.startDate, t.endDate).seconds AS span " +
+            "  WHERE span > coalesce(u.maxTaskSpan, 0) " +
+            "  SET u.maxTaskSpan = span } " +
             "RETURN t")
     Mono<Task> updateTask(Map<String, Object> task);
 
-    // 노드 서브 트리 Cascade 삭제
-    @Query("MATCH (p:Task)-[r:BELONGS_TO]->(t:Task {id: $taskId}) " +
-            "WITH t, r " +
-            "MATCH (u:User {email: $email})-[:CREATED_BY]->(d:Task {id: \"trash\"}) " +
-            "CREATE (d)-[:BELONGS_TO]->(t) " +
-            "SET t.deleteTime = datetime() " +
-            "WITH t, r " +
-            "MATCH (t)-[*0..]->(sub:Task) " +
+    // 노드 서브 트리 Cascade 삭제 - 서브트리 path를 휴지통 기준으로 변경
+    @Query("MATCH (t:Task {id: $taskId, owner: $email}) WHERE NOT t.path STARTS WITH \"/trash/\" " +
+            "MATCH (p:Task)-[r:BELONGS_TO]->(t) " +
+            "MATCH (d:Task {owner: $email, path: \"/trash/\"}) " +
             "DELETE r " +
-            "RETURN COUNT(DISTINCT sub)")
+            "CREATE (d)-[:BELONGS_TO]->(t) " +
+            "SET t.parentId = d.id, t.deleteTime = datetime() " +
+            "WITH t.path AS oldPath, d.path + t.id + \"/\" AS newPath " +
+            "MATCH (sub:Task) WHERE sub.owner = $email AND sub.path STARTS WITH oldPath " +
+            "SET sub.path = newPath + substring(sub.path, size(oldPath)) " +
+            "RETURN COUNT(sub)")
     Mono<Integer> deleteTaskByIdWithCascade(String email, String taskId);
 
-    // 단일 노드 삭제
-    @Query("MATCH (p:Task)-[pr:BELONGS_TO]->(t:Task {id: $taskId}) " +
+    // 단일 노드 삭제 - 자식 서브트리는 부모 아래로 올리고(path에서 t 제거), t만 휴지통으로 이동
+    @Query("MATCH (t:Task {id: $taskId, owner: $email}) WHERE NOT t.path STARTS WITH \"/trash/\" " +
+            "MATCH (p:Task)-[pr:BELONGS_TO]->(t) " +
+            "MATCH (d:Task {owner: $email, path: \"/trash/\"}) " +
             "OPTIONAL MATCH (t)-[cr:BELONGS_TO]->(c:Task) " +
-            "WITH t, p, pr, collect(c) as cs, collect(cr) as crs " +
-            "FOREACH (c IN cs | CREATE (p)-[:BELONGS_TO]->(c)) " +
-            "WITH t, p, pr, crs " +
+            "WITH t, p, pr, d, collect(c) as cs, collect(cr) as crs " +
+            "FOREACH (c IN cs | CREATE (p)-[:BELONGS_TO]->(c) SET c.parentId = p.id) " +
             "FOREACH (cr IN crs | DELETE cr) " +
-            "WITH t, p, pr " +
-            "MATCH (u:User {email: $email})-[:CREATED_BY]->(d:Task {id: \"trash\"}) " +
             "CREATE (d)-[:BELONGS_TO]->(t) " +
-            "SET t.deleteTime = datetime() " +
+            "SET t.parentId = d.id, t.deleteTime = datetime() " +
             "DELETE pr " +
+            "WITH t, p, d, t.path AS oldPath " +
+            "CALL { WITH t, p, oldPath " +
+            "  MATCH (sub:Task) WHERE sub.owner = $email AND sub.path STARTS WITH oldPath AND sub <> t " +
+            "  SET sub.path = p.path + substring(sub.path, size(oldPath)) } " +
+            "SET t.path = d.path + t.id + \"/\" " +
             "RETURN COUNT(t)")
     Mono<Integer> deleteTaskById(String email, String taskId);
 
-    // 특정 날짜에 포함되는 노드(할 일)들 조회
-    @Query("MATCH (u:User {email: $email})-[CREATED_BY]->(r:Task {id: \"root\"}), (r)-[BELONGS_TO*]->(t:Task) " +
-    		"WHERE ((date(t.startDate) >= date($startDate) AND date(t.startDate) <= date($endDate)) " +
-    		"OR (date(t.endDate) >= date($startDate) AND DATE(t.endDate) <= DATE($endDate))) RETURN t")
-    Flux<Task> findTasksByDate(@Param("email")String email, @Param("startDate")String startDate, @Param("endDate")String endDate);
+    // 특정 기간 [windowStart, windowEnd) 과 겹치는 노드(할 일)들 조회
+    // (owner, startDate) / (owner, endDate) 복합 인덱스 범위 탐색 후, 루트 하위(휴지통/아카이브 제외)인지 path로 확인
+    // ((owner, path) 접두사 탐색은 루트 하위 전체를 읽으므로 인덱스 힌트로 고정)
+    // windowStart 이전에 시작한 할 일은 가장 긴 할 일 기간 안에서만 찾으므로, 탐색 범위는 기록 전체가 아닌 기간 크기에 비례
+    // UNION 결과 순서는 보장되지 않으므로 (priority, id) 순서로 정렬
+    @Query("OPTIONAL MATCH (u:User {email: $email}) " +
+            "WITH $windowStart - duration({seconds: coalesce(u.maxTaskSpan, 0)}) AS earliestStart " +
+            "CALL { WITH earliestStart " +
+            "  MATCH (t:Task) USING INDEX t:Task(owner, startDate) " +
+            "  WHERE t.owner = $email AND t.startDate >= earliestStart AND t.startDate < $windowEnd " +
+            "  AND coalesce(t.endDate, t.startDate) >= $windowStart " +
+            "  AND t.path STARTS WITH \"/root/\" " +
+            "  RETURN t " +
+            "  UNION " +
+            "  MATCH (t:Task) USING INDEX t:Task(owner, endDate) " +
+            "  WHERE t.owner = $email AND t.endDate >= $windowStart AND t.endDate < $windowEnd AND t.startDate IS NULL " +
+            "  AND t.path STARTS WITH \"/root/\" " +
+            "  RETURN t } " +
+            "RETURN t " +
+            "ORDER BY t.priority, t.id")
+    Flux<Task> findTasksByDate(@Param("email")String email, @Param("windowStart")LocalDateTime windowStart, @Param("windowEnd")LocalDateTime windowEnd);
 
     // 사용자가 갖고 있는 모든 노드(할 일)들을 조회
-    @Query("MATCH (u:User {email: $email})-[CREATED_BY]->(r:Task {id: \"root\"}), (r)-[BELONGS_TO*]->(t:Task) RETURN t")
+    @Query("MATCH (t:Task) WHERE t.owner = $email AND t.path STARTS WITH \"/root/\" AND t.path <> \"/root/\" RETURN t")
     Flux<Task> findAllTasks(@Param("email")String email);
 
+    // 사용자가 갖고 있는 모든 노드(할 일)들을 페이지 단위로 조회 - (priority, id) keyset
+    // (owner, priority, id) 인덱스를 커서 위치부터 순서대로 읽고 루트 하위가 아닌 노드는 건너뜀
+    @Query("MATCH (t:Task) USING INDEX t:Task(owner, priority, id) " +
+            "WHERE t.owner = $email AND t.priority >= coalesce($cursorPriority, -2147483648) AND t.id IS NOT NULL " +
+            "AND (t.priority > coalesce($cursorPriority, -2147483648) OR t.id > coalesce($cursorId, \"\")) " +
+            "AND t.path STARTS WITH \"/root/\" AND t.path <> \"/root/\" " +
+            "RETURN t " +
+            "ORDER BY t.priority, t.id " +
+            "LIMIT $limit")
+    Flux<Task> findAllTasksPage(String email, Integer cursorPriority, String cursorId, int limit);
+
     // 노드 서브트리 Cascade 영구삭제
-    @Query("MATCH (t:Task {id: $taskId}) " +
-            "OPTIONAL MATCH (t)-[r:BELONGS_TO*]->(c:Task) " +
-            "WITH t, collect(DISTINCT c) as cs " +
-            "FOREACH (n IN cs | DETACH DELETE n) " +
-            "DETACH DELETE t " +
-            "RETURN SIZE(cs) + CASE WHEN t IS NOT NULL THEN 1 ELSE 0 END")
-    Mono<Integer> dropTaskByIdWithCascade(String taskId);
+    @Query("MATCH (t:Task {id: $taskId, owner: $email}) " +
+            "MATCH (sub:Task) WHERE sub.owner = $email AND sub.path STARTS WITH t.path " +
+            "DETACH DELETE sub " +
+            "RETURN COUNT(sub)")
+    Mono<Integer> dropTaskByIdWithCascade(String email, String taskId);
 
-    // 단일 노드 영구 삭제
-    @Query("MATCH (t:Task {id: $taskId}) " +
+    // 단일 노드 영구 삭제 - 자식 서브트리는 부모 아래로 올림 (path에서 t 제거)
+    @Query("MATCH (t:Task {id: $taskId, owner: $email}) " +
             "OPTIONAL MATCH (p:Task)-[pr:BELONGS_TO]->(t) " +
             "OPTIONAL MATCH (t)-[cr:BELONGS_TO]->(c:Task) " +
             "WITH t, p, collect(c) as cs " +
-            "FOREACH (c IN cs | CREATE (p)-[:BELONGS_TO]->(c)) " +
+            "FOREACH (c IN cs | CREATE (p)-[:BELONGS_TO]->(c) SET c.parentId = p.id) " +
+            "WITH t, p " +
+            "CALL { WITH t, p " +
+            "  MATCH (sub:Task) WHERE sub.owner = $email AND sub.path STARTS WITH t.path AND sub <> t " +
+            "  SET sub.path = p.path + substring(sub.path, size(t.path)) } " +
             "DETACH DELETE t " +
             "RETURN toInteger(CASE WHEN t IS NOT NULL THEN 1 ELSE 0 END)")
-    Mono<Integer> dropTaskById(String taskId);
+    Mono<Integer> dropTaskById(String email, String taskId);
 
     // 휴지통 전체 영구 삭제
-    @Query("MATCH (u:User {email: $email})-[:CREATED_BY]->(d:Task {id: \"trash\"}) " +
-            "OPTIONAL MATCH (d)-[r:BELONGS_TO*]->(c:Task) " +
-            "WITH d, collect(DISTINCT c) as cs " +
-            "FOREACH (n IN cs | DETACH DELETE n) " +
-            "RETURN SIZE(cs)")
+    @Query("MATCH (c:Task) WHERE c.owner = $email AND c.path STARTS WITH \"/trash/\" AND c.path <> \"/trash/\" " +
+            "DETACH DELETE c " +
+            "RETURN COUNT(c)")
     Mono<Integer> emptyTrash(String email);
 
-    // 단순 할 일 노드 복구
-    @Query("MATCH (u:User {email: $email})-[:CREATED_BY]->(d:Task {id: \"trash\"}) " +
-            "MATCH (d)-[:BELONGS_TO*]->(t:Task {id: $taskId}) " +
-            "WITH u, t " +
+    // 단순 할 일 노드 복구 - 휴지통 기준 노드 자체는 복구 대상이 아님 (일괄 복구와 같은 조건)
+    @Query("MATCH (t:Task {id: $taskId, owner: $email}) WHERE t.path STARTS WITH \"/trash/\" AND t.path <> \"/trash/\" " +
             "MATCH (:Task)-[r:BELONGS_TO]->(t) " +
-            "MATCH (u)-[*0..]->(p:Task {id: $parentId}) " +
-            "WITH t, p, r " +
-            "OPTIONAL MATCH (t)-[:BELONGS_TO*]->(c:Task) " +
-            "WITH t, p, r, collect(c) AS cs " +
-            "FOREACH (c IN cs | REMOVE c.deleteTime) " +
-            "REMOVE t.deleteTime " +
+            "MATCH (p:Task {id: $parentId, owner: $email}) WHERE p.path STARTS WITH \"/root/\" " +
             "DELETE r " +
             "CREATE (p)-[:BELONGS_TO]->(t) " +
-            "RETURN toInteger(CASE WHEN t IS NOT NULL THEN size(cs) + 1 ELSE 0 END) AS movedCount")
+            "SET t.parentId = p.id " +
+            "WITH t.path AS oldPath, p.path + t.id + \"/\" AS newPath " +
+            "MATCH (sub:Task) WHERE sub.owner = $email AND sub.path STARTS WITH oldPath " +
+            "REMOVE sub.deleteTime " +
+            "SET sub.path = newPath + substring(sub.path, size(oldPath)) " +
+            "RETURN toInteger(COUNT(sub)) AS movedCount")
     Mono<Integer> restoreTaskById(String email, String parentId, String taskId);
 
-    // taskId가 parentId의 자식(또는 후손)인지 검사
-    @Query("MATCH (a:Task {id: $parentId}) " +
-            "RETURN EXISTS( " +
-            "  (a)-[*0..]->(: Task {id: $taskId}) " +
-            ") AS pathExists")
-    Mono<Boolean> isDescendant(String parentId, String taskId);
+    // taskId가 parentId 자신 또는 후손인지 검사 - taskId 노드의 path에 parentId가 있는지 확인
+    @Query("MATCH (t:Task {id: $taskId, owner: $email}) " +
+            "RETURN t.path CONTAINS \"/\" + $parentId + \"/\" AS pathExists")
+    Mono<Boolean> isDescendant(String email, String parentId, String taskId);
 
     // 단순 할 일 노드 이동
-    @Query("MATCH (u:User {email: $email})-[:CREATED_BY]->(m:Task {id: \"root\"}) " +
-            "MATCH (m)-[:BELONGS_TO*]->(t:Task {id: $taskId}) " +
-            "WITH t, m " +
+    // 새 부모가 자기 자신 또는 후손이면(path 접두사) 이동하지 않음
+    @Query("MATCH (t:Task {id: $taskId, owner: $email}) WHERE t.path STARTS WITH \"/root/\" AND t.path <> \"/root/\" " +
+            "MATCH (p:Task {id: $parentId, owner: $email}) WHERE p.path STARTS WITH \"/root/\" AND NOT p.path STARTS WITH t.path " +
             "MATCH (:Task)-[r:BELONGS_TO]->(t) " +
-            "WITH t, m, r " +
-            "MATCH (m)-[:BELONGS_TO*0..]->(p:Task {id: $parentId}) " +
-            "WITH t, p, r " +
-            "OPTIONAL MATCH (t)-[:BELONGS_TO*]->(c:Task) " +
-            "WITH t, p, r, collect(c) AS cs " +
             "DELETE r " +
             "CREATE (p)-[:BELONGS_TO]->(t) " +
-            "RETURN toInteger(CASE WHEN t IS NOT NULL THEN size(cs) + 1 ELSE 0 END) AS movedCount")
+            "SET t.parentId = p.id " +
+            "WITH t.path AS oldPath, p.path + t.id + \"/\" AS newPath " +
+            "MATCH (sub:Task) WHERE sub.owner = $email AND sub.path STARTS WITH oldPath " +
+            "SET sub.path = newPath + substring(sub.path, size(oldPath)) " +
+            "RETURN toInteger(COUNT(sub)) AS movedCount")
     Mono<Integer> moveTaskById(String email, String parentId, String taskId);
 
     // 단순 할 일 아카이빙
-    @Query("MATCH (u:User {email: $email})-[:CREATED_BY]->(root:Task {id: \"root\"}) " +
-            "MATCH (root)-[:BELONGS_TO*]->(t:Task {id: $taskId}) " +
-            "WITH t " +
+    @Query("MATCH (t:Task {id: $taskId, owner: $email}) WHERE t.path STARTS WITH \"/root/\" AND t.path <> \"/root/\" " +
             "MATCH (p:Task)-[r:BELONGS_TO]->(t) " +
-            "WITH p, t, r " +
-            "MATCH (u:User {email: $email})-[:CREATED_BY]->(a:Task {id: \"archive\"}) " +
-            "CREATE (a)-[:BELONGS_TO]->(t) " +
-            "WITH p, t, r " +
-            "MATCH (t)-[*0..]->(sub:Task) " +
-            "SET t.originalParentId = p.id, sub.originalParentId = p.id " +
+            "MATCH (a:Task {owner: $email, path: \"/archive/\"}) " +
             "DELETE r " +
-            "RETURN COUNT(DISTINCT sub)")
+            "CREATE (a)-[:BELONGS_TO]->(t) " +
+            "SET t.parentId = a.id " +
+            "WITH p.id AS originalParentId, t.path AS oldPath, a.path + t.id + \"/\" AS newPath " +
+            "MATCH (sub:Task) WHERE sub.owner = $email AND sub.path STARTS WITH oldPath " +
+            "SET sub.originalParentId = originalParentId, sub.path = newPath + substring(sub.path, size(oldPath)) " +
+            "RETURN COUNT(sub)")
     Mono<Integer> archiveTaskById(String email, String taskId);
 
+    // 일괄 작업 - 같은 종류의 연속된 작업들을 한 쿼리로 실행
+    // CALL 서브쿼리는 행마다 순서대로 실행되어 앞 행의 변경(생성한 부모, 바뀐 path)을 다음 행이 봄
+    // 대상이 없거나 조건에 맞지 않는 행은 결과에서 빠지거나 affectedNodes가 0
+
+    // 일괄 작업 - 생성
+    @Query("UNWIND $ops AS op " +
+            "CALL { WITH op " +
+            "  MATCH (p:Task {id: op.parentId, owner: $email}) " +
+            "  CREATE (t:Task { " +
+            "  id: op.taskId, " +
+            "  name: op.name, " +
+            "  memo: op.memo, " +
+            "  startDate: op.startDate, " +
+            "  endDate: op.endDate, " +
+            "  priority: coalesce(op.priority, 0), " +
+            "  check: op.check, " +
+            "  owner: $email, " +
+            "  parentId: p.id, " +
+            "  path: p.path + op.taskId + \"/\" " +
+            "  }) " +
+            "  CREATE (p)-[:BELONGS_TO]->(t) " +
+            "  WITH t " +
+            "  CALL { WITH t " +
+            "    MATCH (u:User {email: t.owner}) " +
+            "    WITH u, duration.inSeconds(t.startDate, t.endDate).seconds AS span " +
+            "    WHERE span > coalesce(u.maxTaskSpan, 0) " +
+            "    SET u.maxTaskSpan = span } " +
+            "  RETURN 1 AS affectedNodes } " +
+            "RETURN op.index AS index, affectedNodes")
+    Flux<TasksDto.TaskBatchRowDto> createTasks(String email, List<Map<String, Object>> ops);
+
+    // 일괄 작업 - 수정
+    @Query("UNWIND $ops AS op " +
+            "CALL { WITH op " +
+            "  MATCH (t:Task {id: op.taskId, owner: $email}) " +
+            "  SET t.name = op.name, t.memo = op.memo, t.startDate = op.startDate, t.endDate = op.endDate, " +
+            "      t.priority = coalesce(op.priority, 0), t.check = op.check " +
+            "  WITH t " +
+            "  CALL { WITH t " +
+            "    MATCH (u:User {email: t.owner}) " +
+            "    WITH u, duration.inSeconds(t.startDate, t.endDate).seconds AS span " +
+            "    WHERE span > coalesce(u.maxTaskSpan, 0) " +
+            "    SET u.maxTaskSpan = span } " +
+            "  RETURN 1 AS affectedNodes } " +
+            "RETURN op.index AS index, affectedNodes")
+    Flux<TasksDto.TaskBatchRowDto> updateTasks(String email, List<Map<String, Object>> ops);
+
+    // 일괄 작업 - 이동 (새 부모가 자기 자신 또는 후손이면 이동하지 않음)
+    @Query("UNWIND $ops AS op " +
+            "CALL { WITH op " +
+            "  MATCH (t:Task {id: op.taskId, owner: $email}) WHERE t.path STARTS WITH \"/root/\" AND t.path <> \"/root/\" " +
+            "  MATCH (p:Task {id: op.parentId, owner: $email}) WHERE p.path STARTS WITH \"/root/\" AND NOT p.path STARTS WITH t.path " +
+            "  MATCH (:Task)-[r:BELONGS_TO]->(t) " +
+            "  DELETE r " +
+            "  CREATE (p)-[:BELONGS_TO]->(t) " +
+            "  SET t.parentId = p.id " +
+            "  WITH t.path AS oldPath, p.path + t.id + \"/\" AS newPath " +
+            "  MATCH (sub:Task) WHERE sub.owner = $email AND sub.path STARTS WITH oldPath " +
+            "  SET sub.path = newPath + substring(sub.path, size(oldPath)) " +
+            "  RETURN toInteger(COUNT(sub)) AS affectedNodes } " +
+            "RETURN op.index AS index, affectedNodes")
+    Flux<TasksDto.TaskBatchRowDto> moveTasks(String email, List<Map<String, Object>> ops);
+
+    // 일괄 작업 - 서브트리 Cascade 삭제 (휴지통으로 이동)
+    @Query("UNWIND $ops AS op " +
+            "CALL { WITH op " +
+            "  MATCH (t:Task {id: op.taskId, owner: $email}) WHERE NOT t.path STARTS WITH \"/trash/\" " +
+            "  MATCH (p:Task)-[r:BELONGS_TO]->(t) " +
+            "  MATCH (d:Task {owner: $email, path: \"/trash/\"}) " +
+            "  DELETE r " +
+            "  CREATE (d)-[:BELONGS_TO]->(t) " +
+            "  SET t.parentId = d.id, t.deleteTime = datetime() " +
+            "  WITH t.path AS oldPath, d.path + t.id + \"/\" AS newPath " +
+            "  MATCH (sub:Task) WHERE sub.owner = $email AND sub.path STARTS WITH oldPath " +
+            "  SET sub.path = newPath + substring(sub.path, size(oldPath)) " +
+            "  RETURN toInteger(COUNT(sub)) AS affectedNodes } " +
+            "RETURN op.index AS index, affectedNodes")
+    Flux<TasksDto.TaskBatchRowDto> deleteTasksWithCascade(String email, List<Map<String, Object>> ops);
+
+    // 일괄 작업 - 단일 노드 삭제 (자식 서브트리는 부모 아래로 올리고 t만 휴지통으로 이동)
+    @Query("UNWIND $ops AS op " +
+            "CALL { WITH op " +
+            "  MATCH (t:Task {id: op.taskId, owner: $email}) WHERE NOT t.path STARTS WITH \"/trash/\" " +
+            "  MATCH (p:Task)-[pr:BELONGS_TO]->(t) " +
+            "  MATCH (d:Task {owner: $email, path: \"/trash/\"}) " +
+            "  OPTIONAL MATCH (t)-[cr:BELONGS_TO]->(c:Task) " +
+            "  WITH t, p, pr, d, collect(c) as cs, collect(cr) as crs " +
+            "  FOREACH (c IN cs | CREATE (p)-[:BELONGS_TO]->(c) SET c.parentId = p.id) " +
+            "  FOREACH (cr IN crs | DELETE cr) " +
+            "  CREATE (d)-[:BELONGS_TO]->(t) " +
+            "  SET t.parentId = d.id, t.deleteTime = datetime() " +
+            "  DELETE pr " +
+            "  WITH t, p, d, t.path AS oldPath " +
+            "  CALL { WITH t, p, oldPath " +
+            "    MATCH (sub:Task) WHERE sub.owner = $email AND sub.path STARTS WITH oldPath AND sub <> t " +
+            "    SET sub.path = p.path + substring(sub.path, size(oldPath)) } " +
+            "  SET t.path = d.path + t.id + \"/\" " +
+            "  RETURN toInteger(COUNT(t)) AS affectedNodes } " +
+            "RETURN op.index AS index, affectedNodes")
+    Flux<TasksDto.TaskBatchRowDto> deleteTasks(String email, List<Map<String, Object>> ops);
+
+    // 일괄 작업 - 아카이빙
+    @Query("UNWIND $ops AS op " +
+            "CALL { WITH op " +
+            "  MATCH (t:Task {id: op.taskId, owner: $email}) WHERE t.path STARTS WITH \"/root/\" AND t.path <> \"/root/\" " +
+            "  MATCH (p:Task)-[r:BELONGS_TO]->(t) " +
+            "  MATCH (a:Task {owner: $email, path: \"/archive/\"}) " +
+            "  DELETE r " +
+            "  CREATE (a)-[:BELONGS_TO]->(t) " +
+            "  SET t.parentId = a.id " +
+            "  WITH p.id AS originalParentId, t.path AS oldPath, a.path + t.id + \"/\" AS newPath " +
+            "  MATCH (sub:Task) WHERE sub.owner = $email AND sub.path STARTS WITH oldPath " +
+            "  SET sub.originalParentId = originalParentId, sub.path = newPath + substring(sub.path, size(oldPath)) " +
+            "  RETURN toInteger(COUNT(sub)) AS affectedNodes } " +
+            "RETURN op.index AS index, affectedNodes")
+    Flux<TasksDto.TaskBatchRowDto> archiveTasks(String email, List<Map<String, Object>> ops);
+
+    // 일괄 작업 - 휴지통에서 복구
+    @Query("UNWIND $ops AS op " +
+            "CALL { WITH op " +
+            "  MATCH (t:Task {id: op.taskId, owner: $email}) WHERE t.path STARTS WITH \"/trash/\" AND t.path <> \"/trash/\" " +
+            "  MATCH (:Task)-[r:BELONGS_TO]->(t) " +
+            "  MATCH (p:Task {id: op.parentId, owner: $email}) WHERE p.path STARTS WITH \"/root/\" " +
+            "  DELETE r " +
+            "  CREATE (p)-[:BELONGS_TO]->(t) " +
+            "  SET t.parentId = p.id " +
+            "  WITH t.path AS oldPath, p.path + t.id + \"/\" AS newPath " +
+            "  MATCH (sub:Task) WHERE sub.owner = $email AND sub.path STARTS WITH oldPath " +
+            "  REMOVE sub.deleteTime " +
+            "  SET sub.path = newPath + substring(sub.path, size(oldPath)) " +
+            "  RETURN toInteger(COUNT(sub)) AS affectedNodes } " +
+            "RETURN op.index AS index, affectedNodes")
+    Flux<TasksDto.TaskBatchRowDto> restoreTasks(String email, List<Map<String, Object>> ops);
+
     // 단순 할 일 아카이빙 해제 - 기존 부모 ID 사용
-    @Query("MATCH (u:User {email: $email})-[:CREATED_BY]->(a:Task {id: \"archive\"}) " +
-            "MATCH (a)-[:BELONGS_TO*]->(t:Task {id: $taskId}) " +
-            "WITH t " +
+    @Query("MATCH (t:Task {id: $taskId, owner: $email}) WHERE t.path STARTS WITH \"/archive/\" AND t.path <> \"/archive/\" " +
             "MATCH (:Task)-[r:BELONGS_TO]->(t) " +
-            "WITH t, r " +
-            "MATCH (u:User {email: $email})-[:CREATED_BY]->(root:Task {id: \"root\"}) " +
-            "OPTIONAL MATCH (root)-[:BELONGS_TO*]->(p:Task {id: t.originalParentId}) " +
-            "WITH t, r, COALESCE(p, root) AS p " +
-            "WITH t, p, r " +
-            "OPTIONAL MATCH (t)-[:BELONGS_TO*]->(c:Task) " +
-            "WITH t, p, r, collect(c) AS cs " +
-            "FOREACH (c IN cs | REMOVE c.originalParentId) " +
-            "REMOVE t.originalParentId " +
+            "MATCH (root:Task {owner: $email, path: \"/root/\"}) " +
+            "OPTIONAL MATCH (o:Task {id: t.originalParentId, owner: $email}) WHERE o.path STARTS WITH \"/root/\" " +
+            "WITH t, r, COALESCE(o, root) AS p " +
             "DELETE r " +
             "CREATE (p)-[:BELONGS_TO]->(t) " +
-            "RETURN toInteger(CASE WHEN t IS NOT NULL THEN size(cs) + 1 ELSE 0 END) AS archivedNodes, p.id AS parentId, t.id AS taskId")
+            "SET t.parentId = p.id " +
+            "WITH t.id AS taskId, p.id AS parentId, t.path AS oldPath, p.path + t.id + \"/\" AS newPath " +
+            "MATCH (sub:Task) WHERE sub.owner = $email AND sub.path STARTS WITH oldPath " +
+            "REMOVE sub.originalParentId " +
+            "SET sub.path = newPath + substring(sub.path, size(oldPath)) " +
+            "RETURN toInteger(COUNT(sub)) AS archivedNodes, parentId, taskId")
     Mono<TasksDto.TaskUnarchiveResponse> unarchiveTaskByIdWithOriginalParent(String email, String taskId);
 
     // 단순 할 일 아카이빙 해제 - 입력한 부모 ID 사용
-    @Query("MATCH (u:User {email: $email})-[:CREATED_BY]->(a:Task {id: \"archive\"}) " +
-            "MATCH (a)-[:BELONGS_TO*]->(t:Task {id: $taskId}) " +
-            "WITH t " +
+    @Query("MATCH (t:Task {id: $taskId, owner: $email}) WHERE t.path STARTS WITH \"/archive/\" AND t.path <> \"/archive/\" " +
             "MATCH (:Task)-[r:BELONGS_TO]->(t) " +
-            "WITH t, r " +
-            "MATCH (u:User {email: $email})-[:CREATED_BY]->(root:Task {id: \"root\"}) " +
-            "OPTIONAL MATCH (root)-[:BELONGS_TO*]->(p:Task {id: $parentId}) " +
-            "WITH t, r, COALESCE(p, root) AS p " +
-            "WITH t, p, r " +
-            "OPTIONAL MATCH (t)-[:BELONGS_TO*]->(c:Task) " +
-            "WITH t, p, r, collect(c) AS cs " +
-            "FOREACH (c IN cs | REMOVE c.originalParentId) " +
-            "REMOVE t.originalParentId " +
+            "MATCH (root:Task {owner: $email, path: \"/root/\"}) " +
+            "OPTIONAL MATCH (o:Task {id: $parentId, owner: $email}) WHERE o.path STARTS WITH \"/root/\" " +
+            "WITH t, r, COALESCE(o, root) AS p " +
             "DELETE r " +
             "CREATE (p)-[:BELONGS_TO]->(t) " +
-            "RETURN toInteger(CASE WHEN t IS NOT NULL THEN size(cs) + 1 ELSE 0 END) AS archivedNodes, p.id AS parentId, t.id AS taskId")
+            "SET t.parentId = p.id " +
+            "WITH t.id AS taskId, p.id AS parentId, t.path AS oldPath, p.path + t.id + \"/\" AS newPath " +
+            "MATCH (sub:Task) WHERE sub.owner = $email AND sub.path STARTS WITH oldPath " +
+            "REMOVE sub.originalParentId " +
+            "SET sub.path = newPath + substring(sub.path, size(oldPath)) " +
+            "RETURN toInteger(COUNT(sub)) AS archivedNodes, parentId, taskId")
     Mono<TasksDto.TaskUnarchiveResponse> unarchiveTaskByIdWithSpecificParent(String email, String parentId, String taskId);
 
-    @Query("MATCH (u:User {email: $email})-->(Task {id: $taskType})-[*1..]->(t:Task) " +
-            "WHERE t.name CONTAINS $text " +
+    @Query("MATCH (t:Task) " +
+            "WHERE t.owner = $email AND t.path STARTS WITH \"/\" + $taskType + \"/\" AND t.id <> $taskType " +
+            "AND t.name CONTAINS $text " +
             "RETURN t")
     Flux<Task> searchTaskByName(String email, String taskType, String text);
+
+    // 문자열 검색 페이지 조회 - (priority, id) keyset
+    // (owner, priority, id) 인덱스를 커서 위치부터 순서대로 읽으므로 limit개를 채우면 탐색을 멈춤
+    @Query("MATCH (t:Task) USING INDEX t:Task(owner, priority, id) " +
+            "WHERE t.owner = $email AND t.priority >= coalesce($cursorPriority, -2147483648) AND t.id IS NOT NULL " +
+            "AND (t.priority > coalesce($cursorPriority, -2147483648) OR t.id > coalesce($cursorId, \"\")) " +
+            "AND t.path STARTS WITH \"/\" + $taskType + \"/\" AND t.id <> $taskType " +
+            "AND t.name CONTAINS $text " +
+            "RETURN t " +
+            "ORDER BY t.priority, t.id " +
+            "LIMIT $limit")
+    Flux<Task> searchTaskPageByName(String email, String taskType, String text, Integer cursorPriority, String cursorId, int limit);
+
+    // 전문 검색 인덱스(task_text) 기반 관련도 순 검색 - $query에는 owner 조건이 포함된 Lucene 질의
+    @Query("CALL db.index.fulltext.queryNodes(\"task_text\", $query) YIELD node, score " +
+            "WHERE node.owner = $email AND node.path STARTS WITH \"/\" + $taskType + \"/\" AND node.id <> $taskType " +
+            "RETURN node " +
+            "ORDER BY score DESC " +
+            "SKIP $offset " +
+            "LIMIT $limit")
+    Flux<Task> searchTaskByFullText(String email, String taskType, String query, int offset, int limit);
 }
@@ -16,7 +16,10 @@ public interface UserRepository extends ReactiveNeo4jRepository<User, String> {
     Mono<User> findUserByEmail(String email);
 
     // 사용자와 관련된 Role, Oauth, Jwt 함께 조회
-    @Query("MATCH (u:User)-[:HAS_ROLE]->(r:Role), (u)-[:HAS_OAUTH]->(o:Oauth), (u)-[:HAS_JWT]->(j:Jwt) WHERE u.email = $email RETURN u, r, o, j")
+    // 로그인마다 Jwt 노드가 있으므로 가장 최근 것 하나만
+    @Query("MATCH (u:User)-[:HAS_ROLE]->(r:Role), (u)-[:HAS_OAUTH]->(o:Oauth), (u)-[:HAS_JWT]->(j:Jwt) WHERE u.email = $email " +
+            "WITH u, r, o, j ORDER BY j.ttl DESC LIMIT 1 " +
+            "RETURN u, r, o, j")
     Mono<User> findUserWithRelationshipsByEmail(String email);
 
     @Query("MATCH (u:User {email: $email})-[*0..]-(connected) DETACH DELETE connected, u")
@@ -31,9 +34,9 @@ public interface UserRepository extends ReactiveNeo4jRepository<User, String> {
             + " (u)-[:HAS_OAUTH]->(o),"
             + " (u)-[:HAS_ROLE]->(r),"
             + " (u)-[:HAS_JWT]->(j),"
-            + " (root:Task {id: \"root\", name: \"root\"}),"
-            + " (trash:Task {id: \"trash\", name: \"trash\"}),"
-            + " (archive:Task {id: \"archive\", name: \"archive\"}),"
+            + " (root:Task {id: \"root\", name: \"root\", owner: $email, path: \"/root/\"}),"
+            + " (trash:Task {id: \"trash\", name: \"trash\", owner: $email, path: \"/trash/\"}),"
+            + " (archive:Task {id: \"archive\", name: \"archive\", owner: $email, path: \"/archive/\"}),"
             + " (u)-[:BELONGS_TO]->(root),"
             + " (u)-[:BELONGS_TO]->(trash),"
             + " (u)-[:BELONGS_TO]->(archive)"
@@ -43,8 +46,12 @@ public interface UserRepository extends ReactiveNeo4jRepository<User, String> {
                                 RoleEnum roleType,
                                 String refreshToken, Date ttl);
 
-    @Query("MATCH (u:User {email: $email})-[:HAS_JWT]->(j:Jwt)"
-            + " SET j.refresh = $newRefreshToken, j.ttl = datetime($newTtl)"
+    // 로그인 시 새 refresh 토큰 family(Jwt 노드) 추가 - 다른 기기의 로그인은 그대로 두고, 만료된 family는 정리
+    @Query("MATCH (u:User {email: $email})"
+            + " OPTIONAL MATCH (u)-[:HAS_JWT]->(expired:Jwt) WHERE expired.ttl < datetime()"
+            + " DETACH DELETE expired"
+            + " WITH DISTINCT u"
+            + " CREATE (u)-[:HAS_JWT]->(j:Jwt {family: $family, refresh: $refreshToken, ttl: datetime($ttl), jti: $jti})"
             + " RETURN j")
-    Mono<Jwt> findUserAndUpdateJwt(String email, String newRefreshToken, Date newTtl);
+    Mono<Jwt> createJwtFamily(String email, String family, String refreshToken, Date ttl, String jti);
 }
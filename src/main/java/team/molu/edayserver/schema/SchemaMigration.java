@@ -0,0 +1,19 @@
+package team.molu.edayserver.schema;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 하나의 스키마 버전에 해당하는 Cypher 스키마 명령 묶음.
+ * 모든 명령은 IF NOT EXISTS 등으로 멱등해야 하며, indexNames에는 이 버전이 만드는 인덱스(제약조건 포함) 이름을 적습니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class SchemaMigration {
+    private final int version;
+    private final String description;
+    private final List<String> statements;
+    private final List<String> indexNames;
+}
@@ -0,0 +1,90 @@
+package team.molu.edayserver.schema;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 애플리케이션 시작 시 Neo4j 스키마(제약조건, 인덱스)를 최신 버전으로 맞춥니다.
+ * 적용된 버전은 (:SchemaVersion) 노드에 기록하고, 기대하는 인덱스가 모두 ONLINE이 아니면 시작을 중단합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "eday.schema.migration.enabled", havingValue = "true", matchIfMissing = true)
+public class SchemaMigrationRunner implements ApplicationRunner {
+    private final Driver driver;
+
+    @Value("${eday.schema.await-timeout-seconds:300}")
+    private long awaitTimeoutSeconds;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try (Session session = driver.session()) {
+            int currentVersion = currentVersion(session);
+            log.info("Neo4j schema version : {} (latest {})", currentVersion, SchemaMigrations.latestVersion());
+
+            for (SchemaMigration migration : SchemaMigrations.ALL) {
+                if (migration.getVersion() <= currentVersion) {
+                    continue;
+                }
+                log.info("Applying schema migration V{} : {}", migration.getVersion(), migration.getDescription());
+                // 스키마 명령은 데이터 변경과 같은 트랜잭션에 둘 수 없으므로 auto-commit으로 실행
+                for (String statement : migration.getStatements()) {
+                    session.run(statement).consume();
+                }
+                session.run("MERGE (v:SchemaVersion {id: \"eday\"}) " +
+                                "SET v.version = $version, v.description = $description, v.appliedAt = datetime()",
+                        Map.of("version", migration.getVersion(), "description", migration.getDescription()))
+                        .consume();
+            }
+
+            verifyIndexesOnline(session);
+        }
+    }
+
+    private int currentVersion(Session session) {
+        List<Record> records = session.run("MATCH (v:SchemaVersion {id: \"eday\"}) RETURN v.version AS version").list();
+        if (records.isEmpty() || records.get(0).get("version").isNull()) {
+            return 0;
+        }
+        return records.get(0).get("version").asInt();
+    }
+
+    private void verifyIndexesOnline(Session session) {
+        List<String> expected = new ArrayList<>();
+        for (SchemaMigration migration : SchemaMigrations.ALL) {
+            expected.addAll(migration.getIndexNames());
+        }
+
+        session.run("CALL db.awaitIndexes($timeout)", Map.of("timeout", awaitTimeoutSeconds)).consume();
+
+        Map<String, String> states = new HashMap<>();
+        session.run("SHOW INDEXES YIELD name, state WHERE name IN $names RETURN name, state", Map.of("names", expected))
+                .forEachRemaining(record -> states.put(record.get("name").asString(), record.get("state").asString()));
+
+        List<String> notOnline = new ArrayList<>();
+        for (String name : expected) {
+            String state = states.get(name);
+            if (!"ONLINE".equals(state)) {
+                notOnline.add(name + "=" + (state != null ? state : "MISSING"));
+            }
+        }
+        if (!notOnline.isEmpty()) {
+            throw new IllegalStateException("Neo4j indexes are not ONLINE: " + notOnline);
+        }
+        log.info("Neo4j schema indexes ONLINE : {}", expected);
+    }
+}
@@ -0,0 +1,117 @@
+package team.molu.edayserver.schema;
+
+import java.util.List;
+
+/**
+ * 애플리케이션이 기대하는 Neo4j 스키마 버전 목록. 새 버전은 항상 목록 끝에 추가합니다.
+ */
+public final class SchemaMigrations {
+    public static final List<SchemaMigration> ALL = List.of(
+            // Task.id는 사용자마다 root/trash/archive 노드가 같은 id를 가지므로 유니크 제약 대신 인덱스로 생성
+            new SchemaMigration(1, "Task.id index, User.email unique constraint",
+                    List.of(
+                            "CREATE CONSTRAINT user_email_unique IF NOT EXISTS FOR (u:User) REQUIRE u.email IS UNIQUE",
+                            "CREATE INDEX task_id IF NOT EXISTS FOR (t:Task) ON (t.id)"
+                    ),
+                    List.of("user_email_unique", "task_id")),
+            // 기존 Task에 owner를 채우고, 문자열로 저장된 날짜를 LocalDateTime으로 변환한 뒤 기간 조회용 복합 인덱스 생성
+            new SchemaMigration(2, "Task.owner backfill, native dates, (owner, startDate/endDate) indexes",
+                    List.of(
+                            "MATCH (u:User)-->(b:Task) WHERE b.id IN [\"root\", \"trash\", \"archive\"] " +
+                                    "CALL { WITH u, b " +
+                                    "  MATCH (b)-[:BELONGS_TO*0..]->(t:Task) " +
+                                    "  SET t.owner = u.email " +
+                                    "} IN TRANSACTIONS OF 10 ROWS",
+                            "MATCH (t:Task) WHERE t.startDate IS NOT NULL AND toString(t.startDate) = t.startDate " +
+                                    "CALL { WITH t " +
+                                    "  SET t.startDate = localdatetime(CASE WHEN size(t.startDate) = 10 THEN t.startDate + \"T00:00\" ELSE t.startDate END) " +
+                                    "} IN TRANSACTIONS OF 10000 ROWS",
+                            "MATCH (t:Task) WHERE t.endDate IS NOT NULL AND toString(t.endDate) = t.endDate " +
+                                    "CALL { WITH t " +
+                                    "  SET t.endDate = localdatetime(CASE WHEN size(t.endDate) = 10 THEN t.endDate + \"T00:00\" ELSE t.endDate END) " +
+                                    "} IN TRANSACTIONS OF 10000 ROWS",
+                            "CREATE INDEX task_owner_start_date IF NOT EXISTS FOR (t:Task) ON (t.owner, t.startDate)",
+                            "CREATE INDEX task_owner_end_date IF NOT EXISTS FOR (t:Task) ON (t.owner, t.endDate)"
+                    ),
+                    List.of("task_owner_start_date", "task_owner_end_date")),
+            // 한글 이름/메모 검색을 위해 CJK bigram 분석기 사용, owner도 색인하여 인덱스 질의 안에서 소유자 필터링
+            new SchemaMigration(3, "Task name/memo/owner full-text index",
+                    List.of(
+                            "CREATE FULLTEXT INDEX task_text IF NOT EXISTS FOR (t:Task) ON EACH [t.name, t.memo, t.owner] " +
+                                    "OPTIONS {indexConfig: {`fulltext.analyzer`: \"cjk\"}}"
+                    ),
+                    List.of("task_text")),
+            // 델타 동기화 변경 기록 조회(owner, rev) / 보존 기간 압축(at) 인덱스
+            new SchemaMigration(4, "TaskChange (owner, rev) and at indexes",
+                    List.of(
+                            "CREATE INDEX task_change_owner_rev IF NOT EXISTS FOR (c:TaskChange) ON (c.owner, c.rev)",
+                            "CREATE INDEX task_change_at IF NOT EXISTS FOR (c:TaskChange) ON (c.at)"
+                    ),
+                    List.of("task_change_owner_rev", "task_change_at")),
+            // 폐기 토큰 jti 유일성 / 만료 항목 정리(expiresAt) 인덱스
+            new SchemaMigration(5, "RevokedToken.jti unique constraint, expiresAt index",
+                    List.of(
+                            "CREATE CONSTRAINT revoked_token_jti_unique IF NOT EXISTS FOR (r:RevokedToken) REQUIRE r.jti IS UNIQUE",
+                            "CREATE INDEX revoked_token_expires_at IF NOT EXISTS FOR (r:RevokedToken) ON (r.expiresAt)"
+                    ),
+                    List.of("revoked_token_jti_unique", "revoked_token_expires_at")),
+            // 기준 노드부터의 id 경로(materialized path) backfill, 서브트리 접두사 조회용 (owner, path) 인덱스
+            new SchemaMigration(6, "Task.path backfill, (owner, path) index",
+                    List.of(
+                            "CREATE INDEX task_owner_path IF NOT EXISTS FOR (t:Task) ON (t.owner, t.path)",
+                            "MATCH (u:User)-->(b:Task) WHERE b.id IN [\"root\", \"trash\", \"archive\"] " +
+                                    "SET b.path = \"/\" + b.id + \"/\"",
+                            "MATCH (u:User)-->(b:Task) WHERE b.id IN [\"root\", \"trash\", \"archive\"] " +
+                                    "CALL { WITH b " +
+                                    "  MATCH p = (b)-[:BELONGS_TO*1..]->(t:Task) " +
+                                    "  SET t.path = reduce(s = \"/\", n IN nodes(p) | s + n.id + \"/\") " +
+                                    "} IN TRANSACTIONS OF 10 ROWS"
+                    ),
+                    List.of("task_owner_path")),
+            // id로 찾는 모든 쿼리가 owner를 함께 비교하므로 (id, owner) 복합 인덱스 생성
+            // owner 없이 남은 노드가 있으면 다른 사용자뿐 아니라 소유자에게도 보이지 않으므로 기준 노드의 owner로 채움
+            new SchemaMigration(7, "Task (id, owner) index, Task.owner backfill",
+                    List.of(
+                            "CREATE INDEX task_id_owner IF NOT EXISTS FOR (t:Task) ON (t.id, t.owner)",
+                            "MATCH (u:User)-->(b:Task) WHERE b.id IN [\"root\", \"trash\", \"archive\"] " +
+                                    "CALL { WITH u, b " +
+                                    "  MATCH (b)-[:BELONGS_TO*0..]->(t:Task) WHERE t.owner IS NULL " +
+                                    "  SET t.owner = u.email " +
+                                    "} IN TRANSACTIONS OF 10 ROWS"
+                    ),
+                    List.of("task_id_owner")),
+            // 기간 조회의 startDate 탐색 하한으로 쓰는 사용자별 가장 긴 할 일 기간(초) backfill - 이후에는 쓰기 쿼리가 유지
+            new SchemaMigration(8, "User.maxTaskSpan backfill",
+                    List.of(
+                            "MATCH (u:User) " +
+                                    "CALL { WITH u " +
+                                    "  MATCH (t:Task) WHERE t.owner = u.email AND t.startDate IS NOT NULL AND t.endDate IS NOT NULL " +
+                                    "  WITH u, max(duration.inSeconds(t.startDate, t.endDate).seconds) AS span " +
+                                    "  SET u.maxTaskSpan = CASE WHEN span > 0 THEN span ELSE 0 END " +
+                                    "} IN TRANSACTIONS OF 10 ROWS"
+                    ),
+                    List.of()),
+            // (priority, id) keyset 페이지가 정렬 없이 인덱스 순서로 읽도록 priority 기본값(0)과 부모 id(parentId) backfill 후 복합 인덱스 생성
+            new SchemaMigration(9, "Task.priority / Task.parentId backfill, (owner, priority, id) and (owner, parentId, priority, id) indexes",
+                    List.of(
+                            "MATCH (t:Task) WHERE t.priority IS NULL " +
+                                    "CALL { WITH t " +
+                                    "  SET t.priority = 0 " +
+                                    "} IN TRANSACTIONS OF 10000 ROWS",
+                            "MATCH (p:Task)-[:BELONGS_TO]->(t:Task) WHERE t.parentId IS NULL OR t.parentId <> p.id " +
+                                    "CALL { WITH p, t " +
+                                    "  SET t.parentId = p.id " +
+                                    "} IN TRANSACTIONS OF 10000 ROWS",
+                            "CREATE INDEX task_owner_priority_id IF NOT EXISTS FOR (t:Task) ON (t.owner, t.priority, t.id)",
+                            "CREATE INDEX task_owner_parent_priority_id IF NOT EXISTS FOR (t:Task) ON (t.owner, t.parentId, t.priority, t.id)"
+                    ),
+                    List.of("task_owner_priority_id", "task_owner_parent_priority_id"))
+    );
+
+    private SchemaMigrations() {
+    }
+
+    public static int latestVersion() {
+        return ALL.get(ALL.size() - 1).getVersion();
+    }
+}
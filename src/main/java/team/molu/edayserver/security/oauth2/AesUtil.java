@@ -1,34 +1,112 @@
 package team.molu.edayserver.security.oauth2;
 
+import org.apache.commons.codec.DecoderException;
 import org.apache.commons.codec.binary.Hex;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.Cipher;
+import javax.crypto.NoSuchPaddingException;
+import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
 
+/**
+ * AES 256 암복호화.
+ * 키와 IV는 생성 시 한 번만 만들고, Cipher 인스턴스는 스레드별로 재사용합니다.
+ *
+ * 암호문 형식
+ * - v1 (접두사 없음): AES/CBC/PKCS5Padding, 키 앞 16바이트를 고정 IV로 사용, hex 인코딩
+ * - v2 ("v2:" 접두사): AES/GCM/NoPadding, 메시지마다 임의의 12바이트 IV, base64url(IV + 암호문 + 인증 태그)
+ * 복호화는 두 형식을 모두 지원하므로, 모든 서버가 v2를 읽을 수 있게 배포한 뒤 eday.aes.write-version=2로 쓰기 형식을 바꿉니다.
+ */
 @Component
 public class AesUtil {
+    static final String V2_PREFIX = "v2:";
+    private static final int GCM_IV_LENGTH = 12;
+    private static final int GCM_TAG_BITS = 128;
 
-    @Value("${AES_PRIVATE_KEY}")
-    private String privateKey_256;
-
-    /** AES 256 암호화 */
-    public String aesCBCEncode(String plainText) throws Exception {
-        SecretKeySpec secretKey = new SecretKeySpec(privateKey_256.getBytes("UTF-8"),"AES") ;
-        IvParameterSpec IV = new IvParameterSpec(privateKey_256.substring (0, 16).getBytes());
-        Cipher c = Cipher.getInstance ("AES/CBC/PKCS5Padding");
-        c.init(Cipher.ENCRYPT_MODE, secretKey, IV);
-        byte[] encrpytionByte = c.doFinal(plainText.getBytes("UTF-8"));
-        return Hex.encodeHexString(encrpytionByte);
-    }
-    public String aesCBCDecode(String encodeText) throws Exception {
-        SecretKeySpec secretKey = new SecretKeySpec(privateKey_256.getBytes("UTF-8"), "AES");
-        IvParameterSpec IV = new IvParameterSpec(privateKey_256.substring(0, 16).getBytes());
-        Cipher c = Cipher.getInstance("AES/CBC/PKCS5Padding");
-        c.init(Cipher.DECRYPT_MODE, secretKey, IV);
-        byte[] decodeByte = Hex.decodeHex(encodeText.toCharArray());
-        return new String(c.doFinal(decodeByte), "UTF-8");
+    private final SecretKeySpec secretKey;
+    private final IvParameterSpec legacyIv;
+    private final int writeVersion;
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final ThreadLocal<Cipher> cbcCipher = ThreadLocal.withInitial(() -> newCipher("AES/CBC/PKCS5Padding"));
+    private final ThreadLocal<Cipher> gcmCipher = ThreadLocal.withInitial(() -> newCipher("AES/GCM/NoPadding"));
+
+    public AesUtil(@Value("${AES_PRIVATE_KEY}") String privateKey_256,
+                   @Value("${eday.aes.write-version:1}") int writeVersion) {
+        this.secretKey = new SecretKeySpec(privateKey_256.getBytes(StandardCharsets.UTF_8), "AES");
+        this.legacyIv = new IvParameterSpec(privateKey_256.substring(0, 16).getBytes(StandardCharsets.UTF_8));
+        this.writeVersion = writeVersion;
+    }
+
+    private static Cipher newCipher(String transformation) {
+        try {
+            return Cipher.getInstance(transformation);
+        } catch (NoSuchAlgorithmException | NoSuchPaddingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** 설정된 쓰기 형식(v1/v2)으로 암호화 */
+    public String encrypt(String plainText) throws GeneralSecurityException {
+        return writeVersion >= 2 ? encryptV2(plainText) : encryptV1(plainText);
+    }
+
+    /** 형식(v1/v2)을 판별하여 복호화 */
+    public String decrypt(String encodeText) throws GeneralSecurityException {
+        return encodeText.startsWith(V2_PREFIX) ? decryptV2(encodeText) : decryptV1(encodeText);
+    }
+
+    String encryptV1(String plainText) throws GeneralSecurityException {
+        Cipher c = cbcCipher.get();
+        c.init(Cipher.ENCRYPT_MODE, secretKey, legacyIv);
+        return Hex.encodeHexString(c.doFinal(plainText.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    String decryptV1(String encodeText) throws GeneralSecurityException {
+        byte[] decodeByte;
+        try {
+            decodeByte = Hex.decodeHex(encodeText);
+        } catch (DecoderException e) {
+            throw new GeneralSecurityException("malformed v1 ciphertext", e);
+        }
+        Cipher c = cbcCipher.get();
+        c.init(Cipher.DECRYPT_MODE, secretKey, legacyIv);
+        return new String(c.doFinal(decodeByte), StandardCharsets.UTF_8);
+    }
+
+    String encryptV2(String plainText) throws GeneralSecurityException {
+        byte[] iv = new byte[GCM_IV_LENGTH];
+        secureRandom.nextBytes(iv);
+
+        Cipher c = gcmCipher.get();
+        c.init(Cipher.ENCRYPT_MODE, secretKey, new GCMParameterSpec(GCM_TAG_BITS, iv));
+        byte[] cipherText = c.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+
+        ByteBuffer message = ByteBuffer.allocate(iv.length + cipherText.length).put(iv).put(cipherText);
+        return V2_PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(message.array());
+    }
+
+    String decryptV2(String encodeText) throws GeneralSecurityException {
+        byte[] message;
+        try {
+            message = Base64.getUrlDecoder().decode(encodeText.substring(V2_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new GeneralSecurityException("malformed v2 ciphertext", e);
+        }
+        if (message.length <= GCM_IV_LENGTH) {
+            throw new GeneralSecurityException("malformed v2 ciphertext");
+        }
+
+        Cipher c = gcmCipher.get();
+        c.init(Cipher.DECRYPT_MODE, secretKey, new GCMParameterSpec(GCM_TAG_BITS, message, 0, GCM_IV_LENGTH));
+        return new String(c.doFinal(message, GCM_IV_LENGTH, message.length - GCM_IV_LENGTH), StandardCharsets.UTF_8);
     }
 }
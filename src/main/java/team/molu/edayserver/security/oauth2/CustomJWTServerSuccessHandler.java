@@ -0,0 +1,60 @@
+package team.molu.edayserver.security.oauth2;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.server.DefaultServerRedirectStrategy;
+import org.springframework.security.web.server.ServerRedirectStrategy;
+import org.springframework.security.web.server.WebFilterExchange;
+import org.springframework.security.web.server.authentication.ServerAuthenticationSuccessHandler;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import team.molu.edayserver.dto.CustomOAuth2User;
+import team.molu.edayserver.repository.UserRepository;
+import team.molu.edayserver.security.oauth2.jwt.JwtUtil;
+import team.molu.edayserver.security.oauth2.jwt.ParsedToken;
+
+import java.net.URI;
+
+/**
+ * reactive 모드의 CustomJWTSuccessHandler. OAuth2 로그인 성공 시 토큰을 발급하여 쿠키로 내려주고 메인 페이지로 이동합니다.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@Slf4j
+public class CustomJWTServerSuccessHandler implements ServerAuthenticationSuccessHandler {
+    private static final URI REDIRECT_URI = URI.create("https://eday.site/");
+
+    private final JwtUtil jwtUtil;
+    private final UserRepository userRepository;
+    private final AesUtil aesUtil;
+    private final ServerRedirectStrategy redirectStrategy = new DefaultServerRedirectStrategy();
+
+    @Override
+    public Mono<Void> onAuthenticationSuccess(WebFilterExchange webFilterExchange, Authentication authentication) {
+
+        //OAuth2User
+        CustomOAuth2User customUserDetails = (CustomOAuth2User) authentication.getPrincipal();
+        String email = customUserDetails.getName();
+        String role = authentication.getAuthorities().iterator().next().getAuthority();
+
+        String accessToken = jwtUtil.createJwt("access", email, role, JwtUtil.ACCESS_TOKEN_TTL);
+        // 로그인마다 새 refresh 토큰 family
+        String family = JwtUtil.newFamily();
+        String refreshToken = jwtUtil.createRefreshJwt(email, role, family, 7*24*60*60*1000L);    //7D (테스트 후 24H로 변경 예정)
+        ParsedToken parsedRefresh = jwtUtil.parse(refreshToken);
+
+        return Mono.fromCallable(() -> aesUtil.encrypt(refreshToken))
+                .flatMap(encryptedJwt -> userRepository.createJwtFamily(email, family, encryptedJwt,
+                        parsedRefresh.getExpiration(), parsedRefresh.getId()))
+                .then(Mono.defer(() -> {
+                    ServerHttpResponse response = webFilterExchange.getExchange().getResponse();
+                    response.addCookie(jwtUtil.createResponseCookie("access", accessToken));
+                    response.addCookie(jwtUtil.createResponseCookie("refresh", refreshToken));
+                    return redirectStrategy.sendRedirect(webFilterExchange.getExchange(), REDIRECT_URI);
+                }));
+    }
+}
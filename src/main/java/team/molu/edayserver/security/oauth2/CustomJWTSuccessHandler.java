@@ -6,6 +6,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
@@ -22,6 +23,7 @@ import java.util.Collection;
 import java.util.Iterator;
 
 @Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 @Slf4j
 public class CustomJWTSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
@@ -48,13 +50,14 @@ public class CustomJWTSuccessHandler extends SimpleUrlAuthenticationSuccessHandl
         GrantedAuthority auth = iterator.next();
         String role = auth.getAuthority();
 
-        String accessToken = jwtUtil.createJwt("access", email, role, 60*60*1000L);     //1H
-        String refreshToken = jwtUtil.createJwt("refresh", email, role, 7*24*60*60*1000L);    //7D (테스트 후 24H로 변경 예정)
+        String accessToken = jwtUtil.createJwt("access", email, role, JwtUtil.ACCESS_TOKEN_TTL);
+        // 로그인마다 새 refresh 토큰 family
+        String family = JwtUtil.newFamily();
+        String refreshToken = jwtUtil.createRefreshJwt(email, role, family, 7*24*60*60*1000L);    //7D (테스트 후 24H로 변경 예정)
 
         String encryptedJwt = null;
         try {
-            encryptedJwt = aesUtil.aesCBCEncode(refreshToken);
-            log.info("encryptedJwt : {}", encryptedJwt);
+            encryptedJwt = aesUtil.encrypt(refreshToken);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -65,7 +68,8 @@ public class CustomJWTSuccessHandler extends SimpleUrlAuthenticationSuccessHandl
                 .ttl(jwtUtil.getTtl(refreshToken))
                 .build();
 //        user.updateJwt(refreshJwt);
-        Jwt savedJwt = userRepository.findUserAndUpdateJwt(email, refreshJwt.getRefresh(), refreshJwt.getTtl()).block();
+        Jwt savedJwt = userRepository.createJwtFamily(email, family, refreshJwt.getRefresh(), refreshJwt.getTtl(),
+                jwtUtil.parse(refreshToken).getId()).block();
 
         log.info("access Expired Time : {}", jwtUtil.getTtl(accessToken));
         log.info("refresh Expired Time : {}", jwtUtil.getTtl(refreshToken));
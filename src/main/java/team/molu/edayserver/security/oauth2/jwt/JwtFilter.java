@@ -1,6 +1,5 @@
 package team.molu.edayserver.security.oauth2.jwt;
 
-import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -17,84 +16,73 @@ import team.molu.edayserver.dto.UserDto;
 
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.util.regex.Pattern;
 
 @Log4j2
 @RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
+    // 토큰 검사 없이 통과시키는 경로 (요청마다 컴파일하지 않도록 미리 컴파일)
+    static final Pattern LOGIN_PATH = Pattern.compile("^/api/v1/login(?:/.*)?$");
+    static final Pattern OAUTH2_PATH = Pattern.compile("^/oauth2(?:/.*)?$");
 
     private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationList tokenRevocationList;
 
+    /**
+     * 토큰이 없는 사용자가 무한 재로딩 오류 걸리지 않게 로그인 / OAuth2 경로는 필터를 건너뜀
+     */
     @Override
-    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
-        // 토큰이 없는 사용자가 무한 재로딩 오류 걸리지 않게 설정
+    protected boolean shouldNotFilter(HttpServletRequest request) {
         String requestUri = request.getRequestURI();
-        log.info(requestUri);
-
-        /*if(requestUri.matches("^\\/login(?:\\/.*)?$") ||
-                requestUri.matches("^\\/oauth2(?:\\/.*)?$") ||
-                requestUri.matches("^\\/api\\/v1\\/login(?:\\/.*)?$") ||
-                requestUri.matches("^\\/api\\/v1\\/oauth2(?:\\/.*)?$")) {
-
-            filterChain.doFilter(request, response);
-            return;
-        }*/
-        if(requestUri.matches("^\\/api\\/v1\\/login(?:\\/.*)?$")) {
-
-            filterChain.doFilter(request, response);
-            return;
-        }
-        if(requestUri.matches("^\\/oauth2(?:\\/.*)?$")) {
-
-            filterChain.doFilter(request, response);
-            return;
-        }
+        return LOGIN_PATH.matcher(requestUri).matches() || OAUTH2_PATH.matcher(requestUri).matches();
+    }
 
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         //cookie들을 불러온 뒤 Authorization Key에 담긴 쿠키를 찾음
         String accessToken = null;
         String refreshToken = null;
         Cookie[] cookies = request.getCookies();
-        for (Cookie cookie : cookies) {
-            log.info("cookie name : {}", cookie.getName());
-            if (cookie.getName().equals("access")) {
-                accessToken = cookie.getValue();
-                log.info("getCookie accessToken : {}", accessToken);
-            } else if (cookie.getName().equals("refresh")) {
-                refreshToken = cookie.getValue();
-                log.info("getCookie refreshToken : {}", refreshToken);
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (cookie.getName().equals("access")) {
+                    accessToken = cookie.getValue();
+                } else if (cookie.getName().equals("refresh")) {
+                    refreshToken = cookie.getValue();
+                }
             }
         }
 
         //Authorization 헤더 검증
-        if (accessToken.isBlank()) {
+        if (accessToken == null || accessToken.isBlank()) {
             // 토큰 없으니 다음 필터로 넘기기
             filterChain.doFilter(request, response);
             return;
         }
 
-        //토큰
-        String token = accessToken;
-        String refresh = refreshToken;
-
-        try {
-            boolean accessExpired = jwtUtil.isExpired(accessToken);
-            log.info("{}", jwtUtil.getTtl(accessToken));
-            if (accessExpired) {
-                jwtUtil.isExpiredAccessToken(token, refresh, response);
-            } else {
+        //토큰 서명 검증 및 claim 파싱은 한 번만 수행 (이미 검증된 토큰은 캐시에서 조회)
+        ParsedToken token = verifiedTokenCache.parse(accessToken);
+
+        if (token.isExpired()) {
+            // 만료된 access 토큰은 refresh 토큰으로 재발급 시도
+            boolean reissued;
+            try {
+                reissued = refreshToken != null && jwtUtil.isExpiredAccessToken(token, refreshToken, response);
+            } catch (Exception e) {
+                log.info("access token reissue failed : {}", e.getMessage());
+                reissued = false;
+            }
+            if (!reissued) {
+                PrintWriter writer = response.getWriter();
+                writer.println("Token expired");
+                response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                 return;
             }
-        } catch (ExpiredJwtException e) {
-            PrintWriter writer = response.getWriter();
-            writer.println("Token expired");
-            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
         }
 
-        // 토큰 카테고리 확인
-        String category = jwtUtil.getCategory(token);
-
-        if(!category.equals("access")) {
+        // 토큰 카테고리 확인, 로그아웃으로 폐기된 토큰 거절
+        if (!token.isSigned() || !"access".equals(token.getCategory()) || tokenRevocationList.isRevoked(token.getId())) {
             PrintWriter writer = response.getWriter();
             writer.println("invalid access token");
 
@@ -103,10 +91,10 @@ public class JwtFilter extends OncePerRequestFilter {
         }
 
         //토큰에서 email과 role 획득
-        String email = jwtUtil.getEmail(token);
-        String role = jwtUtil.getRole(token);
+        String email = token.getEmail();
+        String role = token.getRole();
 
-        log.info("token email : {} \n token role : {}", email ,role);
+        log.debug("token email : {} \n token role : {}", email ,role);
 
         //userDTO를 생성하여 값 set
         UserDto userDto = UserDto.builder()
@@ -0,0 +1,42 @@
+package team.molu.edayserver.security.oauth2.jwt;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import reactor.core.publisher.Mono;
+import team.molu.edayserver.dto.CustomOAuth2User;
+import team.molu.edayserver.dto.UserDto;
+
+/**
+ * reactive 모드의 JWT 인증.
+ * JwtWebFilter가 서명 검증한 access 토큰(ParsedToken)을 credentials로 받아 카테고리와 폐기 여부만 확인합니다.
+ * 모두 메모리 연산이므로 이벤트 루프를 막지 않습니다.
+ */
+@RequiredArgsConstructor
+public class JwtReactiveAuthenticationManager implements ReactiveAuthenticationManager {
+    private final TokenRevocationList tokenRevocationList;
+
+    @Override
+    public Mono<Authentication> authenticate(Authentication authentication) {
+        if (!(authentication.getCredentials() instanceof ParsedToken token)) {
+            return Mono.empty();
+        }
+
+        // 토큰 카테고리 확인, 로그아웃으로 폐기된 토큰 거절
+        if (!token.isValid() || !"access".equals(token.getCategory()) || tokenRevocationList.isRevoked(token.getId())) {
+            return Mono.error(new BadCredentialsException("invalid access token"));
+        }
+
+        //userDTO를 생성하여 값 set
+        UserDto userDto = UserDto.builder()
+                .email(token.getEmail())
+                .role(token.getRole())
+                .build();
+
+        //UserDetails에 회원 정보 객체 담기
+        CustomOAuth2User customOAuth2User = new CustomOAuth2User(userDto);
+        return Mono.just(new UsernamePasswordAuthenticationToken(customOAuth2User, null, customOAuth2User.getAuthorities()));
+    }
+}
@@ -1,140 +1,233 @@
 package team.molu.edayserver.security.oauth2.jwt;
 
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
-import io.jsonwebtoken.security.SignatureException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseCookie;
 import org.springframework.stereotype.Component;
-import team.molu.edayserver.domain.Jwt;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import team.molu.edayserver.dto.JwtDto;
 import team.molu.edayserver.repository.JwtRepository;
-import team.molu.edayserver.repository.UserRepository;
 import team.molu.edayserver.security.oauth2.AesUtil;
-import team.molu.edayserver.service.CustomOauth2UserService;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 @Log4j2
 public class JwtUtil {
+    public static final long ACCESS_TOKEN_TTL = 60*60*1000L;     //1H
+    public static final long REFRESH_TOKEN_TTL = 24*60*60*1000L;    //24H
 
     private SecretKey secretKey;
+    // 불변 객체이므로 요청마다 새로 만들지 않고 재사용
+    private final JwtParser jwtParser;
+
+    @Autowired
     private AesUtil aesUtil;
 
     @Autowired
-    private UserRepository userRepository;
+    private JwtRepository jwtRepository;
+
+    @Autowired
+    private TokenRevocationList tokenRevocationList;
+
+    // 여러 탭이 같은 refresh 토큰으로 동시에 재발급할 때, 직전 토큰을 재사용으로 보지 않는 유예 시간
+    @Value("${eday.jwt.rotation-grace-seconds:30}")
+    private long rotationGraceSeconds;
 
     public JwtUtil(@Value("${spring.jwt.secret}")String secret) {
 //        secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
+    }
+
+    /**
+     * 토큰 서명을 한 번 검증하고 모든 claim을 담은 ParsedToken을 반환합니다. 예외를 던지지 않습니다.
+     * 만료된 토큰은 서명 검증 후 만료 검사에서 실패하므로 claim을 유지합니다.
+     */
+    public ParsedToken parse(String token) {
+        try {
+            return ParsedToken.verified(token, jwtParser.parseSignedClaims(token).getPayload());
+        } catch (ExpiredJwtException e) {
+            return ParsedToken.expired(token, e.getClaims());
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("invalid jwt : {}", e.getMessage());
+            return ParsedToken.invalid(token);
+        }
     }
 
     public String getEmail(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("email", String.class);
+        return jwtParser.parseSignedClaims(token).getPayload().get("email", String.class);
     }
 
     public String getRole(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("role", String.class);
+        return jwtParser.parseSignedClaims(token).getPayload().get("role", String.class);
     }
 
     public Date getTtl(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getExpiration();
+        return jwtParser.parseSignedClaims(token).getPayload().getExpiration();
     }
 
+    /** 만료되었거나 서명이 유효하지 않은 토큰이면 true */
     public Boolean isExpired(String token) {
-        boolean validation = false;
-//        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getExpiration().before(new Date());
-        try {
-            Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getExpiration().before(new Date(System.currentTimeMillis()));
-            validation = true;
-        } catch (ExpiredJwtException e) {
-            System.out.println(" Token expired ");
-        } catch (SignatureException e) {
-            log.info(CustomOauth2UserService.class.getName());
-        } catch(Exception e){
-            System.out.println(" Some other exception in JWT parsing ");
-        }
-        return validation;
+        return !parse(token).isValid();
     }
 
     public String createJwt(String category, String email, String role, Long expiredMs) {
+        return createJwt(category, email, role, null, expiredMs);
+    }
+
+    /**
+     * refresh 토큰 생성. family는 로그인마다 새로 만들고 회전할 때는 그대로 이어받으므로,
+     * 재사용 감지와 폐기가 같은 로그인 세션의 토큰에만 적용됩니다.
+     */
+    public String createRefreshJwt(String email, String role, String family, Long expiredMs) {
+        return createJwt("refresh", email, role, family, expiredMs);
+    }
+
+    /** 로그인 시 새 refresh 토큰 family ID */
+    public static String newFamily() {
+        return UUID.randomUUID().toString();
+    }
+
+    private String createJwt(String category, String email, String role, String family, Long expiredMs) {
 
         String token = Jwts.builder()
                 .claim("category", category)
                 .claim("email", email)
                 .claim("role", role)
+                .claim("family", family)
+                .id(UUID.randomUUID().toString())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiredMs))
                 .signWith(secretKey)
                 .compact();
-        log.info("Generated Token: {}", token);
+        log.debug("Generated Token: {}", token);
         return token;
     }
 
     public String getCategory(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("category", String.class);
-    }
-
-    // accessToken 토큰 만료 시
-    public void isExpiredAccessToken(String accessToken, String refresh, HttpServletResponse response) throws Exception {
-        // 1. refreshToken을 userRepository에서 가져오기
-        String email = getEmail(refresh);
-//        Jwt findJwt = jwtRepository.findJwtByEmail(email).block();
-        Jwt findUserJwt = userRepository.findUserByEmail(email).block().getUserJwt();
-        log.info(findUserJwt.getRefresh());
-        String storedRefreshToken = aesUtil.aesCBCDecode(findUserJwt.getRefresh());
-
-        // 2. refresh토큰이 만료 전인지 확인
-        boolean refreshExpired = isExpired(storedRefreshToken);
-        if (!refreshExpired) {
-            // 3. refresh토큰의 이메일, 역할과 accessToken의 이메일, 역할 비교
-            String refreshEmail = getEmail(storedRefreshToken);
-            String refreshRole = getRole(storedRefreshToken);
-            String accessEmail = getEmail(accessToken);
-            String accessRole = getRole(accessToken);
-
-            if (refreshEmail.equals(accessEmail) && refreshRole.equals(accessRole)) {
-                // 4. 새로운 accessToken 발급
-                String newAccessToken = createJwt("access", email, refreshRole, 60*1000L);
-                String newRefresh = createJwt("refresh", email, refreshRole, 24*60*60*1000L);
-
-                // AES 암호화
-                newRefresh = aesUtil.aesCBCEncode(newRefresh);
-
-                //Refresh 토큰 저장 DB에 기존의 Refresh 토큰 삭제 후 새 Refresh 토큰 저장
-                /*jwtRepository.delete(findUserJwt);
-
-                Jwt newJwt = Jwt.builder()
-                        .user(userRepository.findUserByEmail(email).block())
-                        .refresh(newRefresh)
-                        .ttl(getTtl(newRefresh))
-                        .build();
-                jwtRepository.save(newJwt);*/
-                Jwt newJwt = Jwt.builder()
-                        .user(userRepository.findUserByEmail(email).block())
-                        .refresh(newRefresh)
-                        .ttl(getTtl(newRefresh))
-                        .build();
-                userRepository.findUserByEmail(email).block().updateJwt(newJwt);
-
-                //response
-                response.addCookie(createCookie("access", newAccessToken));
-                response.addCookie(createCookie("refresh", newRefresh));
-
-                response.setStatus(HttpServletResponse.SC_OK);
-            } else {
-                response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        return jwtParser.parseSignedClaims(token).getPayload().get("category", String.class);
+    }
+
+    /**
+     * refresh 토큰을 한 번의 쿼리로 확인 및 회전하고 새 access / refresh 토큰을 발급합니다.
+     * 유예 시간 안에 동시에 들어온 요청은 먼저 회전한 요청의 refresh 토큰을 함께 받고,
+     * 이미 회전된 이전 토큰이 다시 사용되면 그 토큰의 family만 폐기하여 재로그인을 요구합니다. (다른 기기의 로그인은 유지)
+     *
+     * @param refreshToken 서명 검증된 refresh 토큰
+     * @return 새 토큰 쌍 (재발급 불가 시 비어 있는 Mono)
+     */
+    public Mono<JwtDto.TokenPair> rotate(ParsedToken refreshToken) {
+        if (!refreshToken.isValid() || !"refresh".equals(refreshToken.getCategory())) {
+            return Mono.empty();
+        }
+        // 로그아웃으로 폐기된 토큰은 DB 조회 없이 거절
+        if (tokenRevocationList.isRevoked(refreshToken.getId())) {
+            return Mono.empty();
+        }
+        String email = refreshToken.getEmail();
+        String role = refreshToken.getRole();
+        String family = refreshToken.getFamily();
+
+        String newAccess = createJwt("access", email, role, ACCESS_TOKEN_TTL);
+        String newRefresh = createRefreshJwt(email, role, family, REFRESH_TOKEN_TTL);
+        ParsedToken parsedRefresh = parse(newRefresh);
+
+        return Mono.fromCallable(() -> aesUtil.encrypt(newRefresh))
+                .flatMap(encrypted -> jwtRepository.rotateRefreshToken(email, family, refreshToken.getId(),
+                        parsedRefresh.getId(), encrypted, parsedRefresh.getExpiration(), rotationGraceSeconds))
+                .flatMap(rotation -> {
+                    switch (rotation.getOutcome()) {
+                        case "ROTATED":
+                            return Mono.just(JwtDto.TokenPair.builder().access(newAccess).refresh(newRefresh).build());
+                        case "CONCURRENT":
+                            return Mono.fromCallable(() -> JwtDto.TokenPair.builder()
+                                    .access(newAccess)
+                                    .refresh(aesUtil.decrypt(rotation.getRefresh()))
+                                    .build());
+                        case "REUSED":
+                            log.warn("refresh token reuse detected, family revoked : {}", email);
+                            return Mono.empty();
+                        default:
+                            return Mono.empty();
+                    }
+                });
+    }
+
+    /**
+     * servlet 경로용 rotate. 결과를 기다립니다.
+     *
+     * @param refreshToken 서명 검증된 refresh 토큰
+     * @return 새 토큰 쌍 (재발급 불가 시 null)
+     */
+    public JwtDto.TokenPair rotateRefreshToken(ParsedToken refreshToken) throws GeneralSecurityException {
+        try {
+            return rotate(refreshToken).block();
+        } catch (RuntimeException e) {
+            if (Exceptions.unwrap(e) instanceof GeneralSecurityException securityException) {
+                throw securityException;
             }
-        } else {
-            log.info("Refresh token expired");
+            throw e;
+        }
+    }
+
+    /**
+     * 만료된 access 토큰을 이 refresh 토큰으로 재발급할 수 있는지 확인합니다.
+     * refresh토큰의 이메일, 역할과 accessToken의 이메일, 역할을 비교합니다.
+     */
+    boolean isReissuable(ParsedToken accessToken, ParsedToken refreshToken) {
+        return refreshToken.isValid()
+                && "refresh".equals(refreshToken.getCategory())
+                && refreshToken.getEmail().equals(accessToken.getEmail())
+                && refreshToken.getRole().equals(accessToken.getRole());
+    }
+
+    /**
+     * accessToken 토큰 만료 시 refresh 토큰을 회전하여 새 토큰을 쿠키로 내려줍니다.
+     *
+     * @param accessToken 서명은 유효하지만 만료된 access 토큰
+     * @param refresh 쿠키의 refresh 토큰
+     * @return 재발급 성공 여부 (실패 시 401 상태 설정)
+     */
+    public boolean isExpiredAccessToken(ParsedToken accessToken, String refresh, HttpServletResponse response) throws Exception {
+        ParsedToken refreshToken = parse(refresh);
+
+        if (!isReissuable(accessToken, refreshToken)) {
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            return false;
         }
+
+        JwtDto.TokenPair tokens = rotateRefreshToken(refreshToken);
+        if (tokens == null) {
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            return false;
+        }
+
+        //response
+        response.addCookie(createCookie("access", tokens.getAccess()));
+        response.addCookie(createCookie("refresh", tokens.getRefresh()));
+        return true;
+    }
+
+    /** reactive 응답용 쿠키 생성 (servlet 쿠키와 같은 속성) */
+    public ResponseCookie createResponseCookie(String key, String value) {
+        return ResponseCookie.from(key, value)
+                .maxAge(60*60*60)
+                .path("/")
+                .build();
     }
 
     /** 쿠키 생성 */
@@ -145,7 +238,7 @@ public class JwtUtil {
 //        cookie.setSecure(true);  // HTTPS일 때 사용
         cookie.setPath("/");
 //        cookie.setHttpOnly(true);
-        log.info("Created Cookie: name={}, value={}", key, value);
+        log.debug("Created Cookie: name={}", key);
 
         return cookie;
     }
@@ -0,0 +1,106 @@
+package team.molu.edayserver.security.oauth2.jwt;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpCookie;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * reactive 모드의 JwtFilter.
+ * 쿠키의 access 토큰을 검증하여 인증 정보를 Reactor Context에 넣고, 만료된 경우 refresh 토큰 회전까지 논블로킹으로 처리합니다.
+ */
+@Log4j2
+@RequiredArgsConstructor
+public class JwtWebFilter implements WebFilter {
+    private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final ReactiveAuthenticationManager authenticationManager;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        // 토큰이 없는 사용자가 무한 재로딩 오류 걸리지 않게 로그인 / OAuth2 경로는 필터를 건너뜀
+        String requestUri = exchange.getRequest().getPath().value();
+        if (JwtFilter.LOGIN_PATH.matcher(requestUri).matches() || JwtFilter.OAUTH2_PATH.matcher(requestUri).matches()) {
+            return chain.filter(exchange);
+        }
+
+        String accessToken = cookieValue(exchange, "access");
+        if (accessToken == null || accessToken.isBlank()) {
+            // 토큰 없으니 다음 필터로 넘기기
+            return chain.filter(exchange);
+        }
+
+        //토큰 서명 검증 및 claim 파싱은 한 번만 수행 (이미 검증된 토큰은 캐시에서 조회)
+        ParsedToken token = verifiedTokenCache.parse(accessToken);
+        if (!token.isExpired()) {
+            return authenticate(exchange, chain, token);
+        }
+
+        // 만료된 access 토큰은 refresh 토큰으로 재발급 시도
+        return reissue(exchange, token, cookieValue(exchange, "refresh"))
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(reissued -> reissued.isPresent()
+                        ? authenticate(exchange, chain, reissued.get())
+                        : unauthorized(exchange, "Token expired"));
+    }
+
+    private Mono<Void> authenticate(ServerWebExchange exchange, WebFilterChain chain, ParsedToken token) {
+        return authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(token.getEmail(), token))
+                .map(Optional::of)
+                .onErrorResume(AuthenticationException.class, e -> Mono.just(Optional.empty()))
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(authentication -> authentication.isPresent()
+                        ? chain.filter(exchange).contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication.get()))
+                        : unauthorized(exchange, "invalid access token"));
+    }
+
+    // 새 토큰을 쿠키로 내려주고 새 access 토큰을 반환 (재발급 불가 시 비어 있는 Mono)
+    private Mono<ParsedToken> reissue(ServerWebExchange exchange, ParsedToken accessToken, String refresh) {
+        if (refresh == null) {
+            return Mono.empty();
+        }
+        ParsedToken refreshToken = jwtUtil.parse(refresh);
+        if (!jwtUtil.isReissuable(accessToken, refreshToken)) {
+            return Mono.empty();
+        }
+
+        return jwtUtil.rotate(refreshToken)
+                .map(tokens -> {
+                    ServerHttpResponse response = exchange.getResponse();
+                    response.addCookie(jwtUtil.createResponseCookie("access", tokens.getAccess()));
+                    response.addCookie(jwtUtil.createResponseCookie("refresh", tokens.getRefresh()));
+                    return jwtUtil.parse(tokens.getAccess());
+                })
+                .onErrorResume(e -> {
+                    log.info("access token reissue failed : {}", e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private static String cookieValue(ServerWebExchange exchange, String name) {
+        HttpCookie cookie = exchange.getRequest().getCookies().getFirst(name);
+        return cookie != null ? cookie.getValue() : null;
+    }
+
+    private static Mono<Void> unauthorized(ServerWebExchange exchange, String message) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.UNAUTHORIZED);
+        DataBuffer body = response.bufferFactory().wrap((message + "\n").getBytes(StandardCharsets.UTF_8));
+        return response.writeWith(Mono.just(body));
+    }
+}
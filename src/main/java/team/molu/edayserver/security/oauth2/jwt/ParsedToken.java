@@ -0,0 +1,72 @@
+package team.molu.edayserver.security.oauth2.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * 서명 검증을 한 번만 거친 JWT.
+ * 만료된 토큰도 서명 검증은 끝난 상태이므로 claim을 유지하여 재발급 시 email/role 비교에 사용합니다.
+ * 서명이 맞지 않거나 형식이 잘못된 토큰은 claim이 없습니다.
+ */
+@Getter
+public class ParsedToken {
+    private final String token;
+    private final Claims claims;
+    private final boolean expired;
+
+    private ParsedToken(String token, Claims claims, boolean expired) {
+        this.token = token;
+        this.claims = claims;
+        this.expired = expired;
+    }
+
+    static ParsedToken verified(String token, Claims claims) {
+        return new ParsedToken(token, claims, false);
+    }
+
+    static ParsedToken expired(String token, Claims claims) {
+        return new ParsedToken(token, claims, true);
+    }
+
+    static ParsedToken invalid(String token) {
+        return new ParsedToken(token, null, false);
+    }
+
+    /** 서명이 유효하고 만료되지 않은 토큰인지 */
+    public boolean isValid() {
+        return claims != null && !expired;
+    }
+
+    /** 서명은 유효한지 (만료 여부와 무관) */
+    public boolean isSigned() {
+        return claims != null;
+    }
+
+    /** 토큰 고유 ID (jti) - refresh 토큰 회전 / 폐기 판별용 */
+    public String getId() {
+        return claims != null ? claims.getId() : null;
+    }
+
+    public String getCategory() {
+        return claims != null ? claims.get("category", String.class) : null;
+    }
+
+    public String getEmail() {
+        return claims != null ? claims.get("email", String.class) : null;
+    }
+
+    public String getRole() {
+        return claims != null ? claims.get("role", String.class) : null;
+    }
+
+    /** refresh 토큰 family - 로그인마다 새로 발급되고 회전해도 유지됨 (family 도입 전 토큰은 null) */
+    public String getFamily() {
+        return claims != null ? claims.get("family", String.class) : null;
+    }
+
+    public Date getExpiration() {
+        return claims != null ? claims.getExpiration() : null;
+    }
+}
@@ -0,0 +1,135 @@
+package team.molu.edayserver.security.oauth2.jwt;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import team.molu.edayserver.domain.RevokedToken;
+import team.molu.edayserver.repository.RevokedTokenRepository;
+import team.molu.edayserver.util.BloomFilter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 폐기된 토큰(jti) 목록.
+ * Bloom filter로 폐기되지 않은 대부분의 토큰을 DB 조회 없이 바로 통과시키고, filter가 "있을 수도 있음"이라고 답한
+ * 경우에만 정확한 jti → 만료 시각 맵을 확인합니다. 폐기 기록은 (:RevokedToken) 노드로 저장하며, 시작 시 만료되지 않은
+ * 기록을 모두 읽어 다시 구성합니다. 만료된 항목은 주기적으로 맵과 DB에서 제거하고 filter를 새로 만듭니다.
+ */
+@Component
+@Log4j2
+public class TokenRevocationList implements ApplicationRunner {
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final long expectedInsertions;
+    private final int purgeBatchSize;
+    private final LongSupplier clock;
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter filter;
+    private volatile long filterCapacity;
+
+    @Autowired
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository,
+                               @Value("${eday.jwt.revocation.expected-insertions:100000}") long expectedInsertions,
+                               @Value("${eday.jwt.revocation.purge-batch-size:10000}") int purgeBatchSize) {
+        this(revokedTokenRepository, expectedInsertions, purgeBatchSize, System::currentTimeMillis);
+    }
+
+    TokenRevocationList(RevokedTokenRepository revokedTokenRepository, long expectedInsertions, int purgeBatchSize,
+                        LongSupplier clock) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.purgeBatchSize = purgeBatchSize;
+        this.clock = clock;
+        this.filter = new BloomFilter(expectedInsertions, FALSE_POSITIVE_RATE);
+        this.filterCapacity = expectedInsertions;
+    }
+
+    /** 시작 시 DB의 폐기 기록으로 목록을 다시 구성합니다. */
+    @Override
+    public void run(ApplicationArguments args) {
+        Long loaded = revokedTokenRepository.findActive()
+                .doOnNext(this::add)
+                .count()
+                .block();
+        log.info("token revocation list loaded : {} tokens", loaded);
+    }
+
+    /**
+     * 폐기된 토큰인지 확인합니다. DB를 조회하지 않습니다.
+     *
+     * @param jti 토큰 ID (없으면 false)
+     */
+    public boolean isRevoked(String jti) {
+        if (jti == null || !filter.mightContain(jti)) {
+            return false;
+        }
+        Long expiresAt = revoked.get(jti);
+        return expiresAt != null && expiresAt > clock.getAsLong();
+    }
+
+    /**
+     * 토큰을 폐기합니다. 메모리 목록에 즉시 반영한 뒤 DB에 기록합니다.
+     *
+     * @param token 서명 검증된 토큰 (jti가 없거나 이미 만료된 토큰은 무시)
+     */
+    public Mono<Void> revoke(ParsedToken token) {
+        if (token.getId() == null || token.getExpiration() == null
+                || token.getExpiration().getTime() <= clock.getAsLong()) {
+            return Mono.empty();
+        }
+        add(token.getId(), token.getExpiration().getTime());
+        return revokedTokenRepository.revoke(token.getId(), token.getEmail(), token.getExpiration()).then();
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    /** 만료된 항목을 제거하고 filter를 새로 만든 뒤, DB의 만료된 기록을 batch 단위로 삭제합니다. */
+    @Scheduled(fixedDelayString = "${eday.jwt.revocation.purge-interval:PT10M}")
+    public void purge() {
+        long now = clock.getAsLong();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+        rebuildFilter();
+
+        Integer deleted = revokedTokenRepository.deleteExpired(purgeBatchSize)
+                .expand(count -> count >= purgeBatchSize ? revokedTokenRepository.deleteExpired(purgeBatchSize) : Mono.empty())
+                .reduce(0, Integer::sum)
+                .block();
+        log.info("token revocation list purged : {} tokens remain, {} records deleted", revoked.size(), deleted);
+    }
+
+    private void add(RevokedToken token) {
+        if (token.getExpiresAt() != null) {
+            add(token.getJti(), token.getExpiresAt().toInstant().toEpochMilli());
+        }
+    }
+
+    private void add(String jti, long expiresAt) {
+        // filter 교체 중 추가된 항목을 놓치지 않도록 맵에 먼저 넣음
+        revoked.put(jti, expiresAt);
+        filter.put(jti);
+        if (revoked.size() > filterCapacity) {
+            rebuildFilter();
+        }
+    }
+
+    // 예상보다 많이 쌓이면 오탐률이 올라가므로 현재 크기의 두 배로 다시 만듦
+    private synchronized void rebuildFilter() {
+        long capacity = Math.max(expectedInsertions, revoked.size() * 2L);
+        BloomFilter rebuilt = new BloomFilter(capacity, FALSE_POSITIVE_RATE);
+        revoked.keySet().forEach(rebuilt::put);
+        filter = rebuilt;
+        filterCapacity = capacity;
+        // 교체 직전 이전 filter에 추가된 항목 반영
+        revoked.keySet().forEach(rebuilt::put);
+    }
+}
@@ -0,0 +1,138 @@
+package team.molu.edayserver.security.oauth2.jwt;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 서명 검증을 마친 access 토큰 캐시.
+ * 토큰의 SHA-256 digest를 키로 ParsedToken을 토큰 만료(exp) 시각까지 보관하여, 같은 토큰으로 들어오는 요청은
+ * HMAC 검증과 claim JSON 파싱을 건너뜁니다. 최대 크기를 넘으면 만료된 항목부터, 그래도 넘으면 만료가 가장 가까운 항목부터 제거합니다.
+ * 유효한(만료되지 않은) 토큰만 캐시합니다.
+ */
+@Component
+@Log4j2
+public class VerifiedTokenCache {
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final JwtUtil jwtUtil;
+    private final int maxSize;
+    private final LongSupplier clock;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    @Autowired
+    public VerifiedTokenCache(JwtUtil jwtUtil, @Value("${eday.jwt.verified-cache.max-size:10000}") int maxSize) {
+        this(jwtUtil, maxSize, System::currentTimeMillis);
+    }
+
+    VerifiedTokenCache(JwtUtil jwtUtil, int maxSize, LongSupplier clock) {
+        this.jwtUtil = jwtUtil;
+        this.maxSize = maxSize;
+        this.clock = clock;
+    }
+
+    private static final class Entry {
+        private final ParsedToken token;
+        private final long expiresAt;
+
+        private Entry(ParsedToken token, long expiresAt) {
+            this.token = token;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * 캐시에 있으면 검증된 토큰을 그대로 반환하고, 없으면 JwtUtil로 검증 후 유효한 경우 캐시합니다.
+     */
+    public ParsedToken parse(String token) {
+        String key = digest(token);
+        long now = clock.getAsLong();
+
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            if (entry.expiresAt > now) {
+                hits.increment();
+                return entry.token;
+            }
+            entries.remove(key, entry);
+        }
+        misses.increment();
+
+        ParsedToken parsed = jwtUtil.parse(token);
+        if (parsed.isValid() && parsed.getExpiration() != null && parsed.getExpiration().getTime() > now) {
+            if (entries.size() >= maxSize) {
+                evict(now);
+            }
+            entries.put(key, new Entry(parsed, parsed.getExpiration().getTime()));
+        }
+        return parsed;
+    }
+
+    /** 특정 토큰을 캐시에서 제거합니다. */
+    public void invalidate(String token) {
+        if (token != null) {
+            entries.remove(digest(token));
+        }
+    }
+
+    /** 로그아웃 시 사용자의 토큰을 모두 제거하여 다음 요청에서 다시 검증하도록 합니다. */
+    public void invalidateUser(String email) {
+        if (email != null) {
+            entries.values().removeIf(entry -> email.equals(entry.token.getEmail()));
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // 만료된 항목 제거 후에도 가득 차 있으면 만료가 가까운 순으로 10% 제거
+    private void evict(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+        if (entries.size() < maxSize) {
+            return;
+        }
+        List<Map.Entry<String, Entry>> snapshot = new ArrayList<>(entries.entrySet());
+        snapshot.sort(Comparator.comparingLong(e -> e.getValue().expiresAt));
+        int evictCount = Math.max(1, maxSize / 10);
+        for (int i = 0; i < evictCount && i < snapshot.size(); i++) {
+            entries.remove(snapshot.get(i).getKey(), snapshot.get(i).getValue());
+        }
+        log.debug("verified token cache full, evicted {} entries", evictCount);
+    }
+
+    private static String digest(String token) {
+        MessageDigest sha256 = SHA_256.get();
+        sha256.reset();
+        return Base64.getEncoder().encodeToString(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+    }
+}
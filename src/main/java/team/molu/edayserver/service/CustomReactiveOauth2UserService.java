@@ -0,0 +1,64 @@
+package team.molu.edayserver.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.security.oauth2.client.userinfo.DefaultReactiveOAuth2UserService;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.client.userinfo.ReactiveOAuth2UserService;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import team.molu.edayserver.domain.OauthProviderEnum;
+import team.molu.edayserver.domain.RoleEnum;
+import team.molu.edayserver.domain.User;
+import team.molu.edayserver.dto.CustomOAuth2User;
+import team.molu.edayserver.dto.GoogleResponse;
+import team.molu.edayserver.dto.OAuth2Response;
+import team.molu.edayserver.dto.UserDto;
+import team.molu.edayserver.repository.UserRepository;
+
+/**
+ * reactive 모드의 CustomOauth2UserService. 사용자 조회와 신규 가입을 논블로킹으로 처리합니다.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@Slf4j
+public class CustomReactiveOauth2UserService implements ReactiveOAuth2UserService<OAuth2UserRequest, OAuth2User> {
+    private final DefaultReactiveOAuth2UserService delegate = new DefaultReactiveOAuth2UserService();
+
+    private final UserRepository userRepository;
+
+    @Override
+    public Mono<OAuth2User> loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
+        String registrationId = userRequest.getClientRegistration().getRegistrationId();
+        if (!registrationId.equals("google")) {
+            return Mono.empty();
+        }
+
+        return delegate.loadUser(userRequest)
+                .flatMap(oAuth2User -> {
+                    OAuth2Response oAuth2Response = new GoogleResponse(oAuth2User.getAttributes());
+
+                    //유저 정보 가지고 오기
+                    //만약 없다면 새로 등록하기
+                    return userRepository.findUserByEmail(oAuth2Response.getEmail())
+                            .switchIfEmpty(Mono.defer(() -> userNotFoundCreateUser(oAuth2Response)));
+                })
+                .map(existData -> new CustomOAuth2User(UserDto.builder()
+                        .email(existData.getEmail())
+                        .profileImage(existData.getProfileImage())
+                        .role(RoleEnum.MEMBER.toString())
+                        .build()));
+    }
+
+    private Mono<User> userNotFoundCreateUser(OAuth2Response oAuth2Response) {
+        log.info("new User!");
+        return userRepository.createUserAndAll(
+                oAuth2Response.getEmail(), oAuth2Response.getPicture(),
+                oAuth2Response.getEmail(), OauthProviderEnum.GOOGLE,
+                RoleEnum.MEMBER, null, null);
+    }
+}
@@ -3,10 +3,47 @@ package team.molu.edayserver.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import team.molu.edayserver.repository.JwtRepository;
+import team.molu.edayserver.security.oauth2.jwt.JwtUtil;
+import team.molu.edayserver.security.oauth2.jwt.ParsedToken;
+import team.molu.edayserver.security.oauth2.jwt.TokenRevocationList;
+import team.molu.edayserver.security.oauth2.jwt.VerifiedTokenCache;
 
 @Service
 @RequiredArgsConstructor
 @Log4j2
 public class LoginService {
+    private final JwtUtil jwtUtil;
+    private final JwtRepository jwtRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationList tokenRevocationList;
 
+    /**
+     * 로그아웃 - refresh / access 토큰을 폐기 목록에 추가하고 DB에 저장된 이 로그인(family)의 refresh 토큰을 폐기합니다.
+     * servlet / reactive 로그인 컨트롤러가 함께 사용합니다.
+     *
+     * @param refreshToken 서명 검증된 refresh 토큰
+     * @param access 쿠키의 access 토큰 (없으면 null)
+     */
+    public Mono<Void> logout(ParsedToken refreshToken, String access) {
+        String email = refreshToken.getEmail();
+
+        //refresh / access 토큰 폐기 목록에 추가 (이후 요청은 DB 조회 없이 거절)
+        Mono<Void> revokeAccess = Mono.empty();
+        if (access != null) {
+            ParsedToken accessToken = jwtUtil.parse(access);
+            if (accessToken.isValid() && email.equals(accessToken.getEmail())) {
+                revokeAccess = tokenRevocationList.revoke(accessToken);
+            }
+        }
+
+        return tokenRevocationList.revoke(refreshToken)
+                .then(revokeAccess)
+                //DB에 저장된 Refresh 토큰 폐기 (다른 기기의 로그인은 유지)
+                .then(jwtRepository.revokeJwt(email, refreshToken.getFamily()))
+                //검증된 access 토큰 캐시에서 사용자 토큰 제거
+                .doOnSuccess(jwt -> verifiedTokenCache.invalidateUser(email))
+                .then();
+    }
 }
@@ -0,0 +1,244 @@
+package team.molu.edayserver.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import team.molu.edayserver.dto.TasksDto;
+import team.molu.edayserver.exception.InvalidTaskBatchException;
+import team.molu.edayserver.exception.TaskBatchFailedException;
+import team.molu.edayserver.repository.TaskRepository;
+import team.molu.edayserver.util.SecurityUtils;
+
+import java.util.*;
+
+/**
+ * 여러 할 일 작업(생성 / 수정 / 이동 / 삭제 / 아카이빙 / 복구)을 요청 순서대로 하나의 트랜잭션에서 실행합니다.
+ * <p>
+ * 같은 종류의 연속된 작업은 UNWIND 쿼리 하나로 묶어 실행하며, 쿼리 안에서도 행 순서대로 적용되므로
+ * 앞 작업의 결과(새로 만든 부모, 바뀐 위치)를 다음 작업이 그대로 봅니다.
+ * 작업 하나라도 대상이 없거나 허용되지 않으면 전체를 롤백하고 실패한 작업의 순번을 알려줍니다.
+ * <p>
+ * 같은 요청의 create로 만든 할 일은 taskId / parentId에 "$순번"으로 가리킬 수 있습니다.
+ */
+@Service
+public class TaskBatchService {
+    private static final Set<String> RESERVED_IDS = Set.of("root", "trash", "archive");
+
+    private final TaskRepository taskRepository;
+    private final TaskChangeLog taskChangeLog;
+    private final TaskTypeaheadIndex taskTypeaheadIndex;
+    private final TransactionalOperator transactionalOperator;
+    private final int maxOperations;
+
+    public TaskBatchService(TaskRepository taskRepository, TaskChangeLog taskChangeLog, TaskTypeaheadIndex taskTypeaheadIndex,
+                            TransactionalOperator transactionalOperator,
+                            @Value("${eday.batch.max-operations:100}") int maxOperations) {
+        this.taskRepository = taskRepository;
+        this.taskChangeLog = taskChangeLog;
+        this.taskTypeaheadIndex = taskTypeaheadIndex;
+        this.transactionalOperator = transactionalOperator;
+        this.maxOperations = maxOperations;
+    }
+
+    /**
+     * 작업 목록을 하나의 트랜잭션으로 실행합니다.
+     *
+     * @param tasksDto 순서대로 실행할 작업 목록 DTO
+     * @return 요청 순서대로의 작업별 결과(순번, 작업, Task ID, 부모 Task ID, 적용된 노드 개수) DTO
+     */
+    public Mono<TasksDto.TaskBatchResponse> executeBatch(TasksDto.TaskBatchRequest tasksDto) {
+        List<Operation> operations = operations(tasksDto);
+        return SecurityUtils.authenticatedUserEmail().flatMap(email -> executeBatch(email, operations));
+    }
+
+    private Mono<TasksDto.TaskBatchResponse> executeBatch(String email, List<Operation> operations) {
+        return Flux.fromIterable(groups(operations))
+                .concatMap(group -> execute(email, group))
+                .collectList()
+                .as(transactionalOperator::transactional)
+                .doOnSuccess(results -> taskTypeaheadIndex.invalidate(email))
+                .map(results -> TasksDto.TaskBatchResponse.builder()
+                        .results(results)
+                        .build());
+    }
+
+    // 같은 종류의 연속된 작업 묶음 하나를 실행하고, 모든 작업이 적용됐는지 확인한 뒤 변경 기록
+    private Flux<TasksDto.TaskBatchResult> execute(String email, List<Operation> group) {
+        Kind kind = group.get(0).kind();
+        List<Map<String, Object>> ops = group.stream().map(Operation::row).toList();
+        List<String> taskIds = group.stream().map(Operation::taskId).toList();
+
+        Flux<TasksDto.TaskBatchRowDto> rows = switch (kind) {
+            case CREATE -> taskRepository.createTasks(email, ops);
+            case UPDATE -> taskRepository.updateTasks(email, ops);
+            case MOVE -> taskRepository.moveTasks(email, ops);
+            case DELETE -> taskRepository.deleteTasks(email, ops);
+            case DELETE_CASCADE -> taskRepository.deleteTasksWithCascade(email, ops);
+            case ARCHIVE -> taskRepository.archiveTasks(email, ops);
+            case RESTORE -> taskRepository.restoreTasks(email, ops);
+        };
+        // 단일 삭제는 자식 노드들이 부모로 옮겨지므로, 옮겨지기 전에 자식 서브트리와 함께 기록
+        Mono<Void> recordBefore = kind == Kind.DELETE ? taskChangeLog.recordDeletedTasks(email, kind.op, taskIds) : Mono.empty();
+
+        return recordBefore.thenMany(rows)
+                .collectMap(TasksDto.TaskBatchRowDto::getIndex, TasksDto.TaskBatchRowDto::getAffectedNodes)
+                .flatMapMany(affectedNodes -> {
+                    for (Operation operation : group) {
+                        Integer count = affectedNodes.get(operation.index());
+                        if (count == null || count == 0) {
+                            return Flux.error(new TaskBatchFailedException("Batch operation " + operation.index() + " (" + kind.op +
+                                    ") failed: task " + operation.taskId() + " not found or not allowed."));
+                        }
+                    }
+                    return record(email, kind, taskIds).thenMany(Flux.fromIterable(group)
+                            .map(operation -> operation.result(affectedNodes.get(operation.index()))));
+                });
+    }
+
+    private Mono<Void> record(String email, Kind kind, List<String> taskIds) {
+        return switch (kind) {
+            case CREATE, UPDATE -> taskChangeLog.recordTasks(email, kind.op, taskIds);
+            case MOVE, DELETE_CASCADE, ARCHIVE, RESTORE -> taskChangeLog.recordSubtrees(email, kind.op, taskIds);
+            case DELETE -> Mono.empty();
+        };
+    }
+
+    // 같은 종류의 연속된 작업끼리 묶음 (순서는 유지)
+    private static List<List<Operation>> groups(List<Operation> operations) {
+        List<List<Operation>> groups = new ArrayList<>();
+        List<Operation> group = null;
+        for (Operation operation : operations) {
+            if (group == null || group.get(0).kind() != operation.kind()) {
+                group = new ArrayList<>();
+                groups.add(group);
+            }
+            group.add(operation);
+        }
+        return groups;
+    }
+
+    // 요청 검증 및 "$순번" 참조 해석 - 잘못된 작업이 있으면 아무것도 실행하지 않음
+    private List<Operation> operations(TasksDto.TaskBatchRequest tasksDto) {
+        List<TasksDto.TaskBatchOperation> requested = tasksDto.getOperations();
+        if (requested == null || requested.isEmpty()) {
+            throw new InvalidTaskBatchException("Batch operations are required.");
+        }
+        if (requested.size() > maxOperations) {
+            throw new InvalidTaskBatchException("Too many batch operations (max " + maxOperations + ").");
+        }
+
+        List<Operation> operations = new ArrayList<>();
+        String[] createdIds = new String[requested.size()];
+        for (int index = 0; index < requested.size(); index++) {
+            TasksDto.TaskBatchOperation operation = requested.get(index);
+            if (operation == null) {
+                throw new InvalidTaskBatchException("Batch operation " + index + ": operation is required.");
+            }
+            Kind kind = Kind.of(index, operation);
+
+            String taskId;
+            if (kind == Kind.CREATE) {
+                taskId = UUID.randomUUID().toString();
+                createdIds[index] = taskId;
+            } else {
+                taskId = resolve(index, "taskId", operation.getTaskId(), createdIds);
+            }
+            String parentId = kind.hasParent ? resolve(index, "parentId", operation.getParentId(), createdIds) : null;
+
+            operations.add(new Operation(index, kind, taskId, parentId, operation));
+        }
+        return operations;
+    }
+
+    private static String resolve(int index, String field, String taskId, String[] createdIds) {
+        if (taskId == null || taskId.isBlank()) {
+            throw new InvalidTaskBatchException("Batch operation " + index + ": " + field + " is required.");
+        }
+        if (taskId.startsWith("$")) {
+            int reference;
+            try {
+                reference = Integer.parseInt(taskId.substring(1));
+            } catch (NumberFormatException e) {
+                reference = -1;
+            }
+            if (reference < 0 || reference >= index || createdIds[reference] == null) {
+                throw new InvalidTaskBatchException("Batch operation " + index + ": " + taskId + " does not refer to an earlier create.");
+            }
+            return createdIds[reference];
+        }
+        if (RESERVED_IDS.contains(taskId.trim().toLowerCase())) {
+            throw new InvalidTaskBatchException("Batch operation " + index + ": " + taskId + " is not allowed.");
+        }
+        return taskId;
+    }
+
+    private enum Kind {
+        CREATE("create", true),
+        UPDATE("update", false),
+        MOVE("move", true),
+        DELETE("delete", false),
+        DELETE_CASCADE("delete", false),
+        ARCHIVE("archive", false),
+        RESTORE("restore", true);
+
+        private final String op;
+        private final boolean hasParent;
+
+        Kind(String op, boolean hasParent) {
+            this.op = op;
+            this.hasParent = hasParent;
+        }
+
+        private static Kind of(int index, TasksDto.TaskBatchOperation operation) {
+            String op = operation.getOp() != null ? operation.getOp().trim().toLowerCase() : "";
+            return switch (op) {
+                case "create" -> CREATE;
+                case "update" -> UPDATE;
+                case "move" -> MOVE;
+                case "delete" -> Boolean.TRUE.equals(operation.getCascade()) ? DELETE_CASCADE : DELETE;
+                case "archive" -> ARCHIVE;
+                case "restore" -> RESTORE;
+                default -> throw new InvalidTaskBatchException("Batch operation " + index + ": unknown op " + operation.getOp() + ".");
+            };
+        }
+    }
+
+    private record Operation(int index, Kind kind, String taskId, String parentId, TasksDto.TaskBatchOperation request) {
+
+        // 쿼리 파라미터 한 행 - 필드 기본값은 단건 생성 / 수정과 같음
+        private Map<String, Object> row() {
+            Map<String, Object> row = new HashMap<>();
+            row.put("index", index);
+            row.put("taskId", taskId);
+            row.put("parentId", "0".equals(parentId) ? "root" : parentId);
+            if (kind == Kind.CREATE) {
+                row.put("name", request.getName());
+                row.put("memo", request.getMemo());
+                row.put("startDate", request.getStartDate());
+                row.put("endDate", request.getEndDate());
+                row.put("priority", request.getPriority());
+                row.put("check", false);
+            } else if (kind == Kind.UPDATE) {
+                row.put("name", request.getName());
+                row.put("memo", request.getMemo() != null ? request.getMemo() : "");
+                row.put("startDate", request.getStartDate());
+                row.put("endDate", request.getEndDate());
+                row.put("priority", request.getPriority() != null ? request.getPriority() : 0);
+                row.put("check", request.getCheck());
+            }
+            return row;
+        }
+
+        private TasksDto.TaskBatchResult result(Integer affectedNodes) {
+            return TasksDto.TaskBatchResult.builder()
+                    .index(index)
+                    .op(kind.op)
+                    .taskId(taskId)
+                    .parentId(parentId)
+                    .affectedNodes(affectedNodes)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package team.molu.edayserver.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import team.molu.edayserver.dto.TasksDto;
+import team.molu.edayserver.repository.TaskChangeRepository;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 revision과 할 일 변경 기록.
+ * TaskService의 변경 작업이 끝난 뒤 영향을 받은 할 일을 기록하고, 클라이언트는 마지막으로 받은 revision 이후의
+ * 변경분(현재 상태 또는 tombstone)만 받아 동기화합니다. 서브트리 전체가 바뀌는 작업은 서브트리 루트 하나만 기록하고
+ * 조회 시점에 현재 서브트리로 펼치거나(루트 하위) 서브트리 tombstone 하나로 내려줍니다. 보존 기간이 지난 기록은 주기적으로 압축되며,
+ * 압축된 구간의 revision으로 요청하면 reset 응답으로 전체 재조회를 유도합니다.
+ */
+@Component
+@Slf4j
+public class TaskChangeLog {
+    private final TaskChangeRepository taskChangeRepository;
+    private final Duration retention;
+    private final int compactionBatchSize;
+
+    public TaskChangeLog(TaskChangeRepository taskChangeRepository,
+                         @Value("${eday.sync.change-retention:P30D}") Duration retention,
+                         @Value("${eday.sync.compaction-batch-size:10000}") int compactionBatchSize) {
+        this.taskChangeRepository = taskChangeRepository;
+        this.retention = retention;
+        this.compactionBatchSize = compactionBatchSize;
+    }
+
+    /**
+     * 지정한 할 일들만 변경된 것으로 기록합니다. (생성, 수정, 영구 삭제)
+     */
+    public Mono<Void> recordTasks(String email, String op, List<String> taskIds) {
+        return taskChangeRepository.recordTasks(email, op, taskIds).then();
+    }
+
+    /**
+     * 할 일과 그 하위 노드 전체를 변경된 것으로 기록합니다. (cascade 삭제, 이동, 아카이빙, 복구)
+     * 하위 노드 수와 관계없이 기록은 하나입니다.
+     */
+    public Mono<Void> recordSubtree(String email, String op, String taskId) {
+        return taskChangeRepository.recordSubtrees(email, op, List.of(taskId)).then();
+    }
+
+    /**
+     * 여러 할 일과 각각의 하위 노드 전체를 하나의 revision으로 기록합니다. (일괄 작업)
+     */
+    public Mono<Void> recordSubtrees(String email, String op, List<String> taskIds) {
+        return taskChangeRepository.recordSubtrees(email, op, taskIds).then();
+    }
+
+    /**
+     * 단일 삭제할 할 일들과, 각각의 부모로 옮겨질 자식 서브트리들을 기록합니다. 자식을 찾아야 하므로 삭제 전에 호출합니다.
+     */
+    public Mono<Void> recordDeletedTasks(String email, String op, List<String> taskIds) {
+        return taskChangeRepository.recordDeletedTasks(email, op, taskIds).then();
+    }
+
+    /**
+     * 사용자의 현재 revision을 조회합니다. 할 일 노드는 읽지 않습니다.
+     */
+    public Mono<Long> revision(String email) {
+        return taskChangeRepository.findSyncState(email)
+                .map(TasksDto.TaskSyncStateDto::getRevision)
+                .defaultIfEmpty(0L);
+    }
+
+    /**
+     * since 이후의 변경분을 조회합니다.
+     * since가 없거나 압축된 구간에 있으면 reset과 현재 revision만 반환합니다. 클라이언트는 이 revision을 먼저 받아 둔 뒤
+     * 전체 조회를 하고, 이후 since로 사용합니다. (그 사이의 변경은 다시 내려오지만 현재 상태 기준이므로 중복 적용해도 무방)
+     *
+     * @param email 사용자 email
+     * @param since 클라이언트가 마지막으로 받은 revision
+     * @return 변경된 할 일, 삭제된 할 일 ID, 하위 노드까지 삭제된 할 일 ID, 다음 since로 사용할 revision
+     */
+    public Mono<TasksDto.TaskChangesResponse> changesSince(String email, Long since) {
+        return taskChangeRepository.findSyncState(email)
+                .defaultIfEmpty(TasksDto.TaskSyncStateDto.builder().revision(0L).horizon(0L).build())
+                .flatMap(state -> {
+                    if (since == null || since < state.getHorizon() || since > state.getRevision()) {
+                        return Mono.just(TasksDto.TaskChangesResponse.builder()
+                                .revision(state.getRevision())
+                                .reset(true)
+                                .tasks(new ArrayList<>())
+                                .deletedTaskIds(new ArrayList<>())
+                                .deletedSubtreeIds(new ArrayList<>())
+                                .build());
+                    }
+                    return Mono.zip(taskChangeRepository.findChangesSince(email, since).collectList(),
+                                    taskChangeRepository.findSubtreeChangesSince(email, since).collectList(),
+                                    taskChangeRepository.findDeletedSubtreesSince(email, since).collectList())
+                            .map(changes -> {
+                                long revision = state.getRevision();
+                                // 노드 단위 기록과 서브트리 기록에 함께 포함된 노드는 한 번만 (현재 상태이므로 어느 쪽이든 같음)
+                                Map<String, TasksDto.TaskChangeDto> tasks = new LinkedHashMap<>();
+                                List<String> deletedTaskIds = new ArrayList<>();
+                                List<String> deletedSubtreeIds = new ArrayList<>();
+                                for (TasksDto.TaskChangeDto change : changes.getT1()) {
+                                    // 상태 조회 후 기록된 변경까지 포함될 수 있으므로 가장 큰 rev를 반환
+                                    revision = Math.max(revision, change.getRev());
+                                    if (Boolean.TRUE.equals(change.getDeleted())) {
+                                        deletedTaskIds.add(change.getTaskId());
+                                    } else {
+                                        tasks.put(change.getTaskId(), change);
+                                    }
+                                }
+                                for (TasksDto.TaskChangeDto change : changes.getT2()) {
+                                    revision = Math.max(revision, change.getRev());
+                                    tasks.putIfAbsent(change.getTaskId(), change);
+                                }
+                                for (TasksDto.TaskChangeDto change : changes.getT3()) {
+                                    revision = Math.max(revision, change.getRev());
+                                    deletedSubtreeIds.add(change.getTaskId());
+                                }
+                                return TasksDto.TaskChangesResponse.builder()
+                                        .revision(revision)
+                                        .reset(false)
+                                        .tasks(new ArrayList<>(tasks.values()))
+                                        .deletedTaskIds(deletedTaskIds)
+                                        .deletedSubtreeIds(deletedSubtreeIds)
+                                        .build();
+                            });
+                });
+    }
+
+    /**
+     * 보존 기간이 지난 변경 기록을 batch 단위로 삭제합니다.
+     */
+    @Scheduled(cron = "${eday.sync.compaction-cron:0 30 4 * * *}")
+    public void compact() {
+        ZonedDateTime cutoff = ZonedDateTime.now().minus(retention);
+
+        Integer deleted = taskChangeRepository.compactChanges(cutoff, compactionBatchSize)
+                .expand(count -> count >= compactionBatchSize
+                        ? taskChangeRepository.compactChanges(cutoff, compactionBatchSize)
+                        : Mono.empty())
+                .reduce(0, Integer::sum)
+                .block();
+        log.info("task change log compacted : {} entries before {}", deleted, cutoff);
+    }
+}
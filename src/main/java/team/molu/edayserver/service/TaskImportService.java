@@ -0,0 +1,276 @@
+package team.molu.edayserver.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import team.molu.edayserver.dto.TasksDto;
+import team.molu.edayserver.exception.InvalidImportException;
+import team.molu.edayserver.exception.TaskNotFoundException;
+import team.molu.edayserver.importer.TaskImportFormat;
+import team.molu.edayserver.importer.TaskImportReader;
+import team.molu.edayserver.importer.TaskImportRow;
+import team.molu.edayserver.repository.TaskRepository;
+import team.molu.edayserver.util.SecurityUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * 다른 도구에서 내보낸 파일(JSON 트리 / CSV / ICS)로 할 일을 한 번에 가져옵니다.
+ * <p>
+ * 파일은 요청 본문에서 한 행씩 읽고(boundedElastic), batch-size 행씩 묶어 배치마다 하나의 트랜잭션으로
+ * UNWIND 생성 → 부모 연결 → 변경 기록을 실행합니다. 메모리에는 읽는 중인 배치 하나만 유지하며,
+ * 이전 배치에서 만든 부모의 path는 DB에서 다시 읽습니다.
+ * <p>
+ * Task id는 (사용자, importId, 파일 안의 id)로 결정되므로, 중간에 실패한 가져오기를 같은 importId로 다시 보내면
+ * 이미 커밋된 행은 건너뛰고 나머지만 생성합니다. 진행 상황과 실패한 행은 배치가 끝날 때마다 내보냅니다.
+ */
+@Service
+@Slf4j
+public class TaskImportService {
+    private static final Pattern IMPORT_ID = Pattern.compile("^[A-Za-z0-9_-]{1,64}$");
+
+    private final TaskRepository taskRepository;
+    private final TaskChangeLog taskChangeLog;
+    private final TaskTypeaheadIndex taskTypeaheadIndex;
+    private final TransactionalOperator transactionalOperator;
+    private final int batchSize;
+    private final long maxRows;
+
+    public TaskImportService(TaskRepository taskRepository, TaskChangeLog taskChangeLog, TaskTypeaheadIndex taskTypeaheadIndex,
+                             TransactionalOperator transactionalOperator,
+                             @Value("${eday.import.batch-size:500}") int batchSize,
+                             @Value("${eday.import.max-rows:100000}") long maxRows) {
+        this.taskRepository = taskRepository;
+        this.taskChangeLog = taskChangeLog;
+        this.taskTypeaheadIndex = taskTypeaheadIndex;
+        this.transactionalOperator = transactionalOperator;
+        this.batchSize = batchSize;
+        this.maxRows = maxRows;
+    }
+
+    /**
+     * 파일의 할 일들을 가져옵니다.
+     *
+     * @param parentId 가져온 최상위 할 일들을 넣을 부모 ID ("0"이면 루트)
+     * @param format   파일 형식
+     * @param importId 재시도용 가져오기 ID (null이면 새로 생성)
+     * @param body     파일 내용 (끝까지 읽은 뒤 닫음)
+     * @return 배치마다의 진행 상황, 마지막 메시지는 done = true
+     */
+    public Flux<TasksDto.TaskImportProgress> importTasks(String parentId, TaskImportFormat format, String importId, InputStream body) {
+        String id = importId == null || importId.isBlank() ? UUID.randomUUID().toString() : importId.trim();
+        if (!IMPORT_ID.matcher(id).matches()) {
+            throw new InvalidImportException("Invalid importId: " + importId);
+        }
+        return SecurityUtils.authenticatedUserEmail()
+                .flatMapMany(email -> importTasks(email, parentId, format, id, body));
+    }
+
+    private Flux<TasksDto.TaskImportProgress> importTasks(String email, String parentId, TaskImportFormat format, String importId,
+                                                          InputStream body) {
+        String targetId = parentId == null || "0".equals(parentId) ? "root" : parentId;
+        ImportState state = new ImportState(importId);
+        Runnable invalidateTypeahead = () -> {
+            if (state.imported > 0) {
+                taskTypeaheadIndex.invalidate(email);
+            }
+        };
+
+        return taskRepository.findTaskPaths(email, List.of(targetId))
+                .next()
+                .switchIfEmpty(Mono.error(new TaskNotFoundException("Task not found with id: " + parentId)))
+                .flatMapMany(target -> rows(format, body)
+                        .buffer(batchSize)
+                        // 파일을 읽다 실패해도 이미 읽은 배치까지는 쓰고 중단
+                        .concatMapDelayError(batch -> writeBatch(email, importId, target, batch, state), false, 1)
+                        .concatWith(Mono.fromSupplier(() -> state.done(null)))
+                        // 커밋된 배치는 남기고 중단, 같은 importId로 다시 보내면 이어서 가져옴
+                        .onErrorResume(e -> {
+                            log.info("task import {} stopped after {} rows : {}", importId, state.rows, e.getMessage());
+                            return Mono.just(state.done(e.getMessage()));
+                        })
+                        .doOnTerminate(invalidateTypeahead)
+                        .doOnCancel(invalidateTypeahead));
+    }
+
+    // 파일을 한 행씩 읽는 Flux - 읽기는 블로킹이므로 boundedElastic에서, 요청량만큼만 읽음
+    private Flux<TaskImportRow> rows(TaskImportFormat format, InputStream body) {
+        AtomicLong read = new AtomicLong();
+        return Flux.using(() -> format.open(body),
+                        reader -> Flux.<TaskImportRow>generate(sink -> {
+                            try {
+                                TaskImportRow row = reader.next();
+                                if (row == null) {
+                                    sink.complete();
+                                } else if (read.incrementAndGet() > maxRows) {
+                                    sink.error(new InvalidImportException("Too many rows (max " + maxRows + ")"));
+                                } else {
+                                    sink.next(row);
+                                }
+                            } catch (IOException e) {
+                                sink.error(e);
+                            }
+                        }),
+                        TaskImportService::close)
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Mono<TasksDto.TaskImportProgress> writeBatch(String email, String importId, TasksDto.TaskPathDto target,
+                                                         List<TaskImportRow> batch, ImportState state) {
+        // 이 배치 밖(이전 배치)에 있는 부모들의 path를 한 번에 조회
+        Set<String> batchIds = new HashSet<>();
+        for (TaskImportRow row : batch) {
+            if (row.isValid()) {
+                batchIds.add(taskId(email, importId, row.getSourceId()));
+            }
+        }
+        List<String> outsideParentIds = batch.stream()
+                .filter(row -> row.isValid() && row.getParentSourceId() != null)
+                .map(row -> taskId(email, importId, row.getParentSourceId()))
+                .filter(taskId -> !batchIds.contains(taskId))
+                .distinct()
+                .toList();
+        Mono<Map<String, String>> outsidePaths = outsideParentIds.isEmpty()
+                ? Mono.just(Map.of())
+                : taskRepository.findTaskPaths(email, outsideParentIds)
+                        .collectMap(TasksDto.TaskPathDto::getTaskId, TasksDto.TaskPathDto::getPath);
+
+        return outsidePaths.flatMap(knownPaths -> {
+            List<TasksDto.TaskImportError> errors = new ArrayList<>();
+            List<Map<String, Object>> tasks = new ArrayList<>();
+            Map<String, String> batchPaths = new HashMap<>();
+
+            for (TaskImportRow row : batch) {
+                if (!row.isValid()) {
+                    errors.add(error(row, row.getError()));
+                    continue;
+                }
+                String taskId = taskId(email, importId, row.getSourceId());
+                if (batchPaths.containsKey(taskId)) {
+                    errors.add(error(row, "duplicate id " + row.getSourceId()));
+                    continue;
+                }
+
+                String parentTaskId;
+                String parentPath;
+                if (row.getParentSourceId() == null) {
+                    parentTaskId = target.getTaskId();
+                    parentPath = target.getPath();
+                } else {
+                    parentTaskId = taskId(email, importId, row.getParentSourceId());
+                    parentPath = batchPaths.getOrDefault(parentTaskId, knownPaths.get(parentTaskId));
+                }
+                if (parentPath == null) {
+                    // 부모가 없거나, 실패했거나, 자식보다 뒤에 나옴
+                    errors.add(error(row, "unknown parent " + row.getParentSourceId()));
+                    continue;
+                }
+
+                String path = parentPath + taskId + "/";
+                batchPaths.put(taskId, path);
+
+                Map<String, Object> task = new HashMap<>();
+                task.put("id", taskId);
+                task.put("parentId", parentTaskId);
+                task.put("name", row.getName());
+                task.put("memo", row.getMemo() != null ? row.getMemo() : "");
+                task.put("startDate", row.getStartDate());
+                task.put("endDate", row.getEndDate());
+                task.put("priority", row.getPriority() != null ? row.getPriority() : 0);
+                task.put("check", row.getCheck() != null ? row.getCheck() : false);
+                task.put("path", path);
+                tasks.add(task);
+            }
+
+            if (tasks.isEmpty()) {
+                return Mono.just(state.batch(batch.size(), 0, 0, errors));
+            }
+            return taskRepository.importTasks(email, tasks)
+                    .collectList()
+                    .flatMap(createdIds -> {
+                        if (createdIds.isEmpty()) {
+                            return Mono.just(createdIds);
+                        }
+                        Set<String> created = new HashSet<>(createdIds);
+                        List<Map<String, Object>> links = tasks.stream()
+                                .filter(task -> created.contains((String) task.get("id")))
+                                .toList();
+                        return taskRepository.linkImportedTasks(email, links)
+                                .then(taskChangeLog.recordTasks(email, "create", createdIds))
+                                .thenReturn(createdIds);
+                    })
+                    .as(transactionalOperator::transactional)
+                    .map(createdIds -> state.batch(batch.size(), createdIds.size(), tasks.size() - createdIds.size(), errors));
+        });
+    }
+
+    /**
+     * 가져온 할 일의 id. 같은 사용자, 같은 importId, 같은 파일 안의 id이면 항상 같은 값이며 '/'를 포함하지 않습니다.
+     */
+    static String taskId(String email, String importId, String sourceId) {
+        return UUID.nameUUIDFromBytes((email + "\n" + importId + "\n" + sourceId).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    private static TasksDto.TaskImportError error(TaskImportRow row, String message) {
+        return TasksDto.TaskImportError.builder()
+                .line(row.getLine())
+                .sourceId(row.getSourceId())
+                .message(message)
+                .build();
+    }
+
+    private static void close(TaskImportReader reader) {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            log.debug("task import reader close failed : {}", e.getMessage());
+        }
+    }
+
+    // 가져오기 한 건의 누적 집계 - 배치는 하나씩 순서대로 처리되므로 동시에 갱신되지 않음
+    private static final class ImportState {
+        private final String importId;
+        private long rows;
+        private long imported;
+        private long skipped;
+        private long failed;
+
+        private ImportState(String importId) {
+            this.importId = importId;
+        }
+
+        private TasksDto.TaskImportProgress batch(int rows, int imported, int skipped, List<TasksDto.TaskImportError> errors) {
+            this.rows += rows;
+            this.imported += imported;
+            this.skipped += skipped;
+            this.failed += errors.size();
+            return progress(errors, false, null);
+        }
+
+        private TasksDto.TaskImportProgress done(String error) {
+            return progress(List.of(), true, error);
+        }
+
+        private TasksDto.TaskImportProgress progress(List<TasksDto.TaskImportError> errors, boolean done, String error) {
+            return TasksDto.TaskImportProgress.builder()
+                    .importId(importId)
+                    .rows(rows)
+                    .imported(imported)
+                    .skipped(skipped)
+                    .failed(failed)
+                    .errors(errors)
+                    .done(done)
+                    .error(error)
+                    .build();
+        }
+    }
+}
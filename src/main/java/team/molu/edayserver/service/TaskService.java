@@ -1,24 +1,55 @@
 package team.molu.edayserver.service;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import team.molu.edayserver.domain.Task;
 import team.molu.edayserver.dto.TasksDto;
+import team.molu.edayserver.exception.InvalidTaskLookupException;
 import team.molu.edayserver.exception.TaskNotFoundException;
 import team.molu.edayserver.repository.TaskRepository;
+import team.molu.edayserver.util.ETagUtils;
 import team.molu.edayserver.util.SecurityUtils;
+import team.molu.edayserver.util.TaskCursor;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 
 @Service
 public class TaskService {
+    // 스트리밍 조회 시 드라이버에 한 번에 요청하는 레코드 수 (backpressure)
+    private static final int STREAM_PREFETCH = 256;
+    // 페이지 조회 시 limit 기본값 / 최대값
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 500;
+    // 트리 조회 시 depth 최대값
+    private static final int MAX_TREE_DEPTH = 32;
+    // 자동완성 결과 수 기본값 / 최대값
+    private static final int DEFAULT_TYPEAHEAD_SIZE = 10;
+    private static final int MAX_TYPEAHEAD_SIZE = 50;
+    // id 목록 조회 시 한 번에 요청할 수 있는 id 최대 개수
+    private static final int MAX_LOOKUP_SIZE = 200;
+    // 사용자마다 있는 기본 노드 ID
+    private static final Set<String> BASE_TASK_IDS = Set.of("root", "trash", "archive");
+
     private final TaskRepository taskRepository;
+    private final TaskTypeaheadIndex taskTypeaheadIndex;
+    private final TaskChangeLog taskChangeLog;
+    // 변경 작업과 변경 기록(revision 증가)을 한 트랜잭션으로 커밋
+    private final TransactionalOperator transactionalOperator;
 
-    public TaskService(TaskRepository taskRepository) {
+    public TaskService(TaskRepository taskRepository, TaskTypeaheadIndex taskTypeaheadIndex, TaskChangeLog taskChangeLog,
+                       TransactionalOperator transactionalOperator) {
         this.taskRepository = taskRepository;
+        this.taskTypeaheadIndex = taskTypeaheadIndex;
+        this.taskChangeLog = taskChangeLog;
+        this.transactionalOperator = transactionalOperator;
     }
 
-    private static TasksDto.TaskResponse convertToTaskResponse(Task newTask) {
+    static TasksDto.TaskResponse convertToTaskResponse(Task newTask) {
         return TasksDto.TaskResponse.builder()
                 .taskId(newTask.getId())
                 .name(newTask.getName())
@@ -30,16 +61,99 @@ public class TaskService {
                 .build();
     }
 
+    // 조회 기간 시작일 00:00 (포함)
+    private static LocalDateTime windowStart(String startDate) {
+        return parseDate(startDate).atStartOfDay();
+    }
+
+    // 조회 기간 종료일 다음날 00:00 (미포함) - 종료일 하루 전체를 포함
+    private static LocalDateTime windowEnd(String endDate) {
+        return parseDate(endDate).plusDays(1).atStartOfDay();
+    }
+
+    // "yyyy-MM-dd" 또는 "yyyy-MM-ddTHH:mm[:ss]" 형식 허용
+    private static LocalDate parseDate(String value) {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            return LocalDateTime.parse(value).toLocalDate();
+        }
+    }
+
+    private static int pageSize(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+    }
+
+    // pageSize + 1 개를 조회하여 다음 페이지 존재 여부를 판단
+    private static List<Task> page(List<Task> taskList, int pageSize) {
+        return taskList.size() > pageSize ? taskList.subList(0, pageSize) : taskList;
+    }
+
+    private static String nextCursor(List<Task> taskList, int pageSize) {
+        return taskList.size() > pageSize ? TaskCursor.of(taskList.get(pageSize - 1)).encode() : null;
+    }
+
+    // 검색 대상 트리 (root, trash, archive), 그 외 값은 root
+    private static String searchType(String type) {
+        if (type != null && (type.equals("root") || type.equals("trash") || type.equals("archive"))) {
+            return type;
+        }
+        return "root";
+    }
+
+    /**
+     * 전문 검색 인덱스용 Lucene 질의를 만듭니다.
+     * 검색어의 각 단어를 구문(phrase)으로 감싸 Lucene 연산자(AND, *, : 등)가 해석되지 않도록 하고,
+     * owner 조건을 필수 절로 넣어 인덱스 안에서 다른 사용자의 할 일을 걸러냅니다.
+     */
+    static String fullTextQuery(String email, String text) {
+        StringBuilder terms = new StringBuilder();
+        for (String term : text.trim().split("\\s+")) {
+            if (!term.isEmpty()) {
+                terms.append(terms.length() > 0 ? " " : "").append(quoteLucene(term));
+            }
+        }
+        return "+owner:" + quoteLucene(email) + " +(name:(" + terms + ")^2 memo:(" + terms + "))";
+    }
+
+    private static String quoteLucene(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    // findAllTasks / findTasksByDate 목록 응답과 동일한 기본값 적용
+    private static TasksDto.TaskResponse convertToStreamedTaskResponse(Task task) {
+        return TasksDto.TaskResponse.builder()
+                .taskId(task.getId())
+                .name(task.getName())
+                .memo(task.getMemo() != null ? task.getMemo() : "")
+                .startDate(task.getStartDate())
+                .endDate(task.getEndDate())
+                .priority(task.getPriority() != null ? task.getPriority() : 0)
+                .check(task.isCheck())
+                .build();
+    }
+
+    /**
+     * 사용자의 현재 revision으로 만든 ETag를 조회합니다. 사용자의 할 일이 바뀔 때마다 값이 바뀝니다.
+     *
+     * @return strong ETag
+     */
+    public Mono<String> findETag() {
+        return SecurityUtils.authenticatedUserEmail()
+                .flatMap(email -> taskChangeLog.revision(email).map(revision -> ETagUtils.strong(email, revision)));
+    }
+
     /**
      * 사용자의 단순 할 일 루트 노드들을 조회합니다.
      *
      * @return 단순 할 일(Task) 리스트 DTO
      */
-    public TasksDto.SearchTasksResponse findTaskByRoot() {
-        String email = SecurityUtils.getAuthenticatedUserEmail();
-
-        return taskRepository.findRootTasks(email)
-                .collectList()
+    public Mono<TasksDto.SearchTasksResponse> findTaskByRoot() {
+        return SecurityUtils.authenticatedUserEmail()
+                .flatMap(email -> taskRepository.findRootTasks(email).collectList())
                 .map(taskList -> {
                     List<TasksDto.TaskResponse> taskResponseList = new ArrayList<>();
                     for (Task task : taskList) {
@@ -57,7 +171,7 @@ public class TaskService {
                     return TasksDto.SearchTasksResponse.builder()
                             .taskList(taskResponseList)
                             .build();
-                }).block();
+                });
     }
 
     /**
@@ -66,24 +180,78 @@ public class TaskService {
      * @param taskId 조회 할 단순 할 일 노드의 ID
      * @return 단순 할 일(Task) DTO
      */
-    public TasksDto.TaskResponse findTaskById(String taskId) {
-        return taskRepository.findTaskById(taskId).switchIfEmpty(Mono.error(new TaskNotFoundException("Task not found with id: " + taskId)))
-                .map(TaskService::convertToTaskResponse)
-                .block();
+    public Mono<TasksDto.TaskResponse> findTaskById(String taskId) {
+        return SecurityUtils.authenticatedUserEmail()
+                .flatMap(email -> taskRepository.findTaskById(email, taskId))
+                .switchIfEmpty(Mono.error(new TaskNotFoundException("Task not found with id: " + taskId)))
+                .map(TaskService::convertToTaskResponse);
+    }
+
+    /**
+     * 여러 단순 할 일 노드를 id 목록으로 한 번에 조회합니다.
+     * 빈 id와 기본 노드(root / trash / archive)는 조회하지 않고 없는 id로 반환합니다.
+     *
+     * @param tasksDto 조회할 Task ID 목록 DTO (최대 200개)
+     * @return 요청한 순서대로의 단순 할 일(Task) 리스트와 조회되지 않은 ID 리스트 DTO
+     */
+    public Mono<TasksDto.TaskLookupResponse> findTasksByIds(TasksDto.TaskLookupRequest tasksDto) {
+        List<String> requested = tasksDto.getTaskIds() != null ? tasksDto.getTaskIds() : List.of();
+        if (requested.size() > MAX_LOOKUP_SIZE) {
+            throw new InvalidTaskLookupException("Too many task ids (max " + MAX_LOOKUP_SIZE + ").");
+        }
+        List<String> taskIds = requested.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        List<String> lookupIds = taskIds.stream()
+                .filter(taskId -> !taskId.isBlank() && !BASE_TASK_IDS.contains(taskId.trim().toLowerCase()))
+                .toList();
+
+        Mono<Map<String, TasksDto.TaskResponse>> found = lookupIds.isEmpty()
+                ? Mono.just(Map.of())
+                : SecurityUtils.authenticatedUserEmail()
+                        .flatMap(email -> taskRepository.findTasksByIds(email, lookupIds)
+                                .collectMap(Task::getId, TaskService::convertToTaskResponse));
+
+        return found.map(tasks -> {
+            List<TasksDto.TaskResponse> taskResponseList = new ArrayList<>();
+            List<String> missingTaskIds = new ArrayList<>();
+            for (String taskId : taskIds) {
+                TasksDto.TaskResponse task = tasks.get(taskId);
+                if (task != null) {
+                    taskResponseList.add(task);
+                } else {
+                    missingTaskIds.add(taskId);
+                }
+            }
+            return TasksDto.TaskLookupResponse.builder()
+                    .taskList(taskResponseList)
+                    .missingTaskIds(missingTaskIds)
+                    .build();
+        });
     }
 
     /**
-     * 특정 단순 할 일의 하위 할 일 노드들을 조회합니다.
+     * 특정 단순 할 일의 하위 할 일 노드들을 (priority, id) 순서로 페이지 단위 조회합니다.
      *
      * @param taskId 조회 할 단순 할 일 노드의 ID
+     * @param limit 페이지 크기 (null이면 기본값)
+     * @param cursor 이전 응답의 nextCursor (null이면 첫 페이지)
      * @return 단순 할 일(Task) 리스트 DTO
      */
-    public TasksDto.SearchTasksResponse findSubtaskById(String taskId) {
-        return taskRepository.findSubtaskById(taskId)
-                .collectList()
+    public Mono<TasksDto.SearchTasksResponse> findSubtaskById(String taskId, Integer limit, String cursor) {
+        int pageSize = pageSize(limit);
+        TaskCursor after = TaskCursor.decode(cursor);
+
+        return SecurityUtils.authenticatedUserEmail()
+                .flatMap(email -> taskRepository.findSubtaskPageById(email, taskId,
+                                after != null ? after.getPriority() : null,
+                                after != null ? after.getTaskId() : null,
+                                pageSize + 1)
+                        .collectList())
                 .map(taskList -> {
                     List<TasksDto.TaskResponse> taskResponseList = new ArrayList<>();
-                    for (Task task : taskList) {
+                    for (Task task : page(taskList, pageSize)) {
                         TasksDto.TaskResponse taskResponse = TasksDto.TaskResponse.builder()
                                 .taskId(task.getId())
                                 .name(task.getName())
@@ -97,8 +265,52 @@ public class TaskService {
                     }
                     return TasksDto.SearchTasksResponse.builder()
                             .taskList(taskResponseList)
+                            .nextCursor(nextCursor(taskList, pageSize))
                             .build();
-                }).block();
+                });
+    }
+
+    /**
+     * 특정 단순 할 일을 루트로 하는 서브트리를 depth 단계까지 한 번의 쿼리로 조회하여 중첩 구조로 반환합니다.
+     * depth 밖의 노드는 children이 null이며, childCount로 하위 노드 존재 여부를 알 수 있습니다.
+     *
+     * @param taskId 조회 할 서브트리 루트 노드의 ID ("root"이면 사용자의 전체 트리)
+     * @param depth 조회 할 깊이 (null이면 서브트리 전체)
+     * @return 중첩 된 단순 할 일 트리 DTO
+     */
+    public Mono<TasksDto.TaskTreeResponse> findTaskTree(String taskId, Integer depth) {
+        Integer maxDepth = depth != null ? Math.min(Math.max(depth, 0), MAX_TREE_DEPTH) : null;
+
+        return SecurityUtils.authenticatedUserEmail()
+                .flatMap(email -> taskRepository.findTaskTree(email, taskId, maxDepth).collectList())
+                .flatMap(rows -> {
+                    // 깊이 순으로 정렬되어 있으므로 부모 노드가 항상 먼저 생성됨
+                    Map<String, TasksDto.TaskTreeResponse> nodes = new HashMap<>();
+                    TasksDto.TaskTreeResponse root = null;
+                    for (TasksDto.TaskTreeRowDto row : rows) {
+                        boolean expanded = maxDepth == null || row.getDepth() < maxDepth;
+                        TasksDto.TaskTreeResponse node = TasksDto.TaskTreeResponse.builder()
+                                .taskId(row.getTaskId())
+                                .name(row.getName())
+                                .memo(row.getMemo() != null ? row.getMemo() : "")
+                                .startDate(row.getStartDate())
+                                .endDate(row.getEndDate())
+                                .priority(row.getPriority() != null ? row.getPriority() : 0)
+                                .check(row.getCheck() != null && row.getCheck())
+                                .childCount(row.getChildCount())
+                                .children(expanded ? new ArrayList<>() : null)
+                                .build();
+                        nodes.put(row.getTaskId(), node);
+
+                        if (row.getParentId() == null) {
+                            root = node;
+                        } else {
+                            nodes.get(row.getParentId()).getChildren().add(node);
+                        }
+                    }
+                    return Mono.justOrEmpty(root);
+                })
+                .switchIfEmpty(Mono.error(new TaskNotFoundException("Task not found with id: " + taskId)));
     }
 
     /**
@@ -107,13 +319,12 @@ public class TaskService {
      * @param taskId 조회 할 단순 할 일 노드의 ID
      * @return TaskRouteDTO(id, name, order) 리스트 (= TaskRouteResponse)
      */
-    public TasksDto.TaskRouteResponse getTaskRoutes(String taskId) {
-        return taskRepository.findRoutesById(taskId)
-                .collectList()
+    public Mono<TasksDto.TaskRouteResponse> getTaskRoutes(String taskId) {
+        return SecurityUtils.authenticatedUserEmail()
+                .flatMap(email -> taskRepository.findRoutesById(email, taskId).collectList())
                 .map(routes -> TasksDto.TaskRouteResponse.builder()
                         .routes(routes)
-                        .build())
-                .block();
+                        .build());
     }
 
     /**
@@ -122,9 +333,11 @@ public class TaskService {
      * @param tasksDto 저장할 단순 할일 정보 및 부모 단순 할일 정보 DTO
      * @return 단순 할 일(Task) DTO
      */
-    public TasksDto.TaskResponse createTask(TasksDto.TaskCreateRequest tasksDto) {
-        String email = SecurityUtils.getAuthenticatedUserEmail();
+    public Mono<TasksDto.TaskResponse> createTask(TasksDto.TaskCreateRequest tasksDto) {
+        return SecurityUtils.authenticatedUserEmail().flatMap(email -> createTask(email, tasksDto));
+    }
 
+    private Mono<TasksDto.TaskResponse> createTask(String email, TasksDto.TaskCreateRequest tasksDto) {
         String taskId = UUID.randomUUID().toString();
         Map<String, Object> task = new HashMap<>();
 
@@ -135,21 +348,20 @@ public class TaskService {
         task.put("endDate", tasksDto.getEndDate());
         task.put("priority", tasksDto.getPriority());
         task.put("check", false);
+        task.put("email", email);
 
+        Mono<Task> created;
         if ("0".equals(tasksDto.getParentId())) {
-            task.put("email", email);
-
-            return taskRepository.createTaskWithRootParent(task)
-                    .map(TaskService::convertToTaskResponse)
-                    .block();
+            created = taskRepository.createTaskWithRootParent(task);
         } else {
             task.put("parentId", tasksDto.getParentId());
 
-            return taskRepository.createTaskWithParent(task)
-                    .map(TaskService::convertToTaskResponse
-                    )
-                    .block();
+            created = taskRepository.createTaskWithParent(task);
         }
+        return created.flatMap(newTask -> taskChangeLog.recordTasks(email, "create", List.of(taskId)).thenReturn(newTask))
+                .as(transactionalOperator::transactional)
+                .map(TaskService::convertToTaskResponse)
+                .doOnNext(taskResponse -> taskTypeaheadIndex.put(email, taskResponse));
     }
 
     /**
@@ -158,8 +370,12 @@ public class TaskService {
      * @param tasksDto 수정할 단순 할일 정보 및 부모 단순 할일 정보 DTO
      * @return 단순 할 일(Task) DTO
      */
-    public TasksDto.TaskResponse updateTask(TasksDto.TaskUpdateRequest tasksDto) {
-        return taskRepository.findTaskById(tasksDto.getTaskId())
+    public Mono<TasksDto.TaskResponse> updateTask(TasksDto.TaskUpdateRequest tasksDto) {
+        return SecurityUtils.authenticatedUserEmail().flatMap(email -> updateTask(email, tasksDto));
+    }
+
+    private Mono<TasksDto.TaskResponse> updateTask(String email, TasksDto.TaskUpdateRequest tasksDto) {
+        return taskRepository.findTaskById(email, tasksDto.getTaskId())
                 .switchIfEmpty(Mono.error(new TaskNotFoundException("Task not found with id: " + tasksDto.getTaskId())))
                 .flatMap(task -> {
                     Map<String, Object> updatedTask = new HashMap<>();
@@ -171,10 +387,14 @@ public class TaskService {
                     updatedTask.put("endDate", tasksDto.getEndDate());
                     updatedTask.put("priority", tasksDto.getPriority() != null ? tasksDto.getPriority() : 0);
                     updatedTask.put("check", tasksDto.getCheck());
+                    updatedTask.put("email", email);
 
                     return taskRepository.updateTask(updatedTask);
                 })
-                .map(TaskService::convertToTaskResponse).block();
+                .flatMap(task -> taskChangeLog.recordTasks(email, "update", List.of(task.getId())).thenReturn(task))
+                .as(transactionalOperator::transactional)
+                .map(TaskService::convertToTaskResponse)
+                .doOnNext(taskResponse -> taskTypeaheadIndex.update(email, taskResponse));
     }
 
     /**
@@ -183,19 +403,30 @@ public class TaskService {
      * @param tasksDto 삭제할 단순 할일 id 및 cascade 여부 DTO
      * @return 삭제된 서브트리의 root ID, 삭제된 총 노드 개수 DTO
      */
-    public TasksDto.TaskDeleteResponse deleteTask(TasksDto.TaskDeleteRequest tasksDto) {
-        String email = SecurityUtils.getAuthenticatedUserEmail();
+    public Mono<TasksDto.TaskDeleteResponse> deleteTask(TasksDto.TaskDeleteRequest tasksDto) {
+        return SecurityUtils.authenticatedUserEmail().flatMap(email -> deleteTask(email, tasksDto));
+    }
 
-        Integer deletedNodes;
+    private Mono<TasksDto.TaskDeleteResponse> deleteTask(String email, TasksDto.TaskDeleteRequest tasksDto) {
+        Mono<Integer> deletedNodes;
         if (tasksDto.getCascade()) {
-            deletedNodes = taskRepository.deleteTaskByIdWithCascade(email, tasksDto.getTaskId()).block();
+            deletedNodes = taskRepository.deleteTaskByIdWithCascade(email, tasksDto.getTaskId())
+                    .flatMap(count -> count > 0
+                            ? taskChangeLog.recordSubtree(email, "delete", tasksDto.getTaskId()).thenReturn(count)
+                            : Mono.just(count))
+                    .as(transactionalOperator::transactional)
+                    .doOnNext(count -> taskTypeaheadIndex.invalidate(email));
         } else {
-            deletedNodes = taskRepository.deleteTaskById(email, tasksDto.getTaskId()).block();
+            // 자식 노드들은 삭제된 노드의 부모로 옮겨지므로, 옮겨지기 전에 함께 변경 기록
+            deletedNodes = taskChangeLog.recordDeletedTasks(email, "delete", List.of(tasksDto.getTaskId()))
+                    .then(taskRepository.deleteTaskById(email, tasksDto.getTaskId()))
+                    .as(transactionalOperator::transactional)
+                    .doOnNext(count -> taskTypeaheadIndex.remove(email, tasksDto.getTaskId()));
         }
-        return TasksDto.TaskDeleteResponse.builder()
+        return deletedNodes.map(count -> TasksDto.TaskDeleteResponse.builder()
                 .taskId(tasksDto.getTaskId())
-                .deletedNodes(deletedNodes)
-                .build();
+                .deletedNodes(count)
+                .build());
     }
 
     /**
@@ -205,11 +436,12 @@ public class TaskService {
      * @param endDate 조회할 할일 종료일자
      * @return 단순 할 일(Task) 리스트 DTO
      */
-    public TasksDto.SearchTasksResponse findTasksByDate(String startDate, String endDate) {
-        String email = SecurityUtils.getAuthenticatedUserEmail();
+    public Mono<TasksDto.SearchTasksResponse> findTasksByDate(String startDate, String endDate) {
+        LocalDateTime from = windowStart(startDate);
+        LocalDateTime to = windowEnd(endDate);
 
-        return taskRepository.findTasksByDate(email, startDate, endDate)
-                .collectList()
+        return SecurityUtils.authenticatedUserEmail()
+                .flatMap(email -> taskRepository.findTasksByDate(email, from, to).collectList())
                 .map(taskList -> {
                     List<TasksDto.TaskResponse> taskResponseList = new ArrayList<>();
                     for (Task task : taskList) {
@@ -227,22 +459,29 @@ public class TaskService {
                     return TasksDto.SearchTasksResponse.builder()
                             .taskList(taskResponseList)
                             .build();
-                }).block();
+                });
     }
 
     /**
-     * 사용자가 갖고 있는 모든 노드들을 조회합니다.
+     * 사용자가 갖고 있는 모든 노드들을 (priority, id) 순서로 페이지 단위 조회합니다.
      *
+     * @param limit 페이지 크기 (null이면 기본값)
+     * @param cursor 이전 응답의 nextCursor (null이면 첫 페이지)
      * @return 단순 할 일(Task) 리스트 DTO
      */
-    public TasksDto.SearchTasksResponse findAllTasks() {
-        String email = SecurityUtils.getAuthenticatedUserEmail();
-
-        return taskRepository.findAllTasks(email)
-                .collectList()
+    public Mono<TasksDto.SearchTasksResponse> findAllTasks(Integer limit, String cursor) {
+        int pageSize = pageSize(limit);
+        TaskCursor after = TaskCursor.decode(cursor);
+
+        return SecurityUtils.authenticatedUserEmail()
+                .flatMap(email -> taskRepository.findAllTasksPage(email,
+                                after != null ? after.getPriority() : null,
+                                after != null ? after.getTaskId() : null,
+                                pageSize + 1)
+                        .collectList())
                 .map(taskList -> {
                     List<TasksDto.TaskResponse> taskResponseList = new ArrayList<>();
-                    for (Task task : taskList) {
+                    for (Task task : page(taskList, pageSize)) {
                         TasksDto.TaskResponse taskResponse = TasksDto.TaskResponse.builder()
                                 .taskId(task.getId())
                                 .name(task.getName())
@@ -256,8 +495,38 @@ public class TaskService {
                     }
                     return TasksDto.SearchTasksResponse.builder()
                             .taskList(taskResponseList)
+                            .nextCursor(nextCursor(taskList, pageSize))
                             .build();
-                }).block();
+                });
+    }
+
+    /**
+     * 특정 날짜에 포함되는 노드들을 드라이버가 내보내는 순서대로 스트리밍합니다.
+     *
+     * @param startDate 조회활 할일 시작일자,
+     * @param endDate 조회할 할일 종료일자
+     * @return 단순 할 일(Task) DTO 스트림
+     */
+    public Flux<TasksDto.TaskResponse> streamTasksByDate(String startDate, String endDate) {
+        LocalDateTime from = windowStart(startDate);
+        LocalDateTime to = windowEnd(endDate);
+
+        return SecurityUtils.authenticatedUserEmail()
+                .flatMapMany(email -> taskRepository.findTasksByDate(email, from, to))
+                .limitRate(STREAM_PREFETCH)
+                .map(TaskService::convertToStreamedTaskResponse);
+    }
+
+    /**
+     * 사용자가 갖고 있는 모든 노드들을 드라이버가 내보내는 순서대로 스트리밍합니다.
+     *
+     * @return 단순 할 일(Task) DTO 스트림
+     */
+    public Flux<TasksDto.TaskResponse> streamAllTasks() {
+        return SecurityUtils.authenticatedUserEmail()
+                .flatMapMany(taskRepository::findAllTasks)
+                .limitRate(STREAM_PREFETCH)
+                .map(TaskService::convertToStreamedTaskResponse);
     }
 
     /**
@@ -266,18 +535,31 @@ public class TaskService {
      * @param tasksDto 삭제할 단순 할일 id 및 cascade 여부 DTO
      * @return 삭제된 서브트리의 root ID, 삭제된 총 노드 개수 DTO
      */
-    public TasksDto.TaskDeleteResponse dropTask(TasksDto.TaskDeleteRequest tasksDto) {
-        Integer deletedNodes;
-        if (tasksDto.getCascade()) {
-            deletedNodes = taskRepository.dropTaskByIdWithCascade(tasksDto.getTaskId()).block();
-        } else {
-            deletedNodes = taskRepository.dropTaskById(tasksDto.getTaskId()).block();
-        }
+    public Mono<TasksDto.TaskDeleteResponse> dropTask(TasksDto.TaskDeleteRequest tasksDto) {
+        return SecurityUtils.authenticatedUserEmail().flatMap(email -> dropTask(email, tasksDto));
+    }
 
-        return TasksDto.TaskDeleteResponse.builder()
+    private Mono<TasksDto.TaskDeleteResponse> dropTask(String email, TasksDto.TaskDeleteRequest tasksDto) {
+        Mono<Integer> deletedNodes = tasksDto.getCascade()
+                ? taskRepository.dropTaskByIdWithCascade(email, tasksDto.getTaskId())
+                : taskRepository.dropTaskById(email, tasksDto.getTaskId());
+
+        // 휴지통의 노드는 이미 tombstone으로 내려갔지만, ETag가 바뀌도록 revision은 증가
+        return deletedNodes.flatMap(count -> count > 0
+                        ? taskChangeLog.recordTasks(email, "drop", List.of(tasksDto.getTaskId())).thenReturn(count)
+                        : Mono.just(count))
+                .as(transactionalOperator::transactional)
+                .doOnNext(count -> {
+                    if (tasksDto.getCascade()) {
+                        taskTypeaheadIndex.invalidate(email);
+                    } else {
+                        taskTypeaheadIndex.remove(email, tasksDto.getTaskId());
+                    }
+                })
+                .map(count -> TasksDto.TaskDeleteResponse.builder()
                 .taskId(tasksDto.getTaskId())
-                .deletedNodes(deletedNodes)
-                .build();
+                .deletedNodes(count)
+                .build());
     }
 
     /**
@@ -285,14 +567,16 @@ public class TaskService {
      *
      * @return 삭제된 총 노드 개수 DTO
      */
-    public TasksDto.EmptyTrashResponse dropAllTask() {
-        String email = SecurityUtils.getAuthenticatedUserEmail();
-
-        Integer deletedNodes = taskRepository.emptyTrash(email).block();
-
-        return TasksDto.EmptyTrashResponse.builder()
-                .deletedNodes(deletedNodes)
-                .build();
+    public Mono<TasksDto.EmptyTrashResponse> dropAllTask() {
+        return SecurityUtils.authenticatedUserEmail()
+                .flatMap(email -> taskRepository.emptyTrash(email)
+                        .flatMap(count -> count > 0
+                                ? taskChangeLog.recordTasks(email, "drop", List.of()).thenReturn(count)
+                                : Mono.just(count))
+                        .as(transactionalOperator::transactional))
+                .map(count -> TasksDto.EmptyTrashResponse.builder()
+                        .deletedNodes(count)
+                        .build());
     }
 
     /**
@@ -301,22 +585,27 @@ public class TaskService {
      * @param tasksDto 복구 요청 Task ID, 복구할 위치 Task ID DTO
      * @return 복구 요청에 대한 응답(복구 요청 Task ID, 복구할 위치 Task ID, 복구한 노드 개수) DTO
      */
-    public TasksDto.TaskRestoreResponse restoreTask(TasksDto.TaskRestoreRequest tasksDto) {
-        String email = SecurityUtils.getAuthenticatedUserEmail();
+    public Mono<TasksDto.TaskRestoreResponse> restoreTask(TasksDto.TaskRestoreRequest tasksDto) {
+        return SecurityUtils.authenticatedUserEmail().flatMap(email -> restoreTask(email, tasksDto));
+    }
 
-        Integer restoredNodes;
+    private Mono<TasksDto.TaskRestoreResponse> restoreTask(String email, TasksDto.TaskRestoreRequest tasksDto) {
+        Mono<Integer> restoredNodes;
         if ("0".equals(tasksDto.getParentId())) {
-            restoredNodes = taskRepository.restoreTaskById(email, "root", tasksDto.getTaskId()).block();
-
+            restoredNodes = taskRepository.restoreTaskById(email, "root", tasksDto.getTaskId());
         } else {
-            restoredNodes = taskRepository.restoreTaskById(email, tasksDto.getParentId(), tasksDto.getTaskId()).block();
-
+            restoredNodes = taskRepository.restoreTaskById(email, tasksDto.getParentId(), tasksDto.getTaskId());
         }
-        return TasksDto.TaskRestoreResponse.builder()
+        return restoredNodes.flatMap(count -> count > 0
+                        ? taskChangeLog.recordSubtree(email, "restore", tasksDto.getTaskId()).thenReturn(count)
+                        : Mono.just(count))
+                .as(transactionalOperator::transactional)
+                .doOnNext(count -> taskTypeaheadIndex.invalidate(email))
+                .map(count -> TasksDto.TaskRestoreResponse.builder()
                 .taskId(tasksDto.getTaskId())
                 .parentId(tasksDto.getParentId())
-                .restoredNodes(restoredNodes)
-                .build();
+                .restoredNodes(count)
+                .build());
     }
 
     /**
@@ -325,31 +614,32 @@ public class TaskService {
      * @param tasksDto 이동 요청 Task ID, 이동할 위치 Task ID DTO
      * @return 이동 요청에 대한 응답(이동 요청 Task ID, 이동할 위치 Task ID, 이동한 노드 개수) DTO
      */
-    public TasksDto.TaskMoveResponse moveTask(TasksDto.TaskMoveRequest tasksDto) {
-        String email = SecurityUtils.getAuthenticatedUserEmail();
-
-        Integer restoredNodes;
-        boolean isDescendant;
+    public Mono<TasksDto.TaskMoveResponse> moveTask(TasksDto.TaskMoveRequest tasksDto) {
+        return SecurityUtils.authenticatedUserEmail().flatMap(email -> moveTask(email, tasksDto));
+    }
 
-        isDescendant = taskRepository.isDescendant(tasksDto.getTaskId(), tasksDto.getParentId())
+    private Mono<TasksDto.TaskMoveResponse> moveTask(String email, TasksDto.TaskMoveRequest tasksDto) {
+        return taskRepository.isDescendant(email, tasksDto.getTaskId(), tasksDto.getParentId())
                 .defaultIfEmpty(false)
                 .onErrorReturn(false)
-                .block();
-
-        if(Boolean.TRUE.equals(isDescendant)) {
-            restoredNodes = 0;
-        } else {
-            if ("0".equals(tasksDto.getParentId())) {
-                restoredNodes = taskRepository.moveTaskById(email, "root", tasksDto.getTaskId()).block();
-            } else {
-                restoredNodes = taskRepository.moveTaskById(email, tasksDto.getParentId(), tasksDto.getTaskId()).block();
-            }
-        }
-        return TasksDto.TaskMoveResponse.builder()
-                .taskId(tasksDto.getTaskId())
-                .parentId(tasksDto.getParentId())
-                .movedNodes(restoredNodes)
-                .build();
+                .flatMap(isDescendant -> {
+                    if (Boolean.TRUE.equals(isDescendant)) {
+                        return Mono.just(0);
+                    } else if ("0".equals(tasksDto.getParentId())) {
+                        return taskRepository.moveTaskById(email, "root", tasksDto.getTaskId());
+                    } else {
+                        return taskRepository.moveTaskById(email, tasksDto.getParentId(), tasksDto.getTaskId());
+                    }
+                })
+                .flatMap(movedNodes -> movedNodes > 0
+                        ? taskChangeLog.recordSubtree(email, "move", tasksDto.getTaskId()).thenReturn(movedNodes)
+                        : Mono.just(movedNodes))
+                .as(transactionalOperator::transactional)
+                .map(movedNodes -> TasksDto.TaskMoveResponse.builder()
+                        .taskId(tasksDto.getTaskId())
+                        .parentId(tasksDto.getParentId())
+                        .movedNodes(movedNodes)
+                        .build());
     }
 
     /**
@@ -358,15 +648,21 @@ public class TaskService {
      * @param tasksDto 아카이빙 요청 Task ID DTO
      * @return 아카이빙 요청에 대한 응답(아카이빙 요청 Task ID, 아카이빙한 노드 개수) DTO
      */
-    public TasksDto.TaskArchiveResponse archiveTask(TasksDto.TaskArchiveRequest tasksDto) {
-        String email = SecurityUtils.getAuthenticatedUserEmail();
-
-        Integer archivedNodes = taskRepository.archiveTaskById(email, tasksDto.getTaskId()).block();
+    public Mono<TasksDto.TaskArchiveResponse> archiveTask(TasksDto.TaskArchiveRequest tasksDto) {
+        return SecurityUtils.authenticatedUserEmail().flatMap(email -> archiveTask(email, tasksDto));
+    }
 
-        return TasksDto.TaskArchiveResponse.builder()
-                .taskId(tasksDto.getTaskId())
-                .archivedNodes(archivedNodes)
-                .build();
+    private Mono<TasksDto.TaskArchiveResponse> archiveTask(String email, TasksDto.TaskArchiveRequest tasksDto) {
+        return taskRepository.archiveTaskById(email, tasksDto.getTaskId())
+                .flatMap(archivedNodes -> archivedNodes > 0
+                        ? taskChangeLog.recordSubtree(email, "archive", tasksDto.getTaskId()).thenReturn(archivedNodes)
+                        : Mono.just(archivedNodes))
+                .as(transactionalOperator::transactional)
+                .doOnNext(archivedNodes -> taskTypeaheadIndex.invalidate(email))
+                .map(archivedNodes -> TasksDto.TaskArchiveResponse.builder()
+                        .taskId(tasksDto.getTaskId())
+                        .archivedNodes(archivedNodes)
+                        .build());
     }
 
     /**
@@ -375,37 +671,44 @@ public class TaskService {
      * @param tasksDto 아카이빙 해제 요청 DTO(Task ID, Parent ID: null일 경우 기존 위치로 아카이빙 해제)
      * @return 아카이빙 해제 요청에 대한 응답(아카이빙 해제 요청 Task ID, 아카이빙 해제된 위치 Task ID, 아키이빙 해제된 노드 개수) DTO
      */
-    public TasksDto.TaskUnarchiveResponse unarchiveTask(TasksDto.TaskUnarchiveRequest tasksDto) {
-        String email = SecurityUtils.getAuthenticatedUserEmail();
+    public Mono<TasksDto.TaskUnarchiveResponse> unarchiveTask(TasksDto.TaskUnarchiveRequest tasksDto) {
+        return SecurityUtils.authenticatedUserEmail().flatMap(email -> unarchiveTask(email, tasksDto));
+    }
 
+    private Mono<TasksDto.TaskUnarchiveResponse> unarchiveTask(String email, TasksDto.TaskUnarchiveRequest tasksDto) {
+        Mono<TasksDto.TaskUnarchiveResponse> unarchived;
         if(tasksDto.getParentId() == null) {
-            return taskRepository.unarchiveTaskByIdWithOriginalParent(email, tasksDto.getTaskId()).block();
+            unarchived = taskRepository.unarchiveTaskByIdWithOriginalParent(email, tasksDto.getTaskId());
         } else if("0".equals(tasksDto.getParentId())) {
-            return taskRepository.unarchiveTaskByIdWithSpecificParent(email, "root", tasksDto.getTaskId()).block();
+            unarchived = taskRepository.unarchiveTaskByIdWithSpecificParent(email, "root", tasksDto.getTaskId());
         } else {
-            return taskRepository.unarchiveTaskByIdWithSpecificParent(email, tasksDto.getParentId(), tasksDto.getTaskId()).block();
+            unarchived = taskRepository.unarchiveTaskByIdWithSpecificParent(email, tasksDto.getParentId(), tasksDto.getTaskId());
         }
+        return unarchived.flatMap(response -> taskChangeLog.recordSubtree(email, "unarchive", tasksDto.getTaskId()).thenReturn(response))
+                .as(transactionalOperator::transactional)
+                .doOnNext(response -> taskTypeaheadIndex.invalidate(email));
     }
 
     /**
-     * 특정 문자열을 포함하는 Task를 검색합니다.
+     * 특정 문자열을 포함하는 Task를 (priority, id) 순서로 페이지 단위 검색합니다.
      *
-     * @param tasksDto 문자열 검색 요청 DTO(text, type)
+     * @param tasksDto 문자열 검색 요청 DTO(text, type, limit, cursor)
      * @return 해당 문자열로 검색 된 Task 노드들 반환
      */
-    public TasksDto.SearchTasksResponse searchTasksByName(TasksDto.TaskSearchByNameRequest tasksDto) {
-        String email = SecurityUtils.getAuthenticatedUserEmail();
-
-        String type = "root";
-        if (tasksDto.getType() != null && (tasksDto.getType().equals("root") || tasksDto.getType().equals("trash") || tasksDto.getType().equals("archive"))) {
-            type = tasksDto.getType();
-        }
-
-        return taskRepository.searchTaskByName(email, type, tasksDto.getText())
-                .collectList()
+    public Mono<TasksDto.SearchTasksResponse> searchTasksByName(TasksDto.TaskSearchByNameRequest tasksDto) {
+        String type = searchType(tasksDto.getType());
+        int pageSize = pageSize(tasksDto.getLimit());
+        TaskCursor after = TaskCursor.decode(tasksDto.getCursor());
+
+        return SecurityUtils.authenticatedUserEmail()
+                .flatMap(email -> taskRepository.searchTaskPageByName(email, type, tasksDto.getText(),
+                                after != null ? after.getPriority() : null,
+                                after != null ? after.getTaskId() : null,
+                                pageSize + 1)
+                        .collectList())
                 .map(taskList -> {
                     List<TasksDto.TaskResponse> taskResponseList = new ArrayList<>();
-                    for(Task task : taskList) {
+                    for(Task task : page(taskList, pageSize)) {
                         TasksDto.TaskResponse taskResponse = TasksDto.TaskResponse.builder()
                                 .taskId(task.getId())
                                 .name(task.getName())
@@ -419,7 +722,60 @@ public class TaskService {
                     }
                     return TasksDto.SearchTasksResponse.builder()
                             .taskList(taskResponseList)
+                            .nextCursor(nextCursor(taskList, pageSize))
                             .build();
-                }).block();
+                });
+    }
+
+    /**
+     * 전문 검색 인덱스로 이름/메모에 검색어가 포함된 Task를 관련도 순으로 검색합니다.
+     *
+     * @param tasksDto 전문 검색 요청 DTO(text, type, limit, offset)
+     * @return 관련도 순으로 정렬된 Task 노드들 반환
+     */
+    public Mono<TasksDto.SearchTasksResponse> searchTasksByFullText(TasksDto.TaskFullTextSearchRequest tasksDto) {
+        if (tasksDto.getText() == null || tasksDto.getText().isBlank()) {
+            return Mono.just(TasksDto.SearchTasksResponse.builder()
+                    .taskList(new ArrayList<>())
+                    .build());
+        }
+        String type = searchType(tasksDto.getType());
+        int pageSize = pageSize(tasksDto.getLimit());
+        int offset = tasksDto.getOffset() != null ? Math.max(tasksDto.getOffset(), 0) : 0;
+
+        return SecurityUtils.authenticatedUserEmail()
+                .flatMap(email -> taskRepository.searchTaskByFullText(email, type, fullTextQuery(email, tasksDto.getText()), offset, pageSize)
+                        .map(TaskService::convertToTaskResponse)
+                        .collectList())
+                .map(taskResponseList -> TasksDto.SearchTasksResponse.builder()
+                        .taskList(taskResponseList)
+                        .build());
+    }
+
+    /**
+     * 마지막으로 받은 revision 이후에 변경된 할 일과 삭제된 할 일 ID를 조회합니다.
+     *
+     * @param since 클라이언트가 마지막으로 받은 revision (null이면 현재 revision만 반환)
+     * @return 변경분 DTO
+     */
+    public Mono<TasksDto.TaskChangesResponse> findChanges(Long since) {
+        return SecurityUtils.authenticatedUserEmail().flatMap(email -> taskChangeLog.changesSince(email, since));
+    }
+
+    /**
+     * 입력 중인 검색어(완성/미완성 음절, 초성)로 루트 하위 할 일 이름을 자동완성합니다.
+     *
+     * @param query 검색어
+     * @param limit 최대 결과 수 (null이면 기본값)
+     * @return 자동완성 된 Task 노드들 반환
+     */
+    public Mono<TasksDto.SearchTasksResponse> typeahead(String query, Integer limit) {
+        int size = limit != null ? Math.min(Math.max(limit, 1), MAX_TYPEAHEAD_SIZE) : DEFAULT_TYPEAHEAD_SIZE;
+
+        return SecurityUtils.authenticatedUserEmail()
+                .flatMap(email -> taskTypeaheadIndex.search(email, query, size))
+                .map(taskResponseList -> TasksDto.SearchTasksResponse.builder()
+                        .taskList(taskResponseList)
+                        .build());
     }
 }
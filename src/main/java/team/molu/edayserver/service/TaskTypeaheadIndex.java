@@ -0,0 +1,229 @@
+package team.molu.edayserver.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import team.molu.edayserver.dto.TasksDto;
+import team.molu.edayserver.repository.TaskRepository;
+import team.molu.edayserver.util.HangulUtils;
+
+import java.util.*;
+
+/**
+ * 사용자별 인메모리 자동완성(typeahead) 인덱스.
+ * 루트 하위 할 일 이름을 자모/초성 문자열로 분해해 bigram 역색인을 만들고, 입력 중인 글자와 초성 검색어를
+ * Neo4j 조회 없이 처리합니다. 사용자 인덱스는 처음 검색할 때 한 번 적재되고, 이후에는 TaskService의
+ * 생성/수정/삭제 경로에서 증분 갱신됩니다. 서브트리 단위 변경(cascade 삭제, 아카이빙, 복구)은 해당 사용자 인덱스를
+ * 무효화하여 다음 검색 때 다시 적재합니다.
+ */
+@Component
+@Slf4j
+public class TaskTypeaheadIndex {
+    private static final char JAMO_GRAM = 'j';
+    private static final char CHOSUNG_GRAM = 'c';
+
+    private final TaskRepository taskRepository;
+    // 최근 사용 순서 유지 (LRU), 최대 사용자 수를 넘으면 가장 오래 사용되지 않은 인덱스 제거
+    private final Map<String, Mono<UserIndex>> indexes;
+
+    public TaskTypeaheadIndex(TaskRepository taskRepository, @Value("${eday.typeahead.max-users:1000}") int maxUsers) {
+        this.taskRepository = taskRepository;
+        this.indexes = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Mono<UserIndex>> eldest) {
+                return size() > maxUsers;
+            }
+        };
+    }
+
+    /**
+     * 이름에 검색어가 포함된 할 일을 찾습니다. 이름이 검색어로 시작하는 할 일이 먼저, 그 다음 짧은 이름 순입니다.
+     *
+     * @param email 사용자 email
+     * @param query 입력 중인 검색어 (완성/미완성 음절, 초성 모두 가능)
+     * @param limit 최대 결과 수
+     * @return 검색된 할 일 DTO 리스트
+     */
+    public Mono<List<TasksDto.TaskResponse>> search(String email, String query, int limit) {
+        if (email == null || query == null || query.isBlank()) {
+            return Mono.just(List.of());
+        }
+        return index(email).map(index -> index.search(query, limit));
+    }
+
+    /** 생성된 할 일을 인덱스에 추가합니다. 아직 적재되지 않은 사용자는 무시합니다. */
+    public void put(String email, TasksDto.TaskResponse task) {
+        Mono<UserIndex> index = loaded(email);
+        if (index != null) {
+            index.subscribe(userIndex -> userIndex.put(task));
+        }
+    }
+
+    /** 이미 인덱스에 있는 할 일만 갱신합니다. (휴지통/아카이브의 할 일 수정은 무시) */
+    public void update(String email, TasksDto.TaskResponse task) {
+        Mono<UserIndex> index = loaded(email);
+        if (index != null) {
+            index.subscribe(userIndex -> userIndex.replace(task));
+        }
+    }
+
+    /** 할 일 하나를 인덱스에서 제거합니다. */
+    public void remove(String email, String taskId) {
+        Mono<UserIndex> index = loaded(email);
+        if (index != null) {
+            index.subscribe(userIndex -> userIndex.remove(taskId));
+        }
+    }
+
+    /** 서브트리 단위 변경 후 사용자 인덱스를 버립니다. 다음 검색 때 다시 적재됩니다. */
+    public void invalidate(String email) {
+        if (email == null) {
+            return;
+        }
+        synchronized (indexes) {
+            indexes.remove(email);
+        }
+    }
+
+    private Mono<UserIndex> loaded(String email) {
+        if (email == null) {
+            return null;
+        }
+        synchronized (indexes) {
+            return indexes.get(email);
+        }
+    }
+
+    private Mono<UserIndex> index(String email) {
+        synchronized (indexes) {
+            return indexes.computeIfAbsent(email, this::load);
+        }
+    }
+
+    private Mono<UserIndex> load(String email) {
+        return taskRepository.findAllTasks(email)
+                .map(TaskService::convertToTaskResponse)
+                .collect(UserIndex::new, UserIndex::put)
+                .doOnNext(index -> log.info("typeahead index loaded : {} tasks", index.size()))
+                .doOnError(e -> invalidate(email))
+                .cache();
+    }
+
+    private static final class Entry {
+        private final TasksDto.TaskResponse task;
+        private final String jamo;
+        private final String chosung;
+
+        private Entry(TasksDto.TaskResponse task) {
+            String name = task.getName() != null ? task.getName() : "";
+            this.task = task;
+            this.jamo = HangulUtils.toJamo(name);
+            this.chosung = stripWhitespace(HangulUtils.toChosung(name));
+        }
+    }
+
+    private static final class UserIndex {
+        private final Map<String, Entry> entries = new HashMap<>();
+        // gram → taskId 집합
+        private final Map<String, Set<String>> postings = new HashMap<>();
+
+        synchronized int size() {
+            return entries.size();
+        }
+
+        synchronized void put(TasksDto.TaskResponse task) {
+            remove(task.getTaskId());
+            Entry entry = new Entry(task);
+            entries.put(task.getTaskId(), entry);
+            for (String gram : grams(entry)) {
+                postings.computeIfAbsent(gram, g -> new HashSet<>()).add(task.getTaskId());
+            }
+        }
+
+        synchronized void replace(TasksDto.TaskResponse task) {
+            if (entries.containsKey(task.getTaskId())) {
+                put(task);
+            }
+        }
+
+        synchronized void remove(String taskId) {
+            Entry entry = entries.remove(taskId);
+            if (entry == null) {
+                return;
+            }
+            for (String gram : grams(entry)) {
+                Set<String> ids = postings.get(gram);
+                if (ids != null) {
+                    ids.remove(taskId);
+                    if (ids.isEmpty()) {
+                        postings.remove(gram);
+                    }
+                }
+            }
+        }
+
+        synchronized List<TasksDto.TaskResponse> search(String query, int limit) {
+            boolean chosungQuery = HangulUtils.isChosungQuery(query);
+            String needle = chosungQuery ? stripWhitespace(query) : HangulUtils.toJamo(query.trim());
+            char kind = chosungQuery ? CHOSUNG_GRAM : JAMO_GRAM;
+
+            List<Entry> matches = new ArrayList<>();
+            for (Entry entry : candidates(kind, needle)) {
+                String haystack = chosungQuery ? entry.chosung : entry.jamo;
+                if (haystack.contains(needle)) {
+                    matches.add(entry);
+                }
+            }
+            matches.sort(Comparator
+                    .comparing((Entry entry) -> !(chosungQuery ? entry.chosung : entry.jamo).startsWith(needle))
+                    .thenComparingInt(entry -> entry.jamo.length())
+                    .thenComparing(entry -> entry.task.getTaskId()));
+
+            List<TasksDto.TaskResponse> result = new ArrayList<>(Math.min(limit, matches.size()));
+            for (int i = 0; i < matches.size() && i < limit; i++) {
+                result.add(matches.get(i).task);
+            }
+            return result;
+        }
+
+        // 검색어 bigram 중 가장 짧은 posting 목록 (한 글자 검색어는 전체)
+        private Collection<Entry> candidates(char kind, String needle) {
+            if (needle.length() < 2) {
+                return entries.values();
+            }
+            Set<String> smallest = null;
+            for (int i = 0; i + 2 <= needle.length(); i++) {
+                Set<String> ids = postings.get(kind + needle.substring(i, i + 2));
+                if (ids == null) {
+                    return List.of();
+                }
+                if (smallest == null || ids.size() < smallest.size()) {
+                    smallest = ids;
+                }
+            }
+            List<Entry> candidates = new ArrayList<>(smallest.size());
+            for (String id : smallest) {
+                candidates.add(entries.get(id));
+            }
+            return candidates;
+        }
+
+        private static Set<String> grams(Entry entry) {
+            Set<String> grams = new HashSet<>();
+            addBigrams(grams, JAMO_GRAM, entry.jamo);
+            addBigrams(grams, CHOSUNG_GRAM, entry.chosung);
+            return grams;
+        }
+
+        private static void addBigrams(Set<String> grams, char kind, String value) {
+            for (int i = 0; i + 2 <= value.length(); i++) {
+                grams.add(kind + value.substring(i, i + 2));
+            }
+        }
+    }
+
+    private static String stripWhitespace(String value) {
+        return value.replaceAll("\\s+", "");
+    }
+}
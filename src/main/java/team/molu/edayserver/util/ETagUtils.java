@@ -0,0 +1,69 @@
+package team.molu.edayserver.util;
+
+import org.apache.commons.codec.binary.Hex;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * 사용자 revision 기반 ETag 생성 및 If-None-Match 비교 유틸.
+ */
+public final class ETagUtils {
+    // email SHA-256 digest 중 ETag에 넣을 앞부분 바이트 수 (64비트)
+    private static final int USER_TAG_BYTES = 8;
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private ETagUtils() {
+    }
+
+    /**
+     * 사용자와 revision으로 strong ETag를 만듭니다. 같은 URL이라도 사용자가 다르면 다른 값이 나오도록
+     * email SHA-256 digest의 앞 8바이트(hex)를 포함합니다. (String.hashCode는 충돌을 쉽게 만들 수 있음)
+     * 예) "973dfe463ec85785-42" (test@example.com, revision 42)
+     */
+    public static String strong(String email, long revision) {
+        return "\"" + userTag(email) + "-" + revision + "\"";
+    }
+
+    private static String userTag(String email) {
+        MessageDigest sha256 = SHA_256.get();
+        sha256.reset();
+        byte[] digest = sha256.digest((email != null ? email : "").getBytes(StandardCharsets.UTF_8));
+        return Hex.encodeHexString(Arrays.copyOf(digest, USER_TAG_BYTES));
+    }
+
+    /**
+     * If-None-Match 헤더가 ETag와 일치하는지 확인합니다. (RFC 9110 - 약한 비교, "*" 및 여러 값 허용)
+     *
+     * @param ifNoneMatch If-None-Match 헤더 값 (없으면 null)
+     * @param etag 현재 ETag
+     * @return 일치하면 true (304 응답 가능)
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        if (ifNoneMatch.trim().equals("*")) {
+            return true;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
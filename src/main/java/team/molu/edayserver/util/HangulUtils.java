@@ -0,0 +1,113 @@
+package team.molu.edayserver.util;
+
+import java.util.Map;
+
+/**
+ * 한글 음절/자모 분해 유틸.
+ * 음절은 초성·중성·종성 호환 자모로, 겹자음/겹모음(ㄺ, ㅘ 등)은 입력 순서대로의 기본 자모로 풀어
+ * 입력 중인 글자("할이" → "할일")와 초성 검색("ㅎㅇ" → "할일")을 문자열 포함 여부로 비교할 수 있게 합니다.
+ */
+public final class HangulUtils {
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final int JUNGSUNG_COUNT = 21;
+    private static final int JONGSUNG_COUNT = 28;
+
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final char[] JUNGSUNG = {
+            'ㅏ', 'ㅐ', 'ㅑ', 'ㅒ', 'ㅓ', 'ㅔ', 'ㅕ', 'ㅖ', 'ㅗ', 'ㅘ', 'ㅙ', 'ㅚ', 'ㅛ', 'ㅜ', 'ㅝ', 'ㅞ', 'ㅟ', 'ㅠ', 'ㅡ', 'ㅢ', 'ㅣ'
+    };
+    // 0번은 받침 없음
+    private static final char[] JONGSUNG = {
+            0, 'ㄱ', 'ㄲ', 'ㄳ', 'ㄴ', 'ㄵ', 'ㄶ', 'ㄷ', 'ㄹ', 'ㄺ', 'ㄻ', 'ㄼ', 'ㄽ', 'ㄾ', 'ㄿ', 'ㅀ', 'ㅁ', 'ㅂ', 'ㅄ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+            Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"), Map.entry('ㄺ', "ㄹㄱ"),
+            Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"), Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"),
+            Map.entry('ㄿ', "ㄹㅍ"), Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"),
+            Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"), Map.entry('ㅝ', "ㅜㅓ"),
+            Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"), Map.entry('ㅢ', "ㅡㅣ")
+    );
+
+    private HangulUtils() {
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BASE && c <= SYLLABLE_LAST;
+    }
+
+    // 호환 자모 중 자음 (ㄱ ~ ㅎ)
+    private static boolean isConsonantJamo(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+
+    private static void appendJamo(StringBuilder builder, char jamo) {
+        String decomposed = COMPOUND_JAMO.get(jamo);
+        if (decomposed != null) {
+            builder.append(decomposed);
+        } else {
+            builder.append(jamo);
+        }
+    }
+
+    /**
+     * 문자열을 기본 자모 열로 분해합니다. 한글이 아닌 문자는 소문자로 유지합니다.
+     * 예) "닭갈비" → "ㄷㅏㄹㄱㄱㅏㄹㅂㅣ"
+     */
+    public static String toJamo(String text) {
+        StringBuilder builder = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                int index = c - SYLLABLE_BASE;
+                builder.append(CHOSUNG[index / (JUNGSUNG_COUNT * JONGSUNG_COUNT)]);
+                appendJamo(builder, JUNGSUNG[(index % (JUNGSUNG_COUNT * JONGSUNG_COUNT)) / JONGSUNG_COUNT]);
+                char jongsung = JONGSUNG[index % JONGSUNG_COUNT];
+                if (jongsung != 0) {
+                    appendJamo(builder, jongsung);
+                }
+            } else if (COMPOUND_JAMO.containsKey(c)) {
+                appendJamo(builder, c);
+            } else {
+                builder.append(Character.toLowerCase(c));
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 음절을 초성으로 바꿉니다. 한글 음절이 아닌 문자는 소문자로 유지합니다.
+     * 예) "할 일 A" → "ㅎ ㅇ a"
+     */
+    public static String toChosung(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                builder.append(CHOSUNG[(c - SYLLABLE_BASE) / (JUNGSUNG_COUNT * JONGSUNG_COUNT)]);
+            } else {
+                builder.append(Character.toLowerCase(c));
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 공백을 제외한 모든 문자가 자음 자모인지 (초성 검색어인지) 확인합니다.
+     */
+    public static boolean isChosungQuery(String text) {
+        boolean hasConsonant = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isConsonantJamo(c)) {
+                hasConsonant = true;
+            } else if (!Character.isWhitespace(c)) {
+                return false;
+            }
+        }
+        return hasConsonant;
+    }
+}
@@ -1,12 +1,33 @@
 package team.molu.edayserver.util;
 
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import reactor.core.publisher.Mono;
 import team.molu.edayserver.dto.CustomOAuth2User;
 
 public class SecurityUtils {
     public static String getAuthenticatedUserEmail() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return emailOf(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    /**
+     * 인증된 사용자 email을 servlet / reactive 모드 모두에서 조회합니다.
+     * servlet 모드는 호출 시점(요청 스레드)의 SecurityContextHolder에서 바로 읽고, 없으면 구독 시점에
+     * Reactor Context의 ReactiveSecurityContextHolder에서 읽습니다. 인증 정보가 없으면 비어 있는 Mono를 반환합니다.
+     */
+    public static Mono<String> authenticatedUserEmail() {
+        String email = getAuthenticatedUserEmail();
+        if (email != null) {
+            return Mono.just(email);
+        }
+        return ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .mapNotNull(SecurityUtils::emailOf);
+    }
+
+    private static String emailOf(Authentication authentication) {
         if (authentication != null && authentication.getPrincipal() instanceof CustomOAuth2User customOAuth2User) {
             return customOAuth2User.getName();
         }
@@ -0,0 +1,51 @@
+package team.molu.edayserver.util;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import team.molu.edayserver.domain.Task;
+import team.molu.edayserver.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 목록 조회 keyset 페이지네이션 커서.
+ * 정렬 키 (priority, id) 의 마지막 값을 담으며, 클라이언트에는 불투명한 base64url 문자열로 전달됩니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class TaskCursor {
+    private static final String SEPARATOR = "|";
+
+    private final int priority;
+    private final String taskId;
+
+    public static TaskCursor of(Task task) {
+        return new TaskCursor(task.getPriority() != null ? task.getPriority() : 0, task.getId());
+    }
+
+    public String encode() {
+        String raw = priority + SEPARATOR + taskId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor 이전 응답의 nextCursor, null이면 첫 페이지
+     * @return 디코딩된 커서, 첫 페이지라면 null
+     */
+    public static TaskCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.indexOf(SEPARATOR);
+            if (separatorIndex <= 0 || separatorIndex == raw.length() - 1) {
+                throw new InvalidCursorException("Invalid cursor: " + cursor);
+            }
+            return new TaskCursor(Integer.parseInt(raw.substring(0, separatorIndex)), raw.substring(separatorIndex + 1));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package team.molu.edayserver.importer;
+
+import org.junit.jupiter.api.Test;
+import team.molu.edayserver.exception.InvalidImportException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.util.AssertionErrors.assertEquals;
+import static org.springframework.test.util.AssertionErrors.assertNull;
+
+class TaskImportReaderTest {
+
+    private static List<TaskImportRow> readAll(TaskImportFormat format, String content) throws IOException {
+        List<TaskImportRow> rows = new ArrayList<>();
+        try (TaskImportReader reader = format.open(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)))) {
+            TaskImportRow row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    @Test
+    void json_shouldReturnParentsBeforeChildren() throws IOException {
+        // Given
+        String json = "[{\"id\": \"a\", \"name\": \"A\", \"startDate\": \"2024-01-05\", \"priority\": 2, \"children\": [\n" +
+                "  {\"name\": \"A-1\", \"check\": true, \"children\": [{\"name\": \"A-1-1\"}]},\n" +
+                "  {\"id\": \"a2\", \"name\": \"A-2\"}\n" +
+                "]}, {\"name\": \"B\", \"endDate\": \"2024-01-06T18:00\"}]";
+
+        // When
+        List<TaskImportRow> rows = readAll(TaskImportFormat.JSON, json);
+
+        // Then
+        assertEquals("Json Row Count Test", 5, rows.size());
+        assertEquals("Json Order Test", List.of("A", "A-1", "A-1-1", "A-2", "B"), rows.stream().map(TaskImportRow::getName).toList());
+        assertNull("Json Top Level Parent Test", rows.get(0).getParentSourceId());
+        assertEquals("Json Explicit Parent Test", "a", rows.get(1).getParentSourceId());
+        assertEquals("Json Generated Parent Test", rows.get(1).getSourceId(), rows.get(2).getParentSourceId());
+        assertEquals("Json Sibling Parent Test", "a", rows.get(3).getParentSourceId());
+        assertEquals("Json Date Test", LocalDateTime.of(2024, 1, 5, 0, 0), rows.get(0).getStartDate());
+        assertEquals("Json Priority Test", 2, rows.get(0).getPriority());
+        assertEquals("Json Check Test", true, rows.get(1).getCheck());
+        assertEquals("Json Line Test", 2L, rows.get(1).getLine());
+    }
+
+    @Test
+    void json_shouldReportInvalidRowsAndContinue() throws IOException {
+        // Given
+        String json = "[{\"name\": \"A\", \"startDate\": \"tomorrow\"}, {\"memo\": \"no name\"}, " +
+                "{\"name\": \"C\", \"children\": [], \"memo\": \"late\"}, {\"name\": \"D\"}]";
+
+        // When
+        List<TaskImportRow> rows = readAll(TaskImportFormat.JSON, json);
+
+        // Then
+        assertEquals("Json Invalid Row Count Test", 5, rows.size());
+        assertEquals("Json Invalid Date Test", "invalid startDate: tomorrow", rows.get(0).getError());
+        assertEquals("Json Missing Name Test", "name is required", rows.get(1).getError());
+        assertEquals("Json Valid After Error Test", true, rows.get(2).isValid());
+        assertEquals("Json Field After Children Test", "'memo' after children is ignored", rows.get(3).getError());
+        assertEquals("Json Last Row Test", "D", rows.get(4).getName());
+    }
+
+    @Test
+    void csv_shouldReadQuotedFieldsAndParentColumn() throws IOException {
+        // Given
+        String csv = "\uFEFFName,ID,ParentId,memo,startDate,check\r\n" +
+                "\"Task, 1\",1,,\"line 1\nline \"\"2\"\"\",2024-01-05T09:30,true\r\n" +
+                "\r\n" +
+                "Task 2,2,1,,,\n" +
+                "Task 3,,,,,0";
+
+        // When
+        List<TaskImportRow> rows = readAll(TaskImportFormat.CSV, csv);
+
+        // Then
+        assertEquals("Csv Row Count Test", 3, rows.size());
+        assertEquals("Csv Quoted Name Test", "Task, 1", rows.get(0).getName());
+        assertEquals("Csv Multiline Memo Test", "line 1\nline \"2\"", rows.get(0).getMemo());
+        assertEquals("Csv Date Test", LocalDateTime.of(2024, 1, 5, 9, 30), rows.get(0).getStartDate());
+        assertEquals("Csv Check Test", true, rows.get(0).getCheck());
+        assertEquals("Csv Parent Test", "1", rows.get(1).getParentSourceId());
+        assertEquals("Csv Line Test", 5L, rows.get(1).getLine());
+        assertEquals("Csv Generated Id Test", "#6", rows.get(2).getSourceId());
+    }
+
+    @Test
+    void csv_shouldReportInvalidRows() throws IOException {
+        // Given
+        String csv = "id,name,priority\n1,Task 1,high\n2,,1\n3,\"Task 3";
+
+        // When
+        List<TaskImportRow> rows = readAll(TaskImportFormat.CSV, csv);
+
+        // Then
+        assertEquals("Csv Invalid Row Count Test", 3, rows.size());
+        assertEquals("Csv Invalid Priority Test", false, rows.get(0).isValid());
+        assertEquals("Csv Missing Name Test", "name is required", rows.get(1).getError());
+        assertEquals("Csv Unterminated Quote Test", "unterminated quoted field", rows.get(2).getError());
+    }
+
+    @Test
+    void ics_shouldReadTodosAndEvents() throws IOException {
+        // Given
+        String ics = "BEGIN:VCALENDAR\r\n" +
+                "VERSION:2.0\r\n" +
+                "BEGIN:VTODO\r\n" +
+                "UID:parent@example.com\r\n" +
+                "SUMMARY:Write\r\n" +
+                " report\r\n" +
+                "DESCRIPTION:first\\nsecond\\, third\r\n" +
+                "DUE;VALUE=DATE:20240110\r\n" +
+                "STATUS:COMPLETED\r\n" +
+                "BEGIN:VALARM\r\n" +
+                "DESCRIPTION:alarm\r\n" +
+                "END:VALARM\r\n" +
+                "END:VTODO\r\n" +
+                "BEGIN:VEVENT\r\n" +
+                "UID:child@example.com\r\n" +
+                "SUMMARY:Meeting\r\n" +
+                "DTSTART;TZID=Asia/Seoul:20240105T093000\r\n" +
+                "DTEND:20240105T103000Z\r\n" +
+                "RELATED-TO;RELTYPE=PARENT:parent@example.com\r\n" +
+                "END:VEVENT\r\n" +
+                "END:VCALENDAR\r\n";
+
+        // When
+        List<TaskImportRow> rows = readAll(TaskImportFormat.ICS, ics);
+
+        // Then
+        assertEquals("Ics Row Count Test", 2, rows.size());
+        assertEquals("Ics Folded Summary Test", "Writereport", rows.get(0).getName());
+        assertEquals("Ics Description Test", "first\nsecond, third", rows.get(0).getMemo());
+        assertEquals("Ics Due Test", LocalDateTime.of(2024, 1, 10, 0, 0), rows.get(0).getEndDate());
+        assertEquals("Ics Completed Test", true, rows.get(0).getCheck());
+        assertEquals("Ics Line Test", 3L, rows.get(0).getLine());
+        assertEquals("Ics Start Test", LocalDateTime.of(2024, 1, 5, 9, 30), rows.get(1).getStartDate());
+        assertEquals("Ics End Test", LocalDateTime.of(2024, 1, 5, 10, 30), rows.get(1).getEndDate());
+        assertEquals("Ics Parent Test", "parent@example.com", rows.get(1).getParentSourceId());
+    }
+
+    @Test
+    void of_shouldResolveFormatFromParameterOrContentType() {
+        assertEquals("Format Parameter Test", TaskImportFormat.CSV, TaskImportFormat.of("csv", "application/json"));
+        assertEquals("Content Type Test", TaskImportFormat.ICS, TaskImportFormat.of(null, "text/calendar; charset=utf-8"));
+        assertThrows(InvalidImportException.class, () -> TaskImportFormat.of("xlsx", null));
+        assertThrows(InvalidImportException.class, () -> TaskImportFormat.of(null, "text/plain"));
+    }
+}
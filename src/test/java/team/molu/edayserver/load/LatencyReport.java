@@ -0,0 +1,117 @@
+package team.molu.edayserver.load;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 엔드포인트별 응답 시간 / 상태 코드 집계.
+ * 지연 시간은 모두 보관했다가 보고서를 만들 때 정렬하여 백분위를 계산합니다. (요청 수 × 8바이트)
+ */
+final class LatencyReport {
+    private final Map<String, Stats> endpoints = new LinkedHashMap<>();
+
+    /** 보고서에 표시할 순서대로 엔드포인트를 등록합니다. */
+    void register(String endpoint) {
+        endpoints.put(endpoint, new Stats());
+    }
+
+    /**
+     * @param status HTTP 상태 코드, 연결 오류는 -1
+     */
+    void record(String endpoint, int status, long nanos) {
+        endpoints.get(endpoint).record(status, nanos);
+    }
+
+    long total() {
+        long total = 0;
+        for (Stats stats : endpoints.values()) {
+            total += stats.count();
+        }
+        return total;
+    }
+
+    String format(Duration wall) {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%-28s %8s %6s %6s %6s %10s %10s %10s %10s%n",
+                "endpoint", "count", "ok", "4xx", "5xx/io", "p50(ms)", "p99(ms)", "max(ms)", "req/s"));
+
+        long[] all = new long[0];
+        for (Map.Entry<String, Stats> entry : endpoints.entrySet()) {
+            long[] sorted = entry.getValue().sorted();
+            if (sorted.length == 0) {
+                continue;
+            }
+            all = concat(all, sorted);
+            report.append(line(entry.getKey(), entry.getValue(), sorted, wall));
+        }
+
+        Arrays.sort(all);
+        Stats total = new Stats();
+        endpoints.values().forEach(total::merge);
+        report.append(line("TOTAL", total, all, wall));
+        return report.toString();
+    }
+
+    private static String line(String name, Stats stats, long[] sorted, Duration wall) {
+        return String.format("%-28s %8d %6d %6d %6d %10.1f %10.1f %10.1f %10.1f%n",
+                name, sorted.length, stats.ok, stats.clientError, stats.serverError,
+                percentile(sorted, 0.50) / 1e6, percentile(sorted, 0.99) / 1e6,
+                sorted.length > 0 ? sorted[sorted.length - 1] / 1e6 : 0.0,
+                sorted.length / (wall.toNanos() / 1e9));
+    }
+
+    // nearest-rank 백분위
+    static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(p * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    private static long[] concat(long[] a, long[] b) {
+        long[] result = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, result, a.length, b.length);
+        return result;
+    }
+
+    private static final class Stats {
+        private long[] nanos = new long[1024];
+        private int size;
+        private long ok;
+        private long clientError;
+        private long serverError;
+
+        synchronized void record(int status, long elapsed) {
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+            nanos[size++] = elapsed;
+            if (status >= 200 && status < 400) {
+                ok++;
+            } else if (status >= 400 && status < 500) {
+                clientError++;
+            } else {
+                serverError++;
+            }
+        }
+
+        synchronized long count() {
+            return size;
+        }
+
+        synchronized long[] sorted() {
+            long[] sorted = Arrays.copyOf(nanos, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+
+        synchronized void merge(Stats other) {
+            ok += other.ok;
+            clientError += other.clientError;
+            serverError += other.serverError;
+        }
+    }
+}
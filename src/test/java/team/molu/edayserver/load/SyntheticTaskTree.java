@@ -0,0 +1,159 @@
+package team.molu.edayserver.load;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * 부하 테스트용 합성 할 일 트리.
+ * 사용자마다 UserRepository.createUserAndAll과 같은 구조(User -BELONGS_TO-> root / trash / archive)를 만들고,
+ * 깊이 depth, 자식 수 fanOut인 완전 트리를 붙입니다. 1단계 서브트리 중 trashRatio / archiveRatio 비율만큼은
+ * 휴지통 / 아카이브 아래에 두고 deleteTime / originalParentId를 채웁니다.
+ * <p>
+ * 노드 번호는 힙 순서(i 번 노드의 부모는 (i - 1) / fanOut 번, 0은 root)이므로 id만으로 부모, 깊이, 소속 트리를 계산할 수 있어
+ * 요청을 만들 때 DB를 조회하지 않습니다. 노드와 관계는 Cypher UNWIND + CALL IN TRANSACTIONS로 서버 안에서 만들고,
+ * 조상 id 경로(path)도 번호로 계산해 함께 채웁니다.
+ */
+@Getter
+@Builder
+public class SyntheticTaskTree {
+    private static final List<String> WORDS = List.of("회의", "병원 예약", "장보기", "운동", "보고서", "여행 준비", "공부", "청소",
+            "meeting", "review");
+
+    public enum Kind {ROOT, TRASH, ARCHIVE}
+
+    private final int users;
+    private final int depth;
+    private final int fanOut;
+    private final double trashRatio;
+    private final double archiveRatio;
+    @Builder.Default
+    private final String runId = UUID.randomUUID().toString().substring(0, 8);
+
+    /** 사용자 한 명의 할 일 수 (root / trash / archive 제외) */
+    public long taskCount() {
+        long count = 0;
+        long level = 1;
+        for (int d = 1; d <= depth; d++) {
+            level *= fanOut;
+            count += level;
+        }
+        return count;
+    }
+
+    /** 가장 깊은 단계(리프)의 첫 번호 */
+    public long firstLeaf() {
+        return taskCount() - (long) Math.pow(fanOut, depth) + 1;
+    }
+
+    public String email(int user) {
+        return "load-" + runId + "-" + user + "@eday.local";
+    }
+
+    public String taskId(int user, long task) {
+        return prefix(user) + task;
+    }
+
+    private String prefix(int user) {
+        return "load-" + runId + "-" + user + "-";
+    }
+
+    private int trashSubtrees() {
+        return (int) Math.round(fanOut * trashRatio);
+    }
+
+    private int archiveSubtrees() {
+        return (int) Math.round(fanOut * archiveRatio);
+    }
+
+    /** 할 일이 속한 트리 (1단계 조상 번호로 판별) */
+    public Kind kind(long task) {
+        long top = task;
+        while (top > fanOut) {
+            top = (top - 1) / fanOut;
+        }
+        if (top <= trashSubtrees()) {
+            return Kind.TRASH;
+        }
+        return top <= trashSubtrees() + archiveSubtrees() ? Kind.ARCHIVE : Kind.ROOT;
+    }
+
+    /**
+     * kind 트리에 속한 임의의 할 일 번호. 해당 트리가 비어 있으면 -1.
+     *
+     * @param leaf true면 가장 깊은 단계에서만 선택 (이동/삭제해도 다른 요청의 대상이 덜 바뀜)
+     */
+    public long randomTask(Random random, Kind kind, boolean leaf) {
+        long from = leaf ? firstLeaf() : 1;
+        long to = taskCount();
+        for (int attempt = 0; attempt < 64; attempt++) {
+            long task = from + (long) (random.nextDouble() * (to - from + 1));
+            if (kind(task) == kind) {
+                return task;
+            }
+        }
+        return -1;
+    }
+
+    /** 모든 사용자의 트리를 만듭니다. */
+    public void generate(Driver driver) {
+        try (Session session = driver.session()) {
+            for (int user = 0; user < users; user++) {
+                long started = System.nanoTime();
+                Map<String, Object> params = Map.of(
+                        "email", email(user),
+                        "prefix", prefix(user),
+                        "count", taskCount(),
+                        "fanOut", fanOut,
+                        "depth", depth,
+                        "trash", trashSubtrees(),
+                        "archive", archiveSubtrees(),
+                        "words", WORDS);
+
+                session.run("CREATE (u:User {email: $email}) " +
+                        "CREATE (root:Task {id: \"root\", name: \"root\", owner: $email, path: \"/root/\"}), " +
+                        "(trash:Task {id: \"trash\", name: \"trash\", owner: $email, path: \"/trash/\"}), " +
+                        "(archive:Task {id: \"archive\", name: \"archive\", owner: $email, path: \"/archive/\"}), " +
+                        "(u)-[:BELONGS_TO]->(root), (u)-[:BELONGS_TO]->(trash), (u)-[:BELONGS_TO]->(archive)", params).consume();
+                // 1년에 걸쳐 시작일이 분포하고 0~4일 동안 이어지는 할 일, path는 번호로 계산한 조상 목록(1단계 → 자신)
+                session.run("UNWIND range(1, $count) AS i " +
+                        "CALL { WITH i " +
+                        "  WITH i, reduce(chain = [i], k IN range(1, $depth) | " +
+                        "    CASE WHEN chain[0] > $fanOut THEN [(chain[0] - 1) / $fanOut] + chain ELSE chain END) AS chain " +
+                        "  WITH i, chain, CASE WHEN chain[0] <= $trash THEN \"trash\" " +
+                        "    WHEN chain[0] <= $trash + $archive THEN \"archive\" ELSE \"root\" END AS base " +
+                        "  CREATE (:Task {id: $prefix + toString(i), owner: $email, " +
+                        "    path: \"/\" + base + \"/\" + reduce(s = \"\", x IN chain | s + $prefix + toString(x) + \"/\"), " +
+                        "    name: $words[i % size($words)] + \" \" + toString(i), " +
+                        "    memo: CASE WHEN i % 3 = 0 THEN \"\" ELSE $words[(i / 7) % size($words)] + \" 메모\" END, " +
+                        "    startDate: localdatetime(\"2024-01-01T09:00\") + duration({days: i % 365}), " +
+                        "    endDate: localdatetime(\"2024-01-01T18:00\") + duration({days: i % 365 + i % 5}), " +
+                        "    priority: i % 5, check: i % 7 = 0}) " +
+                        "} IN TRANSACTIONS OF 10000 ROWS", params).consume();
+                session.run("UNWIND range(1, $count) AS i " +
+                        "CALL { WITH i " +
+                        "  MATCH (c:Task {id: $prefix + toString(i)}) " +
+                        "  MATCH (p:Task {owner: $email, id: CASE " +
+                        "    WHEN i > $fanOut THEN $prefix + toString((i - 1) / $fanOut) " +
+                        "    WHEN i <= $trash THEN \"trash\" " +
+                        "    WHEN i <= $trash + $archive THEN \"archive\" " +
+                        "    ELSE \"root\" END}) " +
+                        "  CREATE (p)-[:BELONGS_TO]->(c) SET c.parentId = p.id " +
+                        "} IN TRANSACTIONS OF 10000 ROWS", params).consume();
+                session.run("MATCH (:Task {id: \"trash\", owner: $email})-[:BELONGS_TO*]->(t:Task) " +
+                        "CALL { WITH t SET t.deleteTime = datetime() } IN TRANSACTIONS OF 10000 ROWS", params).consume();
+                session.run("MATCH (:Task {id: \"archive\", owner: $email})-[:BELONGS_TO*]->(t:Task) " +
+                        "CALL { WITH t SET t.originalParentId = \"root\" } IN TRANSACTIONS OF 10000 ROWS", params).consume();
+
+                System.out.printf("generated user %d/%d : %d tasks in %.1fs%n",
+                        user + 1, users, taskCount(), (System.nanoTime() - started) / 1e9);
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package team.molu.edayserver.load;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.springframework.test.util.AssertionErrors.assertEquals;
+import static org.springframework.test.util.AssertionErrors.assertTrue;
+
+class SyntheticTaskTreeTest {
+    private final SyntheticTaskTree tree = SyntheticTaskTree.builder()
+            .users(1)
+            .depth(3)
+            .fanOut(10)
+            .trashRatio(0.1)
+            .archiveRatio(0.2)
+            .build();
+
+    @Test
+    void taskCount_shouldCountEveryLevel() {
+        assertEquals("Task Count Test", 1110L, tree.taskCount());
+        assertEquals("First Leaf Test", 111L, tree.firstLeaf());
+        assertEquals("Million Node Test", 1_111_110L, SyntheticTaskTree.builder().users(1).depth(6).fanOut(10).build().taskCount());
+    }
+
+    @Test
+    void kind_shouldFollowFirstLevelAncestor() {
+        // 1단계: 1 → trash, 2~3 → archive, 4~10 → root
+        assertEquals("Trash Top Test", SyntheticTaskTree.Kind.TRASH, tree.kind(1));
+        assertEquals("Archive Top Test", SyntheticTaskTree.Kind.ARCHIVE, tree.kind(3));
+        assertEquals("Root Top Test", SyntheticTaskTree.Kind.ROOT, tree.kind(4));
+        // 11~20은 1번의 자식, 111~210은 11~20의 자식
+        assertEquals("Trash Child Test", SyntheticTaskTree.Kind.TRASH, tree.kind(20));
+        assertEquals("Trash Leaf Test", SyntheticTaskTree.Kind.TRASH, tree.kind(210));
+        assertEquals("Archive Leaf Test", SyntheticTaskTree.Kind.ARCHIVE, tree.kind(211));
+        assertEquals("Root Leaf Test", SyntheticTaskTree.Kind.ROOT, tree.kind(1110));
+    }
+
+    @Test
+    void randomTask_shouldStayInRequestedTree() {
+        Random random = new Random(42);
+        for (int i = 0; i < 1000; i++) {
+            long leaf = tree.randomTask(random, SyntheticTaskTree.Kind.ARCHIVE, true);
+            assertEquals("Kind Test", SyntheticTaskTree.Kind.ARCHIVE, tree.kind(leaf));
+            assertTrue("Leaf Test", leaf >= tree.firstLeaf() && leaf <= tree.taskCount());
+        }
+    }
+
+    @Test
+    void percentile_shouldUseNearestRank() {
+        long[] sorted = new long[100];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i + 1;
+        }
+        assertEquals("P50 Test", 50L, LatencyReport.percentile(sorted, 0.50));
+        assertEquals("P99 Test", 99L, LatencyReport.percentile(sorted, 0.99));
+        assertEquals("Empty Test", 0L, LatencyReport.percentile(new long[0], 0.99));
+    }
+}
@@ -0,0 +1,241 @@
+package team.molu.edayserver.load;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.neo4j.driver.Driver;
+import org.neo4j.harness.Neo4j;
+import org.neo4j.harness.Neo4jBuilders;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import team.molu.edayserver.security.oauth2.jwt.JwtUtil;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.springframework.test.util.AssertionErrors.assertEquals;
+
+/**
+ * 내장 Neo4j(neo4j-harness)와 합성 트리 위에서 TaskController의 모든 엔드포인트를 동시에 호출하고
+ * 엔드포인트별 p50 / p99 지연 시간과 처리량을 출력합니다. 외부 서비스 없이 실행됩니다.
+ * <p>
+ * 실행: ./gradlew loadTest
+ * 옵션 (-P로 전달): load.users, load.depth, load.fanOut, load.trashRatio, load.archiveRatio, load.requests, load.concurrency
+ * 예) 사용자 1명, 1,111,110개 노드: ./gradlew loadTest -Pload.users=1 -Pload.depth=6 -Pload.fanOut=10
+ * <p>
+ * 쓰기 요청이 트리를 바꾸므로 이미 이동/삭제된 할 일을 대상으로 한 요청은 4xx로 집계됩니다. 5xx는 서버 오류입니다.
+ */
+@Tag("load")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "NEO4J_PW=unused",
+        // PROFILE 재실행이 측정에 섞이지 않도록 느린 쿼리 샘플링은 끔
+        "eday.repository.slow-query.profile-sample-rate=0",
+        "eday.schema.await-timeout-seconds=600"
+})
+class TaskControllerLoadTest {
+    private static final int USERS = Integer.getInteger("load.users", 4);
+    private static final int DEPTH = Integer.getInteger("load.depth", 4);
+    private static final int FAN_OUT = Integer.getInteger("load.fanOut", 8);
+    private static final double TRASH_RATIO = Double.parseDouble(System.getProperty("load.trashRatio", "0.1"));
+    private static final double ARCHIVE_RATIO = Double.parseDouble(System.getProperty("load.archiveRatio", "0.1"));
+    private static final int REQUESTS = Integer.getInteger("load.requests", 5000);
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 32);
+
+    private static Neo4j neo4j;
+
+    @DynamicPropertySource
+    static void neo4jProperties(DynamicPropertyRegistry registry) {
+        if (neo4j == null) {
+            neo4j = Neo4jBuilders.newInProcessBuilder().withDisabledServer().build();
+        }
+        registry.add("spring.neo4j.uri", () -> neo4j.boltURI().toString());
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private Driver driver;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private final SyntheticTaskTree tree = SyntheticTaskTree.builder()
+            .users(USERS)
+            .depth(DEPTH)
+            .fanOut(FAN_OUT)
+            .trashRatio(TRASH_RATIO)
+            .archiveRatio(ARCHIVE_RATIO)
+            .build();
+    private final List<WebClient> clients = new ArrayList<>();
+    private final List<Operation> operations = new ArrayList<>();
+    private int totalWeight;
+
+    @BeforeAll
+    void setUp() {
+        System.out.printf("synthetic tree : %d users x %d tasks (depth %d, fan-out %d)%n",
+                USERS, tree.taskCount(), DEPTH, FAN_OUT);
+        tree.generate(driver);
+
+        for (int user = 0; user < USERS; user++) {
+            String access = jwtUtil.createJwt("access", tree.email(user), "MEMBER", JwtUtil.ACCESS_TOKEN_TTL);
+            clients.add(WebClient.builder()
+                    .baseUrl("http://localhost:" + port + "/api/v1/tasks")
+                    .defaultCookie("access", access)
+                    .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(-1))
+                    .build());
+        }
+        registerOperations();
+    }
+
+    @AfterAll
+    void tearDown() {
+        if (neo4j != null) {
+            neo4j.close();
+            neo4j = null;
+        }
+    }
+
+    @Test
+    void taskEndpoints_underConcurrentLoad() {
+        // 워밍업 (JIT, 쿼리 계획 캐시, 페이지 캐시) - 집계하지 않음
+        run(Math.max(REQUESTS / 10, CONCURRENCY), new LatencyReport());
+
+        LatencyReport report = new LatencyReport();
+        operations.forEach(operation -> report.register(operation.name));
+        long started = System.nanoTime();
+        run(REQUESTS, report);
+        Duration wall = Duration.ofNanos(System.nanoTime() - started);
+
+        System.out.printf("%d requests, concurrency %d, %.1fs%n%s", REQUESTS, CONCURRENCY, wall.toNanos() / 1e9,
+                report.format(wall));
+        assertEquals("Request Count Test", (long) REQUESTS, report.total());
+    }
+
+    private void run(int requests, LatencyReport report) {
+        Flux.range(0, requests)
+                .flatMap(n -> Mono.defer(() -> {
+                    Random random = ThreadLocalRandom.current();
+                    Operation operation = pick(random);
+                    int user = random.nextInt(USERS);
+                    long started = System.nanoTime();
+                    return operation.request.create(clients.get(user), user, random)
+                            .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode().value()))
+                            .onErrorReturn(-1)
+                            .doOnNext(status -> report.record(operation.name, status, System.nanoTime() - started));
+                }), CONCURRENCY)
+                .blockLast(Duration.ofHours(1));
+    }
+
+    private Operation pick(Random random) {
+        int target = random.nextInt(totalWeight);
+        for (Operation operation : operations) {
+            target -= operation.weight;
+            if (target < 0) {
+                return operation;
+            }
+        }
+        return operations.get(operations.size() - 1);
+    }
+
+    private String task(int user, Random random, SyntheticTaskTree.Kind kind, boolean leaf) {
+        long task = tree.randomTask(random, kind, leaf);
+        return task > 0 ? tree.taskId(user, task) : tree.taskId(user, 1);
+    }
+
+    private static String month(Random random) {
+        int month = 1 + random.nextInt(12);
+        return String.format("startDate=2024-%02d-01&endDate=2024-%02d-28", month, month);
+    }
+
+    private static Map<String, Object> body(Object... keyValues) {
+        Map<String, Object> body = new HashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            body.put((String) keyValues[i], keyValues[i + 1]);
+        }
+        return body;
+    }
+
+    // 읽기 위주 혼합, 가중치는 상대 빈도
+    private void registerOperations() {
+        SyntheticTaskTree.Kind root = SyntheticTaskTree.Kind.ROOT;
+        SyntheticTaskTree.Kind trash = SyntheticTaskTree.Kind.TRASH;
+        SyntheticTaskTree.Kind archive = SyntheticTaskTree.Kind.ARCHIVE;
+
+        add("GET /roots", 10, (client, user, random) -> client.get().uri("/roots"));
+        add("GET /roots/tree", 4, (client, user, random) -> client.get().uri("/roots/tree?depth=2"));
+        add("GET /{id}", 12, (client, user, random) -> client.get().uri("/{id}", task(user, random, root, false)));
+        add("GET /{id}/subtasks", 8, (client, user, random) -> client.get().uri("/{id}/subtasks?limit=50", task(user, random, root, false)));
+        add("GET /{id}/tree", 4, (client, user, random) -> client.get().uri("/{id}/tree?depth=3", task(user, random, root, false)));
+        add("GET /{id}/routes", 6, (client, user, random) -> client.get().uri("/{id}/routes", task(user, random, root, true)));
+        add("GET ?startDate&endDate", 6, (client, user, random) -> client.get().uri("?" + month(random)));
+        add("GET /all", 4, (client, user, random) -> client.get().uri("/all?limit=100"));
+        add("GET /stream", 2, (client, user, random) -> client.get().uri("/stream?" + month(random)).accept(MediaType.APPLICATION_NDJSON));
+        add("GET /all/stream", 1, (client, user, random) -> client.get().uri("/all/stream").accept(MediaType.APPLICATION_NDJSON));
+        add("GET /changes", 4, (client, user, random) -> client.get().uri("/changes?since=0"));
+        add("GET /typeahead", 6, (client, user, random) -> client.get().uri("/typeahead?q={q}", random.nextBoolean() ? "ㅎㅇ" : "보고"));
+        add("POST /search", 4, (client, user, random) -> client.post().uri("/search")
+                .bodyValue(body("text", "회의", "type", "root", "limit", 50)));
+        add("POST /search/fulltext", 4, (client, user, random) -> client.post().uri("/search/fulltext")
+                .bodyValue(body("text", "병원 예약", "type", "root", "limit", 50)));
+        add("POST (create)", 6, (client, user, random) -> client.post().uri("")
+                .bodyValue(body("parentId", random.nextInt(4) == 0 ? "0" : task(user, random, root, false),
+                        "name", "load " + random.nextInt(), "memo", "", "startDate", "2024-06-01T09:00:00",
+                        "endDate", "2024-06-01T18:00:00", "priority", random.nextInt(5))));
+        add("PATCH (update)", 6, (client, user, random) -> client.method(HttpMethod.PATCH).uri("")
+                .bodyValue(body("taskId", task(user, random, root, false), "name", "updated " + random.nextInt(),
+                        "memo", "", "priority", random.nextInt(5), "check", random.nextBoolean())));
+        add("POST /delete", 2, (client, user, random) -> client.post().uri("/delete")
+                .bodyValue(body("taskId", task(user, random, root, true), "cascade", random.nextBoolean())));
+        add("POST /restore", 2, (client, user, random) -> client.post().uri("/restore")
+                .bodyValue(body("taskId", task(user, random, trash, false), "parentId", task(user, random, root, false))));
+        add("POST /move", 3, (client, user, random) -> client.post().uri("/move")
+                .bodyValue(body("taskId", task(user, random, root, true), "parentId", task(user, random, root, false))));
+        add("POST /archive", 2, (client, user, random) -> client.post().uri("/archive")
+                .bodyValue(body("taskId", task(user, random, root, true))));
+        add("POST /unarchive", 2, (client, user, random) -> client.post().uri("/unarchive")
+                .bodyValue(body("taskId", task(user, random, archive, false))));
+        add("DELETE /drop", 1, (client, user, random) -> client.method(HttpMethod.DELETE).uri("/drop")
+                .bodyValue(body("taskId", task(user, random, trash, true), "cascade", true)));
+        // 휴지통 전체 삭제는 이후 restore / drop 대상을 없애므로 드물게
+        add("DELETE /drop/all", 1, (client, user, random) -> client.delete().uri("/drop/all"));
+        totalWeight = operations.stream().mapToInt(operation -> operation.weight).sum();
+    }
+
+    private void add(String name, int weight, RequestFactory request) {
+        operations.add(new Operation(name, weight, request));
+    }
+
+    @FunctionalInterface
+    private interface RequestFactory {
+        WebClient.RequestHeadersSpec<?> create(WebClient client, int user, Random random);
+    }
+
+    private static final class Operation {
+        private final String name;
+        private final int weight;
+        private final RequestFactory request;
+
+        private Operation(String name, int weight, RequestFactory request) {
+            this.name = name;
+            this.weight = weight;
+            this.request = request;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package team.molu.edayserver.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import team.molu.edayserver.repository.TaskRepository;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.util.AssertionErrors.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.util.AssertionErrors.assertNotNull;
+
+class RepositoryMetricsAspectTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SlowQueryLog slowQueryLog = new SlowQueryLog(mock(Driver.class), Duration.ofHours(1), 0, 10, () -> 1.0);
+    private final RepositoryMetricsAspect aspect = new RepositoryMetricsAspect(meterRegistry, slowQueryLog);
+
+    private static Method method(String name) {
+        return Arrays.stream(TaskRepository.class.getMethods())
+                .filter(method -> method.getName().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private Timer timer(String method, String outcome, String rows) {
+        return meterRegistry.find(RepositoryMetricsAspect.QUERY_METRIC)
+                .tags("repository", "TaskRepository", "method", method, "outcome", outcome, "rows", rows)
+                .timer();
+    }
+
+    @Test
+    void measure_shouldTimeFluxOnSubscription_andTagRowCount() {
+        Flux<Integer> rows = aspect.measure("TaskRepository", method("findRootTasks"), null, Flux.range(0, 42));
+
+        // 구독 전에는 기록하지 않음
+        assertEquals("Not Subscribed Test", null, timer("findRootTasks", "success", "11-100"));
+
+        rows.blockLast();
+        rows.blockLast();
+
+        Timer timer = timer("findRootTasks", "success", "11-100");
+        assertNotNull("Flux Timer Test", timer);
+        assertEquals("Flux Count Test", 2L, timer.count());
+        assertEquals("Rows Summary Test", 84.0, meterRegistry.find(RepositoryMetricsAspect.ROWS_METRIC)
+                .tags("method", "findRootTasks").summary().totalAmount());
+    }
+
+    @Test
+    void measure_shouldTagMonoOutcome() {
+        aspect.measure("TaskRepository", method("findTaskById"), null, Mono.empty()).block();
+        aspect.measure("TaskRepository", method("deleteTaskById"), null, Mono.just(3)).block();
+        assertThrows(IllegalStateException.class,
+                () -> aspect.measure("TaskRepository", method("moveTaskById"), null, Mono.error(new IllegalStateException())).block());
+
+        assertNotNull("Empty Mono Test", timer("findTaskById", "success", "0"));
+        assertNotNull("Single Row Test", timer("deleteTaskById", "success", "1"));
+        assertNotNull("Error Outcome Test", timer("moveTaskById", "error", "0"));
+    }
+
+    @Test
+    void measure_shouldRecordCancelledStreams() {
+        aspect.measure("TaskRepository", method("findAllTasks"), null, Flux.range(0, 1_000_000)).take(5).blockLast();
+
+        assertNotNull("Cancelled Outcome Test", timer("findAllTasks", "cancelled", "2-10"));
+    }
+
+    @Test
+    void measure_shouldHandOnlySlowQueriesToSlowQueryLog() {
+        SlowQueryLog everyQuery = new SlowQueryLog(mock(Driver.class), Duration.ZERO, 0, 10, () -> 1.0);
+        RepositoryMetricsAspect slowAspect = new RepositoryMetricsAspect(meterRegistry, everyQuery);
+
+        aspect.measure("TaskRepository", method("findRootTasks"), new Object[]{"user@test.com"}, Flux.range(0, 3)).blockLast();
+        slowAspect.measure("TaskRepository", method("findRootTasks"), new Object[]{"user@test.com"}, Flux.range(0, 3)).blockLast();
+        slowAspect.measure("TaskRepository", method("findAllTasks"), new Object[]{"user@test.com"}, Flux.range(0, 100)).take(1).blockLast();
+
+        assertEquals("Fast Query Test", 0, slowQueryLog.recent().size());
+        assertEquals("Slow Query Test", 1, everyQuery.recent().size());
+        assertEquals("Slow Query Rows Test", 3L, everyQuery.recent().get(0).getRows());
+    }
+
+    @Test
+    void rowsBucket_shouldKeepTagCardinalityBounded() {
+        assertEquals("Zero Test", "0", RepositoryMetricsAspect.rowsBucket(0));
+        assertEquals("One Test", "1", RepositoryMetricsAspect.rowsBucket(1));
+        assertEquals("Ten Test", "2-10", RepositoryMetricsAspect.rowsBucket(10));
+        assertEquals("Hundred Test", "11-100", RepositoryMetricsAspect.rowsBucket(100));
+        assertEquals("Thousand Test", "101-1000", RepositoryMetricsAspect.rowsBucket(1000));
+        assertEquals("Large Test", "1000+", RepositoryMetricsAspect.rowsBucket(1001));
+    }
+}
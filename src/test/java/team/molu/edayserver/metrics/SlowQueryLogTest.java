@@ -0,0 +1,149 @@
+package team.molu.edayserver.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.async.AsyncTransaction;
+import org.neo4j.driver.async.ResultCursor;
+import org.neo4j.driver.summary.ProfiledPlan;
+import org.neo4j.driver.summary.ResultSummary;
+import team.molu.edayserver.repository.TaskRepository;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.util.AssertionErrors.assertEquals;
+import static org.springframework.test.util.AssertionErrors.assertNotNull;
+
+class SlowQueryLogTest {
+
+    private static Method searchTaskByName() throws NoSuchMethodException {
+        return TaskRepository.class.getMethod("searchTaskByName", String.class, String.class, String.class);
+    }
+
+    @Test
+    void record_shouldRedactPersonalParameters() throws Exception {
+        SlowQueryLog slowQueryLog = new SlowQueryLog(mock(Driver.class), Duration.ZERO, 0, 10, () -> 1.0);
+
+        slowQueryLog.record("TaskRepository", searchTaskByName(), new Object[]{"user@test.com", "root", "병원 예약"},
+                1_500_000_000L, 7, "success");
+
+        SlowQueryLog.SlowQuery slowQuery = slowQueryLog.recent().get(0);
+        assertEquals("Method Test", "searchTaskByName", slowQuery.getMethod());
+        assertEquals("Email Redact Test", "***", slowQuery.getParameters().get("email"));
+        assertEquals("Text Redact Test", "***", slowQuery.getParameters().get("text"));
+        assertEquals("Task Type Test", "root", slowQuery.getParameters().get("taskType"));
+        assertEquals("Duration Test", 1500L, slowQuery.getDurationMs());
+        assertEquals("No Profile Test", null, slowQuery.getProfile());
+    }
+
+    @Test
+    void redact_shouldMaskNestedMapKeysAndEmailValues() {
+        Map<String, Object> redacted = SlowQueryLog.redact(Map.of(
+                "task", Map.of("email", "a@b.c", "name", "비밀", "priority", 3),
+                "parentId", "someone@test.com"));
+
+        Map<?, ?> task = (Map<?, ?>) redacted.get("task");
+        assertEquals("Nested Email Test", "***", task.get("email"));
+        assertEquals("Nested Name Test", "***", task.get("name"));
+        assertEquals("Nested Number Test", 3, task.get("priority"));
+        assertEquals("Email Value Test", "***", redacted.get("parentId"));
+    }
+
+    @Test
+    void redact_shouldMaskValuesInsideListsAndArrays() throws Exception {
+        SlowQueryLog slowQueryLog = new SlowQueryLog(mock(Driver.class), Duration.ZERO, 0, 10, () -> 1.0);
+        Method createTasks = TaskRepository.class.getMethod("createTasks", String.class, List.class);
+        List<Map<String, Object>> ops = List.of(
+                Map.of("index", 0, "taskId", "a", "name", "병원 예약", "memo", "진료 메모"),
+                Map.of("index", 1, "taskId", "b", "parentId", "someone@test.com", "name", "비밀"));
+
+        slowQueryLog.record("TaskRepository", createTasks, new Object[]{"user@test.com", ops}, 1_000_000_000L, 2, "success");
+
+        List<?> rows = (List<?>) slowQueryLog.recent().get(0).getParameters().get("ops");
+        Map<?, ?> first = (Map<?, ?>) rows.get(0);
+        Map<?, ?> second = (Map<?, ?>) rows.get(1);
+        assertEquals("List Size Test", 2, rows.size());
+        assertEquals("List Name Test", "***", first.get("name"));
+        assertEquals("List Memo Test", "***", first.get("memo"));
+        assertEquals("List TaskId Test", "a", first.get("taskId"));
+        assertEquals("List Number Test", 0, first.get("index"));
+        assertEquals("List Email Value Test", "***", second.get("parentId"));
+
+        Map<String, Object> redacted = SlowQueryLog.redact(Map.of("taskIds", new String[]{"a", "x@y.z"}));
+        assertEquals("Array Test", List.of("a", "***"), redacted.get("taskIds"));
+    }
+
+    @Test
+    void redact_shouldKeepOnlyFirstListElements() {
+        List<Integer> ids = IntStream.range(0, 25).boxed().toList();
+
+        List<?> redacted = (List<?>) SlowQueryLog.redact(Map.of("ids", ids)).get("ids");
+
+        assertEquals("Truncated Size Test", 11, redacted.size());
+        assertEquals("Truncated Marker Test", "... (15 more)", redacted.get(10));
+    }
+
+    @Test
+    void recent_shouldKeepOnlyLatestEntries() throws Exception {
+        SlowQueryLog slowQueryLog = new SlowQueryLog(mock(Driver.class), Duration.ZERO, 0, 3, () -> 1.0);
+        for (int i = 0; i < 5; i++) {
+            slowQueryLog.record("TaskRepository", searchTaskByName(), new Object[]{"user@test.com", "root", "x"},
+                    1_000_000_000L, i, "success");
+        }
+
+        List<SlowQueryLog.SlowQuery> recent = slowQueryLog.recent();
+        assertEquals("Capacity Test", 3, recent.size());
+        assertEquals("Oldest Evicted Test", 2L, recent.get(0).getRows());
+        assertEquals("Latest Test", 4L, recent.get(2).getRows());
+    }
+
+    @Test
+    void record_shouldProfileSampledQueryInRolledBackTransaction() throws Exception {
+        Driver driver = mock(Driver.class);
+        AsyncSession session = mock(AsyncSession.class);
+        AsyncTransaction tx = mock(AsyncTransaction.class);
+        ResultCursor cursor = mock(ResultCursor.class);
+        ResultSummary summary = mock(ResultSummary.class);
+        ProfiledPlan root = mock(ProfiledPlan.class);
+        ProfiledPlan expand = mock(ProfiledPlan.class);
+
+        when(driver.session(AsyncSession.class)).thenReturn(session);
+        when(session.beginTransactionAsync()).thenReturn(CompletableFuture.completedFuture(tx));
+        when(tx.runAsync(anyString(), anyMap())).thenReturn(CompletableFuture.completedFuture(cursor));
+        when(tx.rollbackAsync()).thenReturn(CompletableFuture.completedFuture(null));
+        when(cursor.consumeAsync()).thenReturn(CompletableFuture.completedFuture(summary));
+        when(summary.hasProfile()).thenReturn(true);
+        when(summary.profile()).thenReturn(root);
+        when(root.operatorType()).thenReturn("ProduceResults");
+        when(root.dbHits()).thenReturn(10L);
+        when(root.records()).thenReturn(7L);
+        doReturn(List.of(expand)).when(root).children();
+        when(expand.operatorType()).thenReturn("VarLengthExpand(All)");
+        when(expand.dbHits()).thenReturn(90_000L);
+        doReturn(List.of()).when(expand).children();
+
+        SlowQueryLog slowQueryLog = new SlowQueryLog(driver, Duration.ZERO, 0.5, 10, () -> 0.1);
+        slowQueryLog.record("TaskRepository", searchTaskByName(), new Object[]{"user@test.com", "root", "x"},
+                1_000_000_000L, 7, "success");
+
+        // 원래 파라미터(가리지 않은 값)로 PROFILE을 실행하고 롤백
+        verify(tx).runAsync(startsWith("PROFILE MATCH"), eq(Map.of("email", "user@test.com", "taskType", "root", "text", "x")));
+        verify(tx).rollbackAsync();
+        verify(tx, never()).commitAsync();
+
+        SlowQueryLog.QueryProfile profile = slowQueryLog.recent().get(0).getProfile();
+        assertNotNull("Profile Test", profile);
+        assertEquals("Db Hits Test", 90_010L, profile.getDbHits());
+        assertEquals("Operators Test", List.of("ProduceResults(10)", "VarLengthExpand(All)(90000)"), profile.getOperators());
+    }
+}
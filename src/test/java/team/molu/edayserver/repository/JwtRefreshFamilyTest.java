@@ -0,0 +1,146 @@
+package team.molu.edayserver.repository;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.GraphDatabase;
+import org.neo4j.driver.Session;
+import org.neo4j.harness.Neo4j;
+import org.neo4j.harness.Neo4jBuilders;
+import org.springframework.data.neo4j.repository.query.Query;
+
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.springframework.test.util.AssertionErrors.assertEquals;
+
+/**
+ * 내장 Neo4j(neo4j-harness)에서 로그인 / refresh 토큰 회전 쿼리를 그대로 실행하여
+ * 로그인(family)마다 회전과 재사용 감지가 따로 동작하는지 확인합니다.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class JwtRefreshFamilyTest {
+    private static final String EMAIL = "test@example.com";
+
+    private final String createJwtFamily = query(UserRepository.class, "createJwtFamily");
+    private final String rotateRefreshToken = query(JwtRepository.class, "rotateRefreshToken");
+
+    private Neo4j neo4j;
+    private Driver driver;
+
+    @BeforeAll
+    void start() {
+        neo4j = Neo4jBuilders.newInProcessBuilder().withDisabledServer().build();
+        driver = GraphDatabase.driver(neo4j.boltURI());
+    }
+
+    @AfterAll
+    void stop() {
+        driver.close();
+        neo4j.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        try (Session session = driver.session()) {
+            session.run("MATCH (n) DETACH DELETE n").consume();
+            session.run("CREATE (:User {email: $email})", Map.of("email", EMAIL)).consume();
+        }
+    }
+
+    @Test
+    void rotateRefreshToken_shouldKeepFirstLogin_whenAnotherDeviceLogsIn() {
+        // Given - 두 기기에서 차례로 로그인
+        login("family-a", "a1");
+        login("family-b", "b1");
+
+        // When & Then - 먼저 로그인한 기기의 재발급이 재사용으로 처리되지 않음
+        assertEquals("First Login Rotate Test", "ROTATED", rotate("family-a", "a1", "a2"));
+        assertEquals("Second Login Rotate Test", "ROTATED", rotate("family-b", "b1", "b2"));
+        assertEquals("Family Count Test", 2L, count("MATCH (:User {email: $email})-[:HAS_JWT]->(j:Jwt) RETURN count(j)"));
+    }
+
+    @Test
+    void rotateRefreshToken_shouldRevokeOnlyReusedFamily() {
+        // Given
+        login("family-a", "a1");
+        login("family-b", "b1");
+        assertEquals("Rotate Test", "ROTATED", rotate("family-a", "a1", "a2"));
+        // 유예 시간이 지난 뒤
+        run("MATCH (j:Jwt {family: \"family-a\"}) SET j.rotatedAt = datetime() - duration({minutes: 1})");
+
+        // When - 이미 회전된 a1 재사용
+        String reused = rotate("family-a", "a1", "a3");
+
+        // Then - family-a만 폐기되고 family-b는 계속 회전
+        assertEquals("Reused Test", "REUSED", reused);
+        assertEquals("Revoked Family Test", "INVALID", rotate("family-a", "a2", "a4"));
+        assertEquals("Other Family Test", "ROTATED", rotate("family-b", "b1", "b2"));
+    }
+
+    @Test
+    void createJwtFamily_shouldRemoveExpiredFamilies() {
+        // Given
+        login("family-a", "a1");
+        run("MATCH (j:Jwt {family: \"family-a\"}) SET j.ttl = datetime() - duration({days: 1})");
+
+        // When
+        login("family-b", "b1");
+
+        // Then
+        assertEquals("Expired Family Test", 0L, count("MATCH (j:Jwt {family: \"family-a\"}) RETURN count(j)"));
+        assertEquals("New Family Test", 1L, count("MATCH (j:Jwt {family: \"family-b\"}) RETURN count(j)"));
+    }
+
+    private void login(String family, String jti) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("email", EMAIL);
+        parameters.put("family", family);
+        parameters.put("refreshToken", "refresh-" + jti);
+        parameters.put("ttl", ZonedDateTime.now().plusDays(1));
+        parameters.put("jti", jti);
+        try (Session session = driver.session()) {
+            session.run(createJwtFamily, parameters).consume();
+        }
+    }
+
+    private String rotate(String family, String presentedJti, String newJti) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("email", EMAIL);
+        parameters.put("family", family);
+        parameters.put("presentedJti", presentedJti);
+        parameters.put("newJti", newJti);
+        parameters.put("newRefresh", "refresh-" + newJti);
+        parameters.put("newTtl", ZonedDateTime.now().plusDays(1));
+        parameters.put("graceSeconds", 30L);
+        try (Session session = driver.session()) {
+            return session.run(rotateRefreshToken, parameters).single().get("outcome").asString();
+        }
+    }
+
+    private void run(String statement) {
+        try (Session session = driver.session()) {
+            session.run(statement).consume();
+        }
+    }
+
+    private long count(String statement) {
+        try (Session session = driver.session()) {
+            return session.run(statement, Map.of("email", EMAIL)).single().get(0).asLong();
+        }
+    }
+
+    private static String query(Class<?> repository, String method) {
+        return Arrays.stream(repository.getMethods())
+                .filter(candidate -> candidate.getName().equals(method))
+                .findFirst()
+                .orElseThrow()
+                .getAnnotation(Query.class)
+                .value();
+    }
+}
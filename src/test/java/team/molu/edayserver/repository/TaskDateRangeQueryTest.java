@@ -0,0 +1,162 @@
+package team.molu.edayserver.repository;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.GraphDatabase;
+import org.neo4j.driver.Result;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.summary.ProfiledPlan;
+import org.neo4j.harness.Neo4j;
+import org.neo4j.harness.Neo4jBuilders;
+import org.springframework.data.neo4j.repository.query.Query;
+import team.molu.edayserver.schema.SchemaMigration;
+import team.molu.edayserver.schema.SchemaMigrations;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.test.util.AssertionErrors.assertEquals;
+import static org.springframework.test.util.AssertionErrors.assertTrue;
+
+/**
+ * 내장 Neo4j(neo4j-harness)에서 TaskRepository.findTasksByDate 쿼리를 그대로 PROFILE로 실행하여
+ * (owner, startDate) 범위 탐색이 지난 기록 전체가 아니라 조회 기간 + 가장 긴 할 일 기간만 읽는지 확인합니다.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TaskDateRangeQueryTest {
+    private static final String EMAIL = "test@example.com";
+    private static final int HISTORY = 2000;
+
+    private final String findTasksByDate = query("findTasksByDate");
+    private final String createTaskWithParent = query("createTaskWithParent");
+
+    private Neo4j neo4j;
+    private Driver driver;
+
+    @BeforeAll
+    void seed() {
+        neo4j = Neo4jBuilders.newInProcessBuilder().withDisabledServer().build();
+        driver = GraphDatabase.driver(neo4j.boltURI());
+        try (Session session = driver.session()) {
+            session.run("CREATE (u:User {email: $email})-[:BELONGS_TO]->(:Task {id: \"root\", name: \"root\", owner: $email, path: \"/root/\"})",
+                    Map.of("email", EMAIL)).consume();
+            // 2020년부터 쌓인 하루짜리 지난 할 일
+            session.run("MATCH (r:Task {id: \"root\", owner: $email}) " +
+                            "UNWIND range(1, $count) AS i " +
+                            "CREATE (r)-[:BELONGS_TO]->(:Task {id: \"old-\" + toString(i), name: \"old\", owner: $email, " +
+                            "  path: \"/root/old-\" + toString(i) + \"/\", priority: 0, check: false, " +
+                            "  startDate: localdatetime(\"2020-01-01T09:00\") + duration({hours: i}), " +
+                            "  endDate: localdatetime(\"2020-01-01T18:00\") + duration({hours: i})})",
+                    Map.of("email", EMAIL, "count", HISTORY)).consume();
+            // 조회 기간(2024-03) 안의 할 일 10개와, 기간 전에 시작해 기간 안에서 끝나는 14일짜리 할 일
+            session.run("MATCH (r:Task {id: \"root\", owner: $email}) " +
+                            "UNWIND range(1, 10) AS i " +
+                            "CREATE (r)-[:BELONGS_TO]->(:Task {id: \"march-\" + toString(i), name: \"march\", owner: $email, " +
+                            "  path: \"/root/march-\" + toString(i) + \"/\", priority: 0, check: false, " +
+                            "  startDate: localdatetime(\"2024-03-01T09:00\") + duration({days: i}), " +
+                            "  endDate: localdatetime(\"2024-03-01T18:00\") + duration({days: i})})",
+                    Map.of("email", EMAIL)).consume();
+            session.run("MATCH (r:Task {id: \"root\", owner: $email}) " +
+                            "CREATE (r)-[:BELONGS_TO]->(:Task {id: \"long\", name: \"long\", owner: $email, " +
+                            "  path: \"/root/long/\", priority: 0, check: false, " +
+                            "  startDate: localdatetime(\"2024-02-20T09:00\"), endDate: localdatetime(\"2024-03-05T09:00\")})",
+                    Map.of("email", EMAIL)).consume();
+
+            // 인덱스 생성 및 maxTaskSpan backfill
+            for (SchemaMigration migration : SchemaMigrations.ALL) {
+                for (String statement : migration.getStatements()) {
+                    session.run(statement).consume();
+                }
+            }
+            session.run("CALL db.awaitIndexes(300)").consume();
+        }
+    }
+
+    @AfterAll
+    void stop() {
+        driver.close();
+        neo4j.close();
+    }
+
+    @Test
+    void findTasksByDate_shouldSeekOnlyWithinWindowAndLongestSpan() {
+        // When
+        ProfiledPlan plan;
+        List<String> taskIds = new ArrayList<>();
+        try (Session session = driver.session()) {
+            Result result = session.run("PROFILE " + findTasksByDate, Map.of("email", EMAIL,
+                    "windowStart", LocalDateTime.parse("2024-03-01T00:00"),
+                    "windowEnd", LocalDateTime.parse("2024-04-01T00:00")));
+            result.forEachRemaining(record -> taskIds.add(record.get("t").get("id").asString()));
+            plan = result.consume().profile();
+        }
+
+        // Then - 기간 전에 시작한 14일짜리 할 일까지 포함
+        assertEquals("Rows Test", 11, taskIds.size());
+        assertTrue("Long Task Test", taskIds.contains("long"));
+
+        List<ProfiledPlan> seeks = new ArrayList<>();
+        collectStartDateSeeks(plan, seeks);
+        assertTrue("Start Date Seek Test", !seeks.isEmpty());
+        long seekRows = seeks.stream().mapToLong(ProfiledPlan::records).sum();
+        // 하한이 없으면 지난 할 일 2000개를 모두 읽음
+        assertTrue("Bounded Seek Test (rows=" + seekRows + ")", seekRows <= 11);
+    }
+
+    @Test
+    void createTaskWithParent_shouldExtendMaxTaskSpan() {
+        // Given - 기존 가장 긴 할 일은 14일
+        Map<String, Object> task = new HashMap<>();
+        task.put("parentId", "root");
+        task.put("email", EMAIL);
+        task.put("id", "longer");
+        task.put("name", "longer");
+        task.put("memo", "");
+        task.put("startDate", LocalDateTime.parse("2019-01-01T00:00"));
+        task.put("endDate", LocalDateTime.parse("2019-01-31T00:00"));
+        task.put("priority", 0);
+        task.put("check", false);
+
+        try (Session session = driver.session()) {
+            long before = maxTaskSpan(session);
+
+            // When
+            session.run(createTaskWithParent, Map.of("task", task)).consume();
+
+            // Then
+            assertEquals("Backfilled Span Test", 14L * 24 * 60 * 60, before);
+            assertEquals("Extended Span Test", 30L * 24 * 60 * 60, maxTaskSpan(session));
+            session.run("MATCH (t:Task {id: \"longer\", owner: $email}) DETACH DELETE t", Map.of("email", EMAIL)).consume();
+        }
+    }
+
+    private static long maxTaskSpan(Session session) {
+        return session.run("MATCH (u:User {email: $email}) RETURN u.maxTaskSpan", Map.of("email", EMAIL)).single().get(0).asLong();
+    }
+
+    private static void collectStartDateSeeks(ProfiledPlan plan, List<ProfiledPlan> seeks) {
+        String details = plan.arguments().containsKey("Details") ? plan.arguments().get("Details").asString() : "";
+        if (plan.operatorType().startsWith("NodeIndexSeek") && details.contains("startDate")) {
+            seeks.add(plan);
+        }
+        for (ProfiledPlan child : plan.children()) {
+            collectStartDateSeeks(child, seeks);
+        }
+    }
+
+    private static String query(String method) {
+        return Arrays.stream(TaskRepository.class.getMethods())
+                .filter(candidate -> candidate.getName().equals(method))
+                .findFirst()
+                .orElseThrow()
+                .getAnnotation(Query.class)
+                .value();
+    }
+}
@@ -0,0 +1,215 @@
+package team.molu.edayserver.repository;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.GraphDatabase;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Result;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.summary.ProfiledPlan;
+import org.neo4j.harness.Neo4j;
+import org.neo4j.harness.Neo4jBuilders;
+import org.springframework.data.neo4j.repository.query.Query;
+import team.molu.edayserver.schema.SchemaMigration;
+import team.molu.edayserver.schema.SchemaMigrations;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.test.util.AssertionErrors.assertEquals;
+import static org.springframework.test.util.AssertionErrors.assertTrue;
+
+/**
+ * 내장 Neo4j(neo4j-harness)에서 (priority, id) keyset 페이지 쿼리를 그대로 실행하여
+ * 같은 priority가 페이지 경계에 걸쳐도 빠지거나 겹치는 항목이 없고, 정렬 없이 인덱스 순서로 읽는지 확인합니다.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TaskPageQueryTest {
+    private static final String EMAIL = "test@example.com";
+    private static final int PAGE_SIZE = 4;
+
+    private final String findSubtaskPageById = query("findSubtaskPageById");
+    private final String findAllTasksPage = query("findAllTasksPage");
+    private final String searchTaskPageByName = query("searchTaskPageByName");
+
+    private Neo4j neo4j;
+    private Driver driver;
+
+    @BeforeAll
+    void seed() {
+        neo4j = Neo4jBuilders.newInProcessBuilder().withDisabledServer().build();
+        driver = GraphDatabase.driver(neo4j.boltURI());
+        try (Session session = driver.session()) {
+            session.run("CREATE (u:User {email: $email})-[:BELONGS_TO]->(:Task {id: \"root\", name: \"root\", owner: $email, path: \"/root/\"})",
+                    Map.of("email", EMAIL)).consume();
+            // root의 자식 25개 - 대부분 priority 0, 세 번째마다 1, 마지막 두 개는 priority 없음(backfill로 0)
+            session.run("MATCH (r:Task {id: \"root\", owner: $email}) " +
+                            "UNWIND range(1, 25) AS i " +
+                            "WITH r, i, CASE WHEN i < 10 THEN \"c0\" + toString(i) ELSE \"c\" + toString(i) END AS id " +
+                            "CREATE (r)-[:BELONGS_TO]->(t:Task {id: id, name: \"task \" + id, owner: $email, path: \"/root/\" + id + \"/\", check: false}) " +
+                            "SET t.priority = CASE WHEN i > 23 THEN null WHEN i % 3 = 0 THEN 1 ELSE 0 END",
+                    Map.of("email", EMAIL)).consume();
+            // 자식 페이지에는 나오지 않고 전체 페이지에는 나오는 손자 노드
+            session.run("MATCH (c:Task {id: \"c01\", owner: $email}) " +
+                            "CREATE (c)-[:BELONGS_TO]->(:Task {id: \"g01\", name: \"task g01\", owner: $email, path: \"/root/c01/g01/\", priority: 0, check: false})",
+                    Map.of("email", EMAIL)).consume();
+
+            // priority / parentId backfill 및 인덱스 생성
+            for (SchemaMigration migration : SchemaMigrations.ALL) {
+                for (String statement : migration.getStatements()) {
+                    session.run(statement).consume();
+                }
+            }
+            session.run("CALL db.awaitIndexes(300)").consume();
+        }
+    }
+
+    @AfterAll
+    void stop() {
+        driver.close();
+        neo4j.close();
+    }
+
+    @Test
+    void findSubtaskPageById_shouldPageAcrossEqualPriorities() {
+        // Given
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("email", EMAIL);
+        parameters.put("taskId", "root");
+
+        // When
+        List<String> taskIds = pageAll(findSubtaskPageById, "r", parameters);
+
+        // Then - priority 0 (c01, c02, c04, ...), priority 1 (c03, c06, ...) 순서로 빠짐 없이 한 번씩
+        assertEquals("Page Order Test", expectedChildren(), taskIds);
+    }
+
+    @Test
+    void findAllTasksPage_shouldPageAcrossEqualPriorities() {
+        // Given
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("email", EMAIL);
+
+        // When
+        List<String> taskIds = pageAll(findAllTasksPage, "t", parameters);
+
+        // Then
+        assertEquals("Page Order Test", expectedAll(), taskIds);
+    }
+
+    @Test
+    void searchTaskPageByName_shouldPageAcrossEqualPriorities() {
+        // Given
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("email", EMAIL);
+        parameters.put("taskType", "root");
+        parameters.put("text", "task");
+
+        // When
+        List<String> taskIds = pageAll(searchTaskPageByName, "t", parameters);
+
+        // Then
+        assertEquals("Page Order Test", expectedAll(), taskIds);
+    }
+
+    @Test
+    void pageQueries_shouldReadInIndexOrderWithoutSorting() {
+        // Given
+        Map<String, Object> subtaskParameters = new HashMap<>();
+        subtaskParameters.put("email", EMAIL);
+        subtaskParameters.put("taskId", "root");
+        subtaskParameters.put("cursorPriority", 0);
+        subtaskParameters.put("cursorId", "c05");
+        subtaskParameters.put("limit", PAGE_SIZE);
+
+        Map<String, Object> allParameters = new HashMap<>(subtaskParameters);
+        allParameters.remove("taskId");
+
+        // When & Then
+        assertTrue("Subtask Page Sort Test", !hasSort(profile(findSubtaskPageById, subtaskParameters)));
+        assertTrue("All Tasks Page Sort Test", !hasSort(profile(findAllTasksPage, allParameters)));
+    }
+
+    private List<String> pageAll(String statement, String column, Map<String, Object> parameters) {
+        List<String> taskIds = new ArrayList<>();
+        Integer cursorPriority = null;
+        String cursorId = null;
+        try (Session session = driver.session()) {
+            while (true) {
+                Map<String, Object> page = new HashMap<>(parameters);
+                page.put("cursorPriority", cursorPriority);
+                page.put("cursorId", cursorId);
+                page.put("limit", PAGE_SIZE);
+                List<Record> rows = session.run(statement, page).list();
+                for (Record row : rows) {
+                    taskIds.add(row.get(column).get("id").asString());
+                }
+                if (rows.size() < PAGE_SIZE) {
+                    return taskIds;
+                }
+                Value last = rows.get(rows.size() - 1).get(column);
+                cursorPriority = last.get("priority").asInt();
+                cursorId = last.get("id").asString();
+            }
+        }
+    }
+
+    private ProfiledPlan profile(String statement, Map<String, Object> parameters) {
+        try (Session session = driver.session()) {
+            Result result = session.run("PROFILE " + statement, parameters);
+            result.list();
+            return result.consume().profile();
+        }
+    }
+
+    private static boolean hasSort(ProfiledPlan plan) {
+        if (plan.operatorType().contains("Sort") || plan.operatorType().contains("Top")) {
+            return true;
+        }
+        for (ProfiledPlan child : plan.children()) {
+            if (hasSort(child)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // priority 0인 자식들(id 순) 다음에 priority 1인 자식들(id 순)
+    private static List<String> expectedChildren() {
+        List<String> zero = new ArrayList<>();
+        List<String> one = new ArrayList<>();
+        for (int i = 1; i <= 25; i++) {
+            String id = String.format("c%02d", i);
+            if (i <= 23 && i % 3 == 0) {
+                one.add(id);
+            } else {
+                zero.add(id);
+            }
+        }
+        zero.addAll(one);
+        return zero;
+    }
+
+    private static List<String> expectedAll() {
+        List<String> expected = expectedChildren();
+        // g01은 priority 0 그룹의 마지막 (id 순으로 c.. 다음)
+        expected.add(expected.indexOf("c03"), "g01");
+        return expected;
+    }
+
+    private static String query(String method) {
+        return Arrays.stream(TaskRepository.class.getMethods())
+                .filter(candidate -> candidate.getName().equals(method))
+                .findFirst()
+                .orElseThrow()
+                .getAnnotation(Query.class)
+                .value();
+    }
+}
@@ -0,0 +1,122 @@
+package team.molu.edayserver.repository;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.GraphDatabase;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Result;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.summary.ProfiledPlan;
+import org.neo4j.harness.Neo4j;
+import org.neo4j.harness.Neo4jBuilders;
+import org.springframework.data.neo4j.repository.query.Query;
+import team.molu.edayserver.schema.SchemaMigration;
+import team.molu.edayserver.schema.SchemaMigrations;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.test.util.AssertionErrors.assertEquals;
+import static org.springframework.test.util.AssertionErrors.assertTrue;
+
+/**
+ * 내장 Neo4j(neo4j-harness)에서 TaskRepository.findTaskTree 쿼리를 그대로 PROFILE로 실행하여
+ * depth를 지정하면 그 깊이까지만 읽는지 확인합니다.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TaskTreeQueryTest {
+    private static final String EMAIL = "test@example.com";
+    private static final int FAN_OUT = 10;
+
+    private final String findTaskTree = Arrays.stream(TaskRepository.class.getMethods())
+            .filter(method -> method.getName().equals("findTaskTree"))
+            .findFirst()
+            .orElseThrow()
+            .getAnnotation(Query.class)
+            .value();
+
+    private Neo4j neo4j;
+    private Driver driver;
+
+    @BeforeAll
+    void seed() {
+        neo4j = Neo4jBuilders.newInProcessBuilder().withDisabledServer().build();
+        driver = GraphDatabase.driver(neo4j.boltURI());
+        try (Session session = driver.session()) {
+            for (SchemaMigration migration : SchemaMigrations.ALL) {
+                for (String statement : migration.getStatements()) {
+                    session.run(statement).consume();
+                }
+            }
+            session.run("CALL db.awaitIndexes(300)").consume();
+
+            // root 아래 3단계, 단계마다 FAN_OUT개씩 (10 / 100 / 1000개)
+            session.run("CREATE (u:User {email: $email})-[:BELONGS_TO]->(:Task {id: \"root\", name: \"root\", owner: $email, path: \"/root/\"})",
+                    Map.of("email", EMAIL)).consume();
+            for (int level = 0; level < 3; level++) {
+                session.run("MATCH (p:Task) WHERE p.owner = $email AND p.path STARTS WITH \"/root/\" " +
+                                "AND size(split(p.path, \"/\")) = $size " +
+                                "UNWIND range(1, $fanOut) AS i " +
+                                "CREATE (p)-[:BELONGS_TO]->(:Task {id: p.id + \"-\" + toString(i), name: \"task\", owner: $email, " +
+                                "  path: p.path + p.id + \"-\" + toString(i) + \"/\", priority: 0, check: false})",
+                        Map.of("email", EMAIL, "size", 3 + level, "fanOut", FAN_OUT)).consume();
+            }
+        }
+    }
+
+    @AfterAll
+    void stop() {
+        driver.close();
+        neo4j.close();
+    }
+
+    @Test
+    void findTaskTree_shouldReadOnlyRequestedDepth() {
+        // When
+        Profiled depthOne = profile(1);
+        Profiled depthTwo = profile(2);
+        Profiled whole = profile(null);
+
+        // Then
+        assertEquals("Depth 1 Rows Test", 1 + FAN_OUT, depthOne.rows.size());
+        assertEquals("Depth 2 Rows Test", 1 + FAN_OUT + FAN_OUT * FAN_OUT, depthTwo.rows.size());
+        assertEquals("Whole Tree Rows Test", 1 + FAN_OUT + FAN_OUT * FAN_OUT + FAN_OUT * FAN_OUT * FAN_OUT, whole.rows.size());
+
+        Record child = depthOne.rows.get(1);
+        assertEquals("Child Depth Test", 1, child.get("depth").asInt());
+        assertEquals("Child Parent Test", "root", child.get("parentId").asString());
+        assertEquals("Child Count Test", FAN_OUT, child.get("childCount").asInt());
+
+        // depth 1은 root의 자식과 그 바로 아래 단계까지만 방문 - 전체 서브트리를 읽지 않음
+        assertTrue("Bounded Depth Test (depth1=" + depthOne.dbHits + ", whole=" + whole.dbHits + ")",
+                depthOne.dbHits * 5 < whole.dbHits);
+    }
+
+    private Profiled profile(Integer depth) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("email", EMAIL);
+        parameters.put("taskId", "root");
+        parameters.put("depth", depth);
+        try (Session session = driver.session()) {
+            Result result = session.run("PROFILE " + findTaskTree, parameters);
+            List<Record> rows = result.list();
+            return new Profiled(rows, dbHits(result.consume().profile()));
+        }
+    }
+
+    private static long dbHits(ProfiledPlan plan) {
+        long hits = plan.dbHits();
+        for (ProfiledPlan child : plan.children()) {
+            hits += dbHits(child);
+        }
+        return hits;
+    }
+
+    private record Profiled(List<Record> rows, long dbHits) {
+    }
+}
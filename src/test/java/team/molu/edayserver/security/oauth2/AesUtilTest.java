@@ -0,0 +1,60 @@
+package team.molu.edayserver.security.oauth2;
+
+import org.apache.commons.codec.binary.Hex;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.util.AssertionErrors.assertEquals;
+
+class AesUtilTest {
+    private static final String KEY = "0123456789abcdef0123456789abcdef";
+    private static final String PLAIN = "header.payload.signature";
+
+    // 기존 aesCBCEncode 구현
+    private static String legacyEncode(String plainText) throws Exception {
+        Cipher c = Cipher.getInstance("AES/CBC/PKCS5Padding");
+        c.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(KEY.getBytes(StandardCharsets.UTF_8), "AES"),
+                new IvParameterSpec(KEY.substring(0, 16).getBytes()));
+        return Hex.encodeHexString(c.doFinal(plainText.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void encrypt_shouldKeepLegacyFormat_whenWriteVersionIsOne() throws Exception {
+        AesUtil aesUtil = new AesUtil(KEY, 1);
+
+        assertEquals("V1 Legacy Compatible Test", legacyEncode(PLAIN), aesUtil.encrypt(PLAIN));
+        assertEquals("V1 Decrypt Legacy Test", PLAIN, aesUtil.decrypt(legacyEncode(PLAIN)));
+    }
+
+    @Test
+    void encrypt_shouldUseRandomIv_whenWriteVersionIsTwo() throws Exception {
+        AesUtil aesUtil = new AesUtil(KEY, 2);
+
+        String first = aesUtil.encrypt(PLAIN);
+        String second = aesUtil.encrypt(PLAIN);
+
+        assertEquals("V2 Prefix Test", true, first.startsWith(AesUtil.V2_PREFIX));
+        assertEquals("V2 Random IV Test", false, first.equals(second));
+        assertEquals("V2 Roundtrip Test", PLAIN, aesUtil.decrypt(first));
+        // 쓰기 형식과 관계없이 두 형식 모두 복호화
+        assertEquals("V2 Reads V1 Test", PLAIN, aesUtil.decrypt(legacyEncode(PLAIN)));
+        assertEquals("V1 Reads V2 Test", PLAIN, new AesUtil(KEY, 1).decrypt(first));
+    }
+
+    @Test
+    void decrypt_shouldRejectTamperedV2Ciphertext() throws Exception {
+        String encrypted = new AesUtil(KEY, 2).encrypt(PLAIN);
+        // 마지막 글자는 버려지는 비트가 있을 수 있으므로 중간 글자를 변경
+        int index = encrypted.length() / 2;
+        char original = encrypted.charAt(index);
+        String tampered = encrypted.substring(0, index) + (original == 'A' ? 'B' : 'A') + encrypted.substring(index + 1);
+
+        assertThrows(GeneralSecurityException.class, () -> new AesUtil(KEY, 2).decrypt(tampered));
+    }
+}
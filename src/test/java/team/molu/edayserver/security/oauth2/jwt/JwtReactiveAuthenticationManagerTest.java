@@ -0,0 +1,44 @@
+package team.molu.edayserver.security.oauth2.jwt;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.util.AssertionErrors.assertEquals;
+
+class JwtReactiveAuthenticationManagerTest {
+    private static final String SECRET = "eday-test-secret-key-for-hmac-sha-256-signing";
+
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET);
+    private final TokenRevocationList tokenRevocationList = mock(TokenRevocationList.class);
+    private final JwtReactiveAuthenticationManager authenticationManager = new JwtReactiveAuthenticationManager(tokenRevocationList);
+
+    private Authentication request(String token) {
+        ParsedToken parsed = jwtUtil.parse(token);
+        return new UsernamePasswordAuthenticationToken(parsed.getEmail(), parsed);
+    }
+
+    @Test
+    void authenticate_shouldReturnPrincipal_whenAccessTokenIsValid() {
+        String token = jwtUtil.createJwt("access", "test@example.com", "ROLE_USER", 60 * 60 * 1000L);
+
+        Authentication authentication = authenticationManager.authenticate(request(token)).block();
+
+        assertEquals("Authenticated Test", true, authentication.isAuthenticated());
+        assertEquals("Principal Email Test", "test@example.com", authentication.getName());
+        assertEquals("Authority Test", "ROLE_USER", authentication.getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    void authenticate_shouldReject_refreshAndRevokedTokens() {
+        String refresh = jwtUtil.createJwt("refresh", "test@example.com", "ROLE_USER", 60 * 60 * 1000L);
+        String access = jwtUtil.createJwt("access", "test@example.com", "ROLE_USER", 60 * 60 * 1000L);
+        when(tokenRevocationList.isRevoked(jwtUtil.parse(access).getId())).thenReturn(true);
+
+        assertThrows(BadCredentialsException.class, () -> authenticationManager.authenticate(request(refresh)).block());
+        assertThrows(BadCredentialsException.class, () -> authenticationManager.authenticate(request(access)).block());
+    }
+}
@@ -0,0 +1,57 @@
+package team.molu.edayserver.security.oauth2.jwt;
+
+import org.junit.jupiter.api.Test;
+
+import static org.springframework.test.util.AssertionErrors.assertEquals;
+
+class JwtUtilTest {
+    private static final String SECRET = "eday-test-secret-key-for-hmac-sha-256-signing";
+
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET);
+
+    @Test
+    void parse_shouldExposeAllClaims_whenTokenIsValid() {
+        String token = jwtUtil.createJwt("access", "test@example.com", "ROLE_USER", 60 * 1000L);
+
+        ParsedToken parsed = jwtUtil.parse(token);
+
+        assertEquals("Valid Token Test", true, parsed.isValid());
+        assertEquals("Category Claim Test", "access", parsed.getCategory());
+        assertEquals("Email Claim Test", "test@example.com", parsed.getEmail());
+        assertEquals("Role Claim Test", "ROLE_USER", parsed.getRole());
+    }
+
+    @Test
+    void createRefreshJwt_shouldCarryFamilyClaim() {
+        String family = JwtUtil.newFamily();
+
+        ParsedToken refresh = jwtUtil.parse(jwtUtil.createRefreshJwt("test@example.com", "ROLE_USER", family, 60 * 1000L));
+        ParsedToken access = jwtUtil.parse(jwtUtil.createJwt("access", "test@example.com", "ROLE_USER", 60 * 1000L));
+
+        assertEquals("Refresh Category Test", "refresh", refresh.getCategory());
+        assertEquals("Family Claim Test", family, refresh.getFamily());
+        assertEquals("Access Family Claim Test", null, access.getFamily());
+    }
+
+    @Test
+    void parse_shouldKeepClaims_whenTokenIsExpired() {
+        String token = jwtUtil.createJwt("access", "test@example.com", "ROLE_USER", -1000L);
+
+        ParsedToken parsed = jwtUtil.parse(token);
+
+        assertEquals("Expired Token Test", true, parsed.isExpired());
+        assertEquals("Expired Token Valid Test", false, parsed.isValid());
+        assertEquals("Expired Email Claim Test", "test@example.com", parsed.getEmail());
+    }
+
+    @Test
+    void parse_shouldDropClaims_whenSignatureDoesNotMatch() {
+        String token = new JwtUtil("another-secret-key-for-hmac-sha-256-signing!!").createJwt("access", "test@example.com", "ROLE_USER", 60 * 1000L);
+
+        ParsedToken parsed = jwtUtil.parse(token);
+
+        assertEquals("Forged Token Signed Test", false, parsed.isSigned());
+        assertEquals("Forged Email Claim Test", null, parsed.getEmail());
+        assertEquals("Garbage Token Test", false, jwtUtil.parse("not-a-jwt").isSigned());
+    }
+}
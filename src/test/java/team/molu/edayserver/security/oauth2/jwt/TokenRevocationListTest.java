@@ -0,0 +1,88 @@
+package team.molu.edayserver.security.oauth2.jwt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import team.molu.edayserver.domain.RevokedToken;
+import team.molu.edayserver.repository.RevokedTokenRepository;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.util.AssertionErrors.assertEquals;
+
+class TokenRevocationListTest {
+    private static final String SECRET = "eday-test-secret-key-for-hmac-sha-256-signing";
+
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET);
+    private final AtomicLong now = new AtomicLong(System.currentTimeMillis());
+    private RevokedTokenRepository revokedTokenRepository;
+    private TokenRevocationList tokenRevocationList;
+
+    @BeforeEach
+    void setUp() {
+        revokedTokenRepository = mock(RevokedTokenRepository.class);
+        when(revokedTokenRepository.revoke(anyString(), anyString(), any())).thenReturn(Mono.empty());
+        tokenRevocationList = new TokenRevocationList(revokedTokenRepository, 100, 10, now::get);
+    }
+
+    @Test
+    void revoke_shouldRejectRevokedToken_andKeepOthers() {
+        ParsedToken revoked = jwtUtil.parse(jwtUtil.createJwt("refresh", "test@example.com", "ROLE_USER", 60 * 60 * 1000L));
+        ParsedToken other = jwtUtil.parse(jwtUtil.createJwt("refresh", "test@example.com", "ROLE_USER", 60 * 60 * 1000L));
+
+        tokenRevocationList.revoke(revoked).block();
+
+        assertEquals("Revoked Token Test", true, tokenRevocationList.isRevoked(revoked.getId()));
+        assertEquals("Other Token Test", false, tokenRevocationList.isRevoked(other.getId()));
+        assertEquals("Null Jti Test", false, tokenRevocationList.isRevoked(null));
+        verify(revokedTokenRepository, times(1)).revoke(revoked.getId(), "test@example.com", revoked.getExpiration());
+    }
+
+    @Test
+    void isRevoked_shouldForgetToken_afterItsExpiry() {
+        ParsedToken token = jwtUtil.parse(jwtUtil.createJwt("access", "test@example.com", "ROLE_USER", 60 * 1000L));
+        tokenRevocationList.revoke(token).block();
+
+        now.addAndGet(2 * 60 * 1000L);
+        when(revokedTokenRepository.deleteExpired(anyInt())).thenReturn(Mono.just(0));
+        tokenRevocationList.purge();
+
+        assertEquals("Expired Revocation Test", false, tokenRevocationList.isRevoked(token.getId()));
+        assertEquals("Purged Size Test", 0, tokenRevocationList.size());
+    }
+
+    @Test
+    void run_shouldRebuildFromDatabase() {
+        RevokedToken stored = RevokedToken.builder()
+                .jti("stored-jti")
+                .owner("test@example.com")
+                .expiresAt(Instant.ofEpochMilli(now.get() + 60 * 60 * 1000L).atZone(ZoneId.systemDefault()))
+                .build();
+        when(revokedTokenRepository.findActive()).thenReturn(Flux.just(stored));
+
+        tokenRevocationList.run(null);
+
+        assertEquals("Loaded Revocation Test", true, tokenRevocationList.isRevoked("stored-jti"));
+    }
+
+    @Test
+    void revoke_shouldGrowFilter_beyondExpectedInsertions() {
+        String[] ids = new String[500];
+        for (int i = 0; i < ids.length; i++) {
+            ParsedToken token = jwtUtil.parse(jwtUtil.createJwt("access", "user" + i + "@example.com", "ROLE_USER", 60 * 60 * 1000L));
+            ids[i] = token.getId();
+            tokenRevocationList.revoke(token).block();
+        }
+
+        for (String id : ids) {
+            assertEquals("Grown Filter Test", true, tokenRevocationList.isRevoked(id));
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package team.molu.edayserver.security.oauth2.jwt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.util.AssertionErrors.assertEquals;
+
+class VerifiedTokenCacheTest {
+    private static final String SECRET = "eday-test-secret-key-for-hmac-sha-256-signing";
+
+    private JwtUtil jwtUtil;
+    private final AtomicLong now = new AtomicLong(System.currentTimeMillis());
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = spy(new JwtUtil(SECRET));
+        verifiedTokenCache = new VerifiedTokenCache(jwtUtil, 2, now::get);
+    }
+
+    @Test
+    void parse_shouldVerifyOnce_andServeRepeatedRequestsFromCache() {
+        String token = jwtUtil.createJwt("access", "test@example.com", "ROLE_USER", 60 * 60 * 1000L);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals("Cached Email Test", "test@example.com", verifiedTokenCache.parse(token).getEmail());
+        }
+
+        verify(jwtUtil, times(1)).parse(token);
+        assertEquals("Hit Count Test", 99L, verifiedTokenCache.getHitCount());
+        assertEquals("Miss Count Test", 1L, verifiedTokenCache.getMissCount());
+    }
+
+    @Test
+    void parse_shouldReverify_afterTokenExpiry() {
+        String token = jwtUtil.createJwt("access", "test@example.com", "ROLE_USER", 60 * 1000L);
+        verifiedTokenCache.parse(token);
+
+        now.addAndGet(2 * 60 * 1000L);
+        verifiedTokenCache.parse(token);
+
+        verify(jwtUtil, times(2)).parse(token);
+    }
+
+    @Test
+    void parse_shouldStayWithinMaxSize_andSkipInvalidTokens() {
+        for (int i = 0; i < 5; i++) {
+            verifiedTokenCache.parse(jwtUtil.createJwt("access", "user" + i + "@example.com", "ROLE_USER", (i + 1) * 60 * 1000L));
+        }
+        verifiedTokenCache.parse("not-a-jwt");
+
+        assertEquals("Max Size Test", true, verifiedTokenCache.size() <= 2);
+    }
+
+    @Test
+    void invalidateUser_shouldForceReverification() {
+        String token = jwtUtil.createJwt("access", "test@example.com", "ROLE_USER", 60 * 60 * 1000L);
+        verifiedTokenCache.parse(token);
+
+        verifiedTokenCache.invalidateUser("test@example.com");
+        verifiedTokenCache.parse(token);
+
+        verify(jwtUtil, times(2)).parse(token);
+    }
+}
@@ -0,0 +1,146 @@
+package team.molu.edayserver.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import team.molu.edayserver.dto.TasksDto;
+import team.molu.edayserver.exception.InvalidTaskBatchException;
+import team.molu.edayserver.exception.TaskBatchFailedException;
+import team.molu.edayserver.repository.TaskRepository;
+import team.molu.edayserver.util.SecurityUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.util.AssertionErrors.assertEquals;
+
+@ExtendWith(MockitoExtension.class)
+class TaskBatchServiceTest {
+    private static final String EMAIL = "test@example.com";
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskChangeLog taskChangeLog;
+
+    @Mock
+    private TaskTypeaheadIndex taskTypeaheadIndex;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    private TaskBatchService taskBatchService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        taskBatchService = new TaskBatchService(taskRepository, taskChangeLog, taskTypeaheadIndex, transactionalOperator, 5);
+
+        lenient().when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(taskChangeLog.recordTasks(eq(EMAIL), anyString(), anyList())).thenReturn(Mono.empty());
+        lenient().when(taskChangeLog.recordSubtrees(eq(EMAIL), anyString(), anyList())).thenReturn(Mono.empty());
+    }
+
+    // 모든 행이 노드 1개씩 적용된 것으로 응답
+    private static Flux<TasksDto.TaskBatchRowDto> applied(List<Map<String, Object>> ops) {
+        return Flux.fromIterable(ops)
+                .map(op -> TasksDto.TaskBatchRowDto.builder().index((Integer) op.get("index")).affectedNodes(1).build());
+    }
+
+    private TasksDto.TaskBatchResponse executeBatch(TasksDto.TaskBatchOperation... operations) {
+        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class, CALLS_REAL_METHODS)) {
+            utilities.when(SecurityUtils::getAuthenticatedUserEmail).thenReturn(EMAIL);
+
+            return taskBatchService.executeBatch(TasksDto.TaskBatchRequest.builder()
+                            .operations(new ArrayList<>(List.of(operations)))
+                            .build())
+                    .block();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void executeBatch_shouldGroupConsecutiveOperationsAndResolveReferences() {
+        // Given
+        when(taskRepository.createTasks(eq(EMAIL), anyList())).thenAnswer(invocation -> applied(invocation.getArgument(1)));
+        when(taskRepository.moveTasks(eq(EMAIL), anyList())).thenAnswer(invocation -> applied(invocation.getArgument(1)));
+        when(taskRepository.updateTasks(eq(EMAIL), anyList())).thenAnswer(invocation -> applied(invocation.getArgument(1)));
+
+        // When
+        TasksDto.TaskBatchResponse response = executeBatch(
+                TasksDto.TaskBatchOperation.builder().op("create").parentId("0").name("Parent").build(),
+                TasksDto.TaskBatchOperation.builder().op("create").parentId("$0").name("Child").build(),
+                TasksDto.TaskBatchOperation.builder().op("move").taskId("a").parentId("$0").build(),
+                TasksDto.TaskBatchOperation.builder().op("move").taskId("b").parentId("$1").build(),
+                TasksDto.TaskBatchOperation.builder().op("update").taskId("a").name("A").check(true).build());
+
+        // Then
+        ArgumentCaptor<List<Map<String, Object>>> created = ArgumentCaptor.forClass(List.class);
+        verify(taskRepository, times(1)).createTasks(eq(EMAIL), created.capture());
+        verify(taskRepository, times(1)).moveTasks(eq(EMAIL), anyList());
+        verify(transactionalOperator, times(1)).transactional(any(Mono.class));
+
+        List<TasksDto.TaskBatchResult> results = response.getResults();
+        String parentId = results.get(0).getTaskId();
+        assertEquals("Batch Result Count Test", 5, results.size());
+        assertEquals("Batch Root Parent Test", "root", created.getValue().get(0).get("parentId"));
+        assertEquals("Batch Created Reference Test", parentId, created.getValue().get(1).get("parentId"));
+        assertEquals("Batch Moved Reference Test", parentId, results.get(2).getParentId());
+        assertEquals("Batch Result Order Test", List.of("create", "create", "move", "move", "update"),
+                results.stream().map(TasksDto.TaskBatchResult::getOp).toList());
+        verify(taskChangeLog, times(1)).recordSubtrees(EMAIL, "move", List.of("a", "b"));
+        verify(taskTypeaheadIndex, times(1)).invalidate(EMAIL);
+    }
+
+    @Test
+    void executeBatch_shouldFailWholeBatch_whenOperationIsNotApplied() {
+        // Given - 두 번째 이동은 대상이 없어 결과 행이 없음
+        when(taskRepository.moveTasks(eq(EMAIL), anyList())).thenReturn(Flux.just(
+                TasksDto.TaskBatchRowDto.builder().index(0).affectedNodes(3).build()));
+
+        // When & Then
+        TaskBatchFailedException exception = assertThrows(TaskBatchFailedException.class, () -> executeBatch(
+                TasksDto.TaskBatchOperation.builder().op("move").taskId("a").parentId("0").build(),
+                TasksDto.TaskBatchOperation.builder().op("move").taskId("missing").parentId("0").build(),
+                TasksDto.TaskBatchOperation.builder().op("archive").taskId("a").build()));
+
+        assertEquals("Batch Failed Operation Test",
+                "Batch operation 1 (move) failed: task missing not found or not allowed.", exception.getMessage());
+        verify(taskRepository, never()).archiveTasks(anyString(), anyList());
+        verify(taskChangeLog, never()).recordSubtrees(anyString(), anyString(), anyList());
+        verify(taskTypeaheadIndex, never()).invalidate(EMAIL);
+    }
+
+    @Test
+    void executeBatch_shouldRejectInvalidOperations() {
+        assertThrows(InvalidTaskBatchException.class, () -> executeBatch(
+                TasksDto.TaskBatchOperation.builder().op("rename").taskId("a").build()));
+        assertThrows(InvalidTaskBatchException.class, () -> executeBatch(
+                TasksDto.TaskBatchOperation.builder().op("delete").taskId("trash").build()));
+        assertThrows(InvalidTaskBatchException.class, () -> executeBatch(
+                TasksDto.TaskBatchOperation.builder().op("move").taskId("a").parentId("$1").build(),
+                TasksDto.TaskBatchOperation.builder().op("create").parentId("0").name("Later").build()));
+        assertThrows(InvalidTaskBatchException.class, () -> executeBatch(
+                TasksDto.TaskBatchOperation.builder().op("restore").taskId("a").build()));
+        assertThrows(InvalidTaskBatchException.class, () -> executeBatch(
+                TasksDto.TaskBatchOperation.builder().op("archive").taskId("a").build(),
+                TasksDto.TaskBatchOperation.builder().op("archive").taskId("b").build(),
+                TasksDto.TaskBatchOperation.builder().op("archive").taskId("c").build(),
+                TasksDto.TaskBatchOperation.builder().op("archive").taskId("d").build(),
+                TasksDto.TaskBatchOperation.builder().op("archive").taskId("e").build(),
+                TasksDto.TaskBatchOperation.builder().op("archive").taskId("f").build()));
+
+        verifyNoInteractions(taskRepository, transactionalOperator);
+    }
+}
@@ -0,0 +1,89 @@
+package team.molu.edayserver.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import team.molu.edayserver.dto.TasksDto;
+import team.molu.edayserver.repository.TaskChangeRepository;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.util.AssertionErrors.assertEquals;
+
+@ExtendWith(MockitoExtension.class)
+class TaskChangeLogTest {
+    private static final String EMAIL = "test@example.com";
+
+    @Mock
+    private TaskChangeRepository taskChangeRepository;
+
+    private TaskChangeLog taskChangeLog;
+
+    @BeforeEach
+    void setUp() {
+        taskChangeLog = new TaskChangeLog(taskChangeRepository, Duration.ofDays(30), 100);
+        when(taskChangeRepository.findSyncState(EMAIL)).thenReturn(Mono.just(
+                TasksDto.TaskSyncStateDto.builder().revision(12L).horizon(5L).build()));
+    }
+
+    @Test
+    void changesSince_shouldSplitTasksAndTombstones() {
+        // Given
+        when(taskChangeRepository.findChangesSince(EMAIL, 10L)).thenReturn(Flux.just(
+                TasksDto.TaskChangeDto.builder().taskId("1").rev(11L).deleted(false).parentId("0").name("Task 1").build(),
+                TasksDto.TaskChangeDto.builder().taskId("2").rev(12L).deleted(true).build(),
+                // 상태 조회 이후에 기록된 변경
+                TasksDto.TaskChangeDto.builder().taskId("3").rev(13L).deleted(false).parentId("1").name("Task 3").build()));
+        when(taskChangeRepository.findSubtreeChangesSince(EMAIL, 10L)).thenReturn(Flux.empty());
+        when(taskChangeRepository.findDeletedSubtreesSince(EMAIL, 10L)).thenReturn(Flux.empty());
+
+        // When
+        TasksDto.TaskChangesResponse result = taskChangeLog.changesSince(EMAIL, 10L).block();
+
+        // Then
+        assertEquals("Changes Reset Test", false, result.getReset());
+        assertEquals("Changes Revision Test", 13L, result.getRevision());
+        assertEquals("Changes Tasks Test", 2, result.getTasks().size());
+        assertEquals("Changes Tombstones Test", List.of("2"), result.getDeletedTaskIds());
+        assertEquals("Changes Subtree Tombstones Test", List.of(), result.getDeletedSubtreeIds());
+    }
+
+    @Test
+    void changesSince_shouldExpandSubtreeChangesAndKeepSubtreeTombstones() {
+        // Given - 노드 1은 노드 단위 기록과 복구된 서브트리(1, 4) 기록에 모두 포함, 서브트리 5는 아카이브됨
+        when(taskChangeRepository.findChangesSince(EMAIL, 10L)).thenReturn(Flux.just(
+                TasksDto.TaskChangeDto.builder().taskId("1").rev(11L).deleted(false).parentId("0").name("Task 1").build()));
+        when(taskChangeRepository.findSubtreeChangesSince(EMAIL, 10L)).thenReturn(Flux.just(
+                TasksDto.TaskChangeDto.builder().taskId("1").rev(12L).deleted(false).parentId("0").name("Task 1").build(),
+                TasksDto.TaskChangeDto.builder().taskId("4").rev(12L).deleted(false).parentId("1").name("Task 4").build()));
+        when(taskChangeRepository.findDeletedSubtreesSince(EMAIL, 10L)).thenReturn(Flux.just(
+                TasksDto.TaskChangeDto.builder().taskId("5").rev(12L).deleted(true).build()));
+
+        // When
+        TasksDto.TaskChangesResponse result = taskChangeLog.changesSince(EMAIL, 10L).block();
+
+        // Then
+        assertEquals("Subtree Revision Test", 12L, result.getRevision());
+        assertEquals("Subtree Tasks Test", List.of("1", "4"),
+                result.getTasks().stream().map(TasksDto.TaskChangeDto::getTaskId).toList());
+        assertEquals("Subtree Task Tombstones Test", List.of(), result.getDeletedTaskIds());
+        assertEquals("Subtree Tombstones Test", List.of("5"), result.getDeletedSubtreeIds());
+    }
+
+    @Test
+    void changesSince_shouldRequestReset_whenSinceIsCompacted() {
+        // When
+        TasksDto.TaskChangesResponse result = taskChangeLog.changesSince(EMAIL, 4L).block();
+
+        // Then
+        assertEquals("Compacted Reset Test", true, result.getReset());
+        assertEquals("Compacted Revision Test", 12L, result.getRevision());
+        verify(taskChangeRepository, never()).findChangesSince(anyString(), anyLong());
+    }
+}
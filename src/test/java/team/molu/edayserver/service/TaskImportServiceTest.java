@@ -0,0 +1,166 @@
+package team.molu.edayserver.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import team.molu.edayserver.dto.TasksDto;
+import team.molu.edayserver.exception.TaskNotFoundException;
+import team.molu.edayserver.importer.TaskImportFormat;
+import team.molu.edayserver.repository.TaskRepository;
+import team.molu.edayserver.util.SecurityUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.util.AssertionErrors.assertEquals;
+
+@ExtendWith(MockitoExtension.class)
+class TaskImportServiceTest {
+    private static final String EMAIL = "test@example.com";
+    private static final String IMPORT_ID = "import-1";
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskChangeLog taskChangeLog;
+
+    @Mock
+    private TaskTypeaheadIndex taskTypeaheadIndex;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    private TaskImportService taskImportService;
+
+    // id → path, 커밋된 노드를 흉내내는 저장소
+    private final Map<String, String> paths = new HashMap<>();
+    private final List<List<Map<String, Object>>> linkedBatches = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        taskImportService = new TaskImportService(taskRepository, taskChangeLog, taskTypeaheadIndex, transactionalOperator, 2, 10);
+        paths.put("root", "/root/");
+
+        lenient().when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(taskChangeLog.recordTasks(eq(EMAIL), eq("create"), anyList())).thenReturn(Mono.empty());
+        lenient().when(taskRepository.findTaskPaths(eq(EMAIL), anyList())).thenAnswer(invocation -> {
+            List<String> taskIds = invocation.getArgument(1);
+            return Flux.fromIterable(taskIds)
+                    .filter(paths::containsKey)
+                    .map(taskId -> TasksDto.TaskPathDto.builder().taskId(taskId).path(paths.get(taskId)).build());
+        });
+        lenient().when(taskRepository.importTasks(eq(EMAIL), anyList())).thenAnswer(invocation -> {
+            List<Map<String, Object>> rows = invocation.getArgument(1);
+            List<String> created = new ArrayList<>();
+            for (Map<String, Object> row : rows) {
+                if (paths.putIfAbsent((String) row.get("id"), (String) row.get("path")) == null) {
+                    created.add((String) row.get("id"));
+                }
+            }
+            return Flux.fromIterable(created);
+        });
+        lenient().when(taskRepository.linkImportedTasks(eq(EMAIL), anyList())).thenAnswer(invocation -> {
+            List<Map<String, Object>> rows = invocation.getArgument(1);
+            linkedBatches.add(rows);
+            return Mono.just(rows.size());
+        });
+    }
+
+    private List<TasksDto.TaskImportProgress> importTasks(String parentId, TaskImportFormat format, String content) {
+        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class, CALLS_REAL_METHODS)) {
+            utilities.when(SecurityUtils::getAuthenticatedUserEmail).thenReturn(EMAIL);
+
+            return taskImportService.importTasks(parentId, format, IMPORT_ID,
+                            new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)))
+                    .collectList()
+                    .block();
+        }
+    }
+
+    private static String taskId(String sourceId) {
+        return TaskImportService.taskId(EMAIL, IMPORT_ID, sourceId);
+    }
+
+    @Test
+    void importTasks_shouldWriteBatchesWithPathsAcrossBatches() {
+        // Given
+        String json = "[{\"id\": \"a\", \"name\": \"A\", \"children\": [{\"id\": \"a1\", \"name\": \"A-1\", \"children\": [" +
+                "{\"id\": \"a11\", \"name\": \"A-1-1\"}]}]}, {\"id\": \"b\", \"name\": \"B\"}]";
+
+        // When
+        List<TasksDto.TaskImportProgress> progress = importTasks("0", TaskImportFormat.JSON, json);
+
+        // Then
+        assertEquals("Import Progress Count Test", 3, progress.size());
+        TasksDto.TaskImportProgress done = progress.get(2);
+        assertEquals("Import Done Test", true, done.getDone());
+        assertEquals("Import Rows Test", 4L, done.getRows());
+        assertEquals("Import Imported Test", 4L, done.getImported());
+        assertEquals("Import Failed Test", 0L, done.getFailed());
+        // 두 번째 배치의 A-1-1은 이전 배치에서 만든 A-1의 path를 DB에서 읽어 사용
+        assertEquals("Import Cross Batch Path Test",
+                "/root/" + taskId("a") + "/" + taskId("a1") + "/" + taskId("a11") + "/", paths.get(taskId("a11")));
+        assertEquals("Import Root Parent Test", "root", linkedBatches.get(1).get(1).get("parentId"));
+        verify(taskRepository, times(2)).importTasks(eq(EMAIL), anyList());
+        verify(taskChangeLog, times(2)).recordTasks(eq(EMAIL), eq("create"), anyList());
+        verify(taskTypeaheadIndex, times(1)).invalidate(EMAIL);
+    }
+
+    @Test
+    void importTasks_shouldReportRowErrorsAndSkipExistingRows() {
+        // Given - 2는 부모보다 먼저 나오고, 1은 이전 시도에서 이미 가져옴
+        String csv = "id,parentId,name\n2,3,Child\n3,,Parent\n1,,Imported\n4,,";
+        paths.put(taskId("1"), "/root/" + taskId("1") + "/");
+
+        // When
+        List<TasksDto.TaskImportProgress> progress = importTasks("0", TaskImportFormat.CSV, csv);
+
+        // Then
+        TasksDto.TaskImportProgress first = progress.get(0);
+        assertEquals("Import Unknown Parent Test", "unknown parent 3", first.getErrors().get(0).getMessage());
+        assertEquals("Import Error Line Test", 2L, first.getErrors().get(0).getLine());
+        TasksDto.TaskImportProgress done = progress.get(progress.size() - 1);
+        assertEquals("Import Imported Test", 1L, done.getImported());
+        assertEquals("Import Skipped Test", 1L, done.getSkipped());
+        assertEquals("Import Failed Test", 2L, done.getFailed());
+        assertEquals("Import Rows Test", 4L, done.getRows());
+    }
+
+    @Test
+    void importTasks_shouldStopWithError_whenRowLimitIsExceeded() {
+        // Given
+        StringBuilder csv = new StringBuilder("name\n");
+        for (int i = 0; i < 11; i++) {
+            csv.append("Task ").append(i).append('\n');
+        }
+
+        // When
+        List<TasksDto.TaskImportProgress> progress = importTasks("0", TaskImportFormat.CSV, csv.toString());
+
+        // Then - 한도 전까지 커밋된 배치는 남음
+        TasksDto.TaskImportProgress done = progress.get(progress.size() - 1);
+        assertEquals("Import Limit Done Test", true, done.getDone());
+        assertEquals("Import Limit Error Test", "Too many rows (max 10)", done.getError());
+        assertEquals("Import Limit Imported Test", 10L, done.getImported());
+    }
+
+    @Test
+    void importTasks_shouldThrowTaskNotFoundException_whenParentDoesNotExist() {
+        assertThrows(TaskNotFoundException.class, () -> importTasks("missing", TaskImportFormat.CSV, "name\nTask\n"));
+        verify(taskRepository, never()).importTasks(anyString(), anyList());
+    }
+}
@@ -1,15 +1,19 @@
 package team.molu.edayserver.service;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import team.molu.edayserver.domain.Task;
 import team.molu.edayserver.dto.TasksDto;
+import team.molu.edayserver.exception.InvalidCursorException;
+import team.molu.edayserver.exception.InvalidTaskLookupException;
 import team.molu.edayserver.exception.TaskNotFoundException;
 import team.molu.edayserver.repository.TaskRepository;
 import team.molu.edayserver.util.SecurityUtils;
@@ -17,6 +21,7 @@ import team.molu.edayserver.util.SecurityUtils;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
@@ -28,9 +33,26 @@ class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private TaskTypeaheadIndex taskTypeaheadIndex;
+
+    @Mock
+    private TaskChangeLog taskChangeLog;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
     @InjectMocks
     private TaskService taskService;
 
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        lenient().when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(taskChangeLog.recordTasks(any(), anyString(), anyList())).thenReturn(Mono.empty());
+        lenient().when(taskChangeLog.recordSubtree(any(), anyString(), anyString())).thenReturn(Mono.empty());
+    }
+
     @Test
     void findTaskByRoot_shouldReturnTasksDto() {
         // Given
@@ -41,11 +63,11 @@ class TaskServiceTest {
         );
         when(taskRepository.findRootTasks(email)).thenReturn(Flux.fromIterable(tasks));
 
-        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class)) {
+        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class, CALLS_REAL_METHODS)) {
             utilities.when(SecurityUtils::getAuthenticatedUserEmail).thenReturn(email);
 
             // When
-            TasksDto.SearchTasksResponse result = taskService.findTaskByRoot();
+            TasksDto.SearchTasksResponse result = taskService.findTaskByRoot().block();
 
             // Then
             assertEquals("Task List Size Test", 2, result.getTaskList().size());
@@ -57,52 +79,158 @@ class TaskServiceTest {
     @Test
     void findTaskById_shouldReturnTaskDto_whenTaskExists() {
         // Given
+        String email = "test@example.com";
         String taskId = "1";
         Task task = new Task(taskId, "Task 1", "Memo 1", LocalDateTime.now(), LocalDateTime.now().plusDays(1), 1, false);
-        when(taskRepository.findTaskById(taskId)).thenReturn(Mono.just(task));
+        when(taskRepository.findTaskById(email, taskId)).thenReturn(Mono.just(task));
 
-        // When
-        TasksDto.TaskResponse result = taskService.findTaskById(taskId);
+        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class, CALLS_REAL_METHODS)) {
+            utilities.when(SecurityUtils::getAuthenticatedUserEmail).thenReturn(email);
 
-        // Then
-        assertEquals("TaskIdExist Test", taskId, result.getTaskId());
-        verify(taskRepository, times(1)).findTaskById(taskId);
+            // When
+            TasksDto.TaskResponse result = taskService.findTaskById(taskId).block();
+
+            // Then
+            assertEquals("TaskIdExist Test", taskId, result.getTaskId());
+            verify(taskRepository, times(1)).findTaskById(email, taskId);
+        }
     }
 
     @Test
     void findTaskById_shouldThrowTaskNotFoundException_whenTaskDoesNotExist() {
         // Given
+        String email = "test@example.com";
+        String taskId = "1";
+        when(taskRepository.findTaskById(email, taskId)).thenReturn(Mono.empty());
+
+        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class, CALLS_REAL_METHODS)) {
+            utilities.when(SecurityUtils::getAuthenticatedUserEmail).thenReturn(email);
+
+            // When & Then
+            assertThrows(TaskNotFoundException.class, () -> taskService.findTaskById(taskId).block());
+            verify(taskRepository, times(1)).findTaskById(email, taskId);
+        }
+    }
+
+    @Test
+    void findTaskById_shouldThrowTaskNotFoundException_whenTaskBelongsToAnotherUser() {
+        // Given
+        String email = "other@example.com";
         String taskId = "1";
-        when(taskRepository.findTaskById(taskId)).thenReturn(Mono.empty());
+        // 다른 사용자의 노드는 owner 조건에 걸려 조회되지 않음
+        when(taskRepository.findTaskById(email, taskId)).thenReturn(Mono.empty());
+
+        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class, CALLS_REAL_METHODS)) {
+            utilities.when(SecurityUtils::getAuthenticatedUserEmail).thenReturn(email);
+
+            // When & Then
+            assertThrows(TaskNotFoundException.class, () -> taskService.findTaskById(taskId).block());
+            verify(taskRepository, never()).findTaskById(eq("test@example.com"), anyString());
+        }
+    }
+
+    @Test
+    void findTasksByIds_shouldKeepRequestOrderAndReportMissingIds() {
+        // Given
+        String email = "test@example.com";
+        List<Task> tasks = Arrays.asList(
+                new Task("3", "Task 3", "Memo 3", LocalDateTime.now(), LocalDateTime.now().plusDays(1), 1, false),
+                new Task("1", "Task 1", "Memo 1", LocalDateTime.now(), LocalDateTime.now().plusDays(2), 2, true)
+        );
+        when(taskRepository.findTasksByIds(email, List.of("1", "2", "3"))).thenReturn(Flux.fromIterable(tasks));
+
+        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class, CALLS_REAL_METHODS)) {
+            utilities.when(SecurityUtils::getAuthenticatedUserEmail).thenReturn(email);
+
+            // When
+            TasksDto.TaskLookupResponse result = taskService.findTasksByIds(TasksDto.TaskLookupRequest.builder()
+                    .taskIds(Arrays.asList("1", "2", "root", "3", "1"))
+                    .build()).block();
+
+            // Then
+            assertEquals("Lookup Order Test", List.of("1", "3"),
+                    result.getTaskList().stream().map(TasksDto.TaskResponse::getTaskId).toList());
+            assertEquals("Lookup Missing Test", List.of("2", "root"), result.getMissingTaskIds());
+            verify(taskRepository, times(1)).findTasksByIds(email, List.of("1", "2", "3"));
+        }
+    }
+
+    @Test
+    void findTasksByIds_shouldThrowInvalidTaskLookupException_whenTooManyIds() {
+        // Given
+        List<String> taskIds = IntStream.rangeClosed(1, 201).mapToObj(String::valueOf).toList();
 
         // When & Then
-        assertThrows(TaskNotFoundException.class, () -> taskService.findTaskById(taskId));
-        verify(taskRepository, times(1)).findTaskById(taskId);
+        assertThrows(InvalidTaskLookupException.class, () -> taskService.findTasksByIds(TasksDto.TaskLookupRequest.builder()
+                .taskIds(taskIds)
+                .build()));
+        verifyNoInteractions(taskRepository);
     }
 
     @Test
     void findSubtaskById_shouldReturnTasksDto() {
         // Given
+        String email = "test@example.com";
         String taskId = "1";
         List<Task> subtasks = Arrays.asList(
                 new Task("2", "Subtask 1", "Memo 1", LocalDateTime.now(), LocalDateTime.now().plusDays(1), 1, false),
                 new Task("3", "Subtask 2", "Memo 2", LocalDateTime.now(), LocalDateTime.now().plusDays(2), 2, true)
         );
-        when(taskRepository.findSubtaskById(taskId)).thenReturn(Flux.fromIterable(subtasks));
+        when(taskRepository.findSubtaskPageById(email, taskId, null, null, 101)).thenReturn(Flux.fromIterable(subtasks));
 
-        // When
-        TasksDto.SearchTasksResponse result = taskService.findSubtaskById(taskId);
+        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class, CALLS_REAL_METHODS)) {
+            utilities.when(SecurityUtils::getAuthenticatedUserEmail).thenReturn(email);
 
-        // Then
-        assertEquals("SubTask List Size Test",2, result.getTaskList().size());
-        assertEquals("SubTask Properties Test","2", result.getTaskList().get(0).getTaskId());
-        assertEquals("SubTask Properties Test2","3", result.getTaskList().get(1).getTaskId());
-        verify(taskRepository, times(1)).findSubtaskById(taskId);
+            // When
+            TasksDto.SearchTasksResponse result = taskService.findSubtaskById(taskId, null, null).block();
+
+            // Then
+            assertEquals("SubTask List Size Test",2, result.getTaskList().size());
+            assertEquals("SubTask Properties Test","2", result.getTaskList().get(0).getTaskId());
+            assertEquals("SubTask Properties Test2","3", result.getTaskList().get(1).getTaskId());
+            assertEquals("SubTask Last Page Cursor Test", null, result.getNextCursor());
+            verify(taskRepository, times(1)).findSubtaskPageById(email, taskId, null, null, 101);
+        }
+    }
+
+    @Test
+    void findSubtaskById_shouldReturnNextCursor_whenMoreTasksRemain() {
+        // Given
+        String email = "test@example.com";
+        String taskId = "1";
+        List<Task> subtasks = Arrays.asList(
+                new Task("2", "Subtask 1", "Memo 1", LocalDateTime.now(), LocalDateTime.now().plusDays(1), 1, false),
+                new Task("3", "Subtask 2", "Memo 2", LocalDateTime.now(), LocalDateTime.now().plusDays(2), 2, true),
+                new Task("4", "Subtask 3", "Memo 3", LocalDateTime.now(), LocalDateTime.now().plusDays(3), 2, false)
+        );
+        when(taskRepository.findSubtaskPageById(email, taskId, null, null, 3)).thenReturn(Flux.fromIterable(subtasks));
+        when(taskRepository.findSubtaskPageById(email, taskId, 2, "3", 3)).thenReturn(Flux.just(subtasks.get(2)));
+
+        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class, CALLS_REAL_METHODS)) {
+            utilities.when(SecurityUtils::getAuthenticatedUserEmail).thenReturn(email);
+
+            // When
+            TasksDto.SearchTasksResponse firstPage = taskService.findSubtaskById(taskId, 2, null).block();
+            TasksDto.SearchTasksResponse secondPage = taskService.findSubtaskById(taskId, 2, firstPage.getNextCursor()).block();
+
+            // Then
+            assertEquals("SubTask First Page Size Test", 2, firstPage.getTaskList().size());
+            assertEquals("SubTask Second Page Size Test", 1, secondPage.getTaskList().size());
+            assertEquals("SubTask Second Page Properties Test", "4", secondPage.getTaskList().get(0).getTaskId());
+            assertEquals("SubTask Second Page Cursor Test", null, secondPage.getNextCursor());
+        }
+    }
+
+    @Test
+    void findSubtaskById_shouldThrowInvalidCursorException_whenCursorIsMalformed() {
+        assertThrows(InvalidCursorException.class, () -> taskService.findSubtaskById("1", null, "not-a-cursor"));
+        verify(taskRepository, never()).findSubtaskPageById(anyString(), anyString(), any(), any(), anyInt());
     }
 
     @Test
     void getTaskRoutes_shouldReturnTaskRouteResponse() {
         // Given
+        String email = "test@example.com";
         String taskId = "1";
         List<TasksDto.TaskRouteDto> routes = Arrays.asList(
                 TasksDto.TaskRouteDto.builder()
@@ -121,15 +249,68 @@ class TaskServiceTest {
                         .order(0)
                         .build()
         );
-        when(taskRepository.findRoutesById(taskId)).thenReturn(Flux.fromIterable(routes));
+        when(taskRepository.findRoutesById(email, taskId)).thenReturn(Flux.fromIterable(routes));
+
+        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class, CALLS_REAL_METHODS)) {
+            utilities.when(SecurityUtils::getAuthenticatedUserEmail).thenReturn(email);
+
+            // When
+            TasksDto.TaskRouteResponse result = taskService.getTaskRoutes(taskId).block();
+
+            // Then
+            assertEquals("RouteSize Test",3, result.getRoutes().size());
+            assertEquals("RouteID Test",0, result.getRoutes().get(2).getOrder());
+            verify(taskRepository, times(1)).findRoutesById(email, taskId);
+        }
+    }
+
+    private static TasksDto.TaskTreeRowDto treeRow(String taskId, String parentId, int depth, int childCount) {
+        return TasksDto.TaskTreeRowDto.builder()
+                .taskId(taskId)
+                .parentId(parentId)
+                .name("Task " + taskId)
+                .priority(1)
+                .check(false)
+                .depth(depth)
+                .childCount(childCount)
+                .build();
+    }
+
+    @Test
+    void findTaskTree_shouldNestRowsAndLeaveChildrenNullBeyondDepth() {
+        // Given
+        String email = "test@example.com";
+        when(taskRepository.findTaskTree(email, "1", 1)).thenReturn(Flux.just(
+                treeRow("1", null, 0, 2),
+                treeRow("2", "1", 1, 3),
+                treeRow("3", "1", 1, 0)));
 
-        // When
-        TasksDto.TaskRouteResponse result = taskService.getTaskRoutes(taskId);
+        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class, CALLS_REAL_METHODS)) {
+            utilities.when(SecurityUtils::getAuthenticatedUserEmail).thenReturn(email);
 
-        // Then
-        assertEquals("RouteSize Test",3, result.getRoutes().size());
-        assertEquals("RouteID Test",0, result.getRoutes().get(2).getOrder());
-        verify(taskRepository, times(1)).findRoutesById(taskId);
+            // When
+            TasksDto.TaskTreeResponse result = taskService.findTaskTree("1", 1).block();
+
+            // Then
+            assertEquals("TreeRoot Test", "1", result.getTaskId());
+            assertEquals("TreeChildren Size Test", 2, result.getChildren().size());
+            assertEquals("TreeChildCount Hint Test", 3, result.getChildren().get(0).getChildCount());
+            assertEquals("TreeUnexpanded Children Test", null, result.getChildren().get(0).getChildren());
+            assertEquals("TreeMemo Default Test", "", result.getChildren().get(1).getMemo());
+            verify(taskRepository, times(1)).findTaskTree(email, "1", 1);
+        }
+    }
+
+    @Test
+    void findTaskTree_shouldThrowTaskNotFoundException_whenTaskDoesNotExist() {
+        String email = "test@example.com";
+        when(taskRepository.findTaskTree(email, "1", null)).thenReturn(Flux.empty());
+
+        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class, CALLS_REAL_METHODS)) {
+            utilities.when(SecurityUtils::getAuthenticatedUserEmail).thenReturn(email);
+
+            assertThrows(TaskNotFoundException.class, () -> taskService.findTaskTree("1", null).block());
+        }
     }
 
     @Test
@@ -148,16 +329,40 @@ class TaskServiceTest {
         Task createdTask = new Task("1", "Task 1", "Memo 1", LocalDateTime.now(), LocalDateTime.now().plusDays(1), 1, false);
         when(taskRepository.createTaskWithRootParent(any())).thenReturn(Mono.just(createdTask));
 
-        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class)) {
+        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class, CALLS_REAL_METHODS)) {
             utilities.when(SecurityUtils::getAuthenticatedUserEmail).thenReturn(email);
 
             // When
-            TasksDto.TaskResponse result = taskService.createTask(request);
+            TasksDto.TaskResponse result = taskService.createTask(request).block();
 
             // Then
             assertEquals("CreateTaskID Test","1", result.getTaskId());
             assertEquals("CreateTaskName Test","Task 1", result.getName());
             verify(taskRepository, times(1)).createTaskWithRootParent(any());
+            verify(taskTypeaheadIndex, times(1)).put(email, result);
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void createTask_shouldFailInsideTransaction_whenChangeRecordFails() {
+        // Given
+        String email = "test@example.com";
+        TasksDto.TaskCreateRequest request = TasksDto.TaskCreateRequest.builder()
+                .name("Task 1")
+                .parentId("0")
+                .build();
+        Task createdTask = new Task("1", "Task 1", "", null, null, 0, false);
+        when(taskRepository.createTaskWithRootParent(any())).thenReturn(Mono.just(createdTask));
+        when(taskChangeLog.recordTasks(eq(email), eq("create"), anyList())).thenReturn(Mono.error(new IllegalStateException("record failed")));
+
+        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class, CALLS_REAL_METHODS)) {
+            utilities.when(SecurityUtils::getAuthenticatedUserEmail).thenReturn(email);
+
+            // When & Then - 변경 기록 실패가 트랜잭션 안에서 전파되어 생성도 롤백되고, 자동완성 색인은 갱신하지 않음
+            assertThrows(IllegalStateException.class, () -> taskService.createTask(request).block());
+            verify(transactionalOperator, times(1)).transactional(any(Mono.class));
+            verify(taskTypeaheadIndex, never()).put(anyString(), any());
         }
     }
 
@@ -176,11 +381,11 @@ class TaskServiceTest {
         Task createdTask = new Task("2", "Task 1", "Memo 1", LocalDateTime.now(), LocalDateTime.now().plusDays(1), 1, false);
         when(taskRepository.createTaskWithParent(any())).thenReturn(Mono.just(createdTask));
 
-        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class)) {
+        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class, CALLS_REAL_METHODS)) {
             utilities.when(SecurityUtils::getAuthenticatedUserEmail).thenReturn(email);
 
             // When
-            TasksDto.TaskResponse result = taskService.createTask(request);
+            TasksDto.TaskResponse result = taskService.createTask(request).block();
 
             // Then
             assertEquals("CreateTaskID with ParentId Test","2", result.getTaskId());
@@ -192,6 +397,7 @@ class TaskServiceTest {
     @Test
     void updateTask_shouldReturnUpdatedTaskResponse_whenTaskExists() {
         // Given
+        String email = "test@example.com";
         TasksDto.TaskUpdateRequest request = TasksDto.TaskUpdateRequest.builder()
                 .taskId("1")
                 .name("Updated Task")
@@ -203,25 +409,31 @@ class TaskServiceTest {
                 .build();
         Task existingTask = new Task("1", "Task 1", "Memo 1", LocalDateTime.now(), LocalDateTime.now().plusDays(1), 1, false);
         Task updatedTask = new Task("1", "Updated Task", "Updated Memo", LocalDateTime.now(), LocalDateTime.now().plusDays(1), 2, true);
-        when(taskRepository.findTaskById("1")).thenReturn(Mono.just(existingTask));
+        when(taskRepository.findTaskById(email, "1")).thenReturn(Mono.just(existingTask));
         when(taskRepository.updateTask(any())).thenReturn(Mono.just(updatedTask));
 
-        // When
-        TasksDto.TaskResponse result = taskService.updateTask(request);
+        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class, CALLS_REAL_METHODS)) {
+            utilities.when(SecurityUtils::getAuthenticatedUserEmail).thenReturn(email);
 
-        // Then
-        assertEquals("UpdateTaskID Test","1", result.getTaskId());
-        assertEquals("UpdateTaskName Test","Updated Task", result.getName());
-        assertEquals("UpdateTaskMemo Test","Updated Memo", result.getMemo());
-        assertEquals("UpdateTaskPriority Test", 2, result.getPriority());
-        assertEquals("UpdateTaskCheck Test", true, result.getCheck());
-        verify(taskRepository, times(1)).findTaskById("1");
-        verify(taskRepository, times(1)).updateTask(any());
+            // When
+            TasksDto.TaskResponse result = taskService.updateTask(request).block();
+
+            // Then
+            assertEquals("UpdateTaskID Test","1", result.getTaskId());
+            assertEquals("UpdateTaskName Test","Updated Task", result.getName());
+            assertEquals("UpdateTaskMemo Test","Updated Memo", result.getMemo());
+            assertEquals("UpdateTaskPriority Test", 2, result.getPriority());
+            assertEquals("UpdateTaskCheck Test", true, result.getCheck());
+            verify(taskRepository, times(1)).findTaskById(email, "1");
+            // 수정 쿼리도 (id, owner)로 노드를 찾도록 email 전달
+            verify(taskRepository, times(1)).updateTask(argThat(task -> email.equals(task.get("email"))));
+        }
     }
 
     @Test
     void updateTask_shouldThrowTaskNotFoundException_whenTaskDoesNotExist() {
         // Given
+        String email = "test@example.com";
         TasksDto.TaskUpdateRequest request = TasksDto.TaskUpdateRequest.builder()
                 .taskId("1")
                 .name("Updated Task")
@@ -231,12 +443,16 @@ class TaskServiceTest {
                 .priority(2)
                 .check(true)
                 .build();
-        when(taskRepository.findTaskById("1")).thenReturn(Mono.empty());
+        when(taskRepository.findTaskById(email, "1")).thenReturn(Mono.empty());
 
-        // When & Then
-        assertThrows(TaskNotFoundException.class, () -> taskService.updateTask(request));
-        verify(taskRepository, times(1)).findTaskById("1");
-        verify(taskRepository, never()).updateTask(any());
+        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class, CALLS_REAL_METHODS)) {
+            utilities.when(SecurityUtils::getAuthenticatedUserEmail).thenReturn(email);
+
+            // When & Then
+            assertThrows(TaskNotFoundException.class, () -> taskService.updateTask(request).block());
+            verify(taskRepository, times(1)).findTaskById(email, "1");
+            verify(taskRepository, never()).updateTask(any());
+        }
     }
 
     @Test
@@ -249,11 +465,11 @@ class TaskServiceTest {
                 .build();
         when(taskRepository.deleteTaskByIdWithCascade(email, "1")).thenReturn(Mono.just(3));
 
-        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class)) {
+        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class, CALLS_REAL_METHODS)) {
             utilities.when(SecurityUtils::getAuthenticatedUserEmail).thenReturn(email);
 
             // When
-            TasksDto.TaskDeleteResponse result = taskService.deleteTask(request);
+            TasksDto.TaskDeleteResponse result = taskService.deleteTask(request).block();
 
             // Then
             assertEquals("DeleteTaskId Test","1", result.getTaskId());
@@ -271,58 +487,72 @@ class TaskServiceTest {
                 .taskId("1")
                 .cascade(false)
                 .build();
+        when(taskChangeLog.recordDeletedTasks(email, "delete", List.of("1"))).thenReturn(Mono.empty());
         when(taskRepository.deleteTaskById(email, "1")).thenReturn(Mono.just(1));
 
-        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class)) {
+        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class, CALLS_REAL_METHODS)) {
             utilities.when(SecurityUtils::getAuthenticatedUserEmail).thenReturn(email);
 
             // When
-            TasksDto.TaskDeleteResponse result = taskService.deleteTask(request);
+            TasksDto.TaskDeleteResponse result = taskService.deleteTask(request).block();
 
             // Then
             assertEquals("DeleteTaskId Test","1", result.getTaskId());
             assertEquals("DeleteTaskDeletedNodes Test",1, result.getDeletedNodes());
             verify(taskRepository, times(1)).deleteTaskById(email, "1");
             verify(taskRepository, never()).deleteTaskByIdWithCascade(anyString(), anyString());
+            // 부모가 바뀌는 자식 노드도 삭제 전에 함께 변경 기록
+            verify(taskChangeLog, times(1)).recordDeletedTasks(email, "delete", List.of("1"));
+            verify(taskChangeLog, never()).recordTasks(anyString(), anyString(), anyList());
         }
     }
 
     @Test
     void dropTask_shouldReturnTaskDeleteResponse_whenCascadeIsTrue() {
         // Given
+        String email = "test@example.com";
         TasksDto.TaskDeleteRequest request = TasksDto.TaskDeleteRequest.builder()
                 .taskId("1")
                 .cascade(true)
                 .build();
-        when(taskRepository.dropTaskByIdWithCascade("1")).thenReturn(Mono.just(3));
+        when(taskRepository.dropTaskByIdWithCascade(email, "1")).thenReturn(Mono.just(3));
+
+        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class, CALLS_REAL_METHODS)) {
+            utilities.when(SecurityUtils::getAuthenticatedUserEmail).thenReturn(email);
 
-        // When
-        TasksDto.TaskDeleteResponse result = taskService.dropTask(request);
+            // When
+            TasksDto.TaskDeleteResponse result = taskService.dropTask(request).block();
 
-        // Then
-        assertEquals("DropTaskId Test","1", result.getTaskId());
-        assertEquals("DropTaskDeletedNodes Test",3, result.getDeletedNodes());
-        verify(taskRepository, times(1)).dropTaskByIdWithCascade("1");
-        verify(taskRepository, never()).dropTaskById(anyString());
+            // Then
+            assertEquals("DropTaskId Test","1", result.getTaskId());
+            assertEquals("DropTaskDeletedNodes Test",3, result.getDeletedNodes());
+            verify(taskRepository, times(1)).dropTaskByIdWithCascade(email, "1");
+            verify(taskRepository, never()).dropTaskById(anyString(), anyString());
+        }
     }
 
     @Test
     void dropTask_shouldReturnTaskDeleteResponse_whenCascadeIsFalse() {
         // Given
+        String email = "test@example.com";
         TasksDto.TaskDeleteRequest request = TasksDto.TaskDeleteRequest.builder()
                 .taskId("1")
                 .cascade(false)
                 .build();
-        when(taskRepository.dropTaskById("1")).thenReturn(Mono.just(1));
+        when(taskRepository.dropTaskById(email, "1")).thenReturn(Mono.just(1));
 
-        // When
-        TasksDto.TaskDeleteResponse result = taskService.dropTask(request);
+        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class, CALLS_REAL_METHODS)) {
+            utilities.when(SecurityUtils::getAuthenticatedUserEmail).thenReturn(email);
+
+            // When
+            TasksDto.TaskDeleteResponse result = taskService.dropTask(request).block();
 
-        // Then
-        assertEquals("DropTaskId Test","1", result.getTaskId());
-        assertEquals("DropTaskDeletedNodes Test",1, result.getDeletedNodes());
-        verify(taskRepository, times(1)).dropTaskById("1");
-        verify(taskRepository, never()).dropTaskByIdWithCascade(anyString());
+            // Then
+            assertEquals("DropTaskId Test","1", result.getTaskId());
+            assertEquals("DropTaskDeletedNodes Test",1, result.getDeletedNodes());
+            verify(taskRepository, times(1)).dropTaskById(email, "1");
+            verify(taskRepository, never()).dropTaskByIdWithCascade(anyString(), anyString());
+        }
     }
 
     @Test
@@ -331,11 +561,11 @@ class TaskServiceTest {
         String email = "test@example.com";
         when(taskRepository.emptyTrash(email)).thenReturn(Mono.just(5));
 
-        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class)) {
+        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class, CALLS_REAL_METHODS)) {
             utilities.when(SecurityUtils::getAuthenticatedUserEmail).thenReturn(email);
 
             // When
-            TasksDto.EmptyTrashResponse result = taskService.dropAllTask();
+            TasksDto.EmptyTrashResponse result = taskService.dropAllTask().block();
 
             // Then
             assertEquals("DropAllTaskDeletedNodes Test",5, result.getDeletedNodes());
@@ -353,11 +583,11 @@ class TaskServiceTest {
                 .build();
         when(taskRepository.restoreTaskById(email, "root", "1")).thenReturn(Mono.just(2));
 
-        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class)) {
+        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class, CALLS_REAL_METHODS)) {
             utilities.when(SecurityUtils::getAuthenticatedUserEmail).thenReturn(email);
 
             // When
-            TasksDto.TaskRestoreResponse result = taskService.restoreTask(request);
+            TasksDto.TaskRestoreResponse result = taskService.restoreTask(request).block();
 
             // Then
             assertEquals("RestoreTaskId Test","1", result.getTaskId());
@@ -377,11 +607,11 @@ class TaskServiceTest {
                 .build();
         when(taskRepository.restoreTaskById(email, "2", "1")).thenReturn(Mono.just(2));
 
-        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class)) {
+        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class, CALLS_REAL_METHODS)) {
             utilities.when(SecurityUtils::getAuthenticatedUserEmail).thenReturn(email);
 
             // When
-            TasksDto.TaskRestoreResponse result = taskService.restoreTask(request);
+            TasksDto.TaskRestoreResponse result = taskService.restoreTask(request).block();
 
             // Then
             assertEquals("RestoreTaskId Test","1", result.getTaskId());
@@ -402,11 +632,11 @@ class TaskServiceTest {
 //                .build();
 //        when(taskRepository.moveTaskById(email, "root", "1")).thenReturn(Mono.just(2));
 //
-//        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class)) {
+//        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class, CALLS_REAL_METHODS)) {
 //            utilities.when(SecurityUtils::getAuthenticatedUserEmail).thenReturn(email);
 //
 //            // When
-//            TasksDto.TaskMoveResponse result = taskService.moveTask(request);
+//            TasksDto.TaskMoveResponse result = taskService.moveTask(request).block();
 //
 //            // Then
 //            assertEquals("MoveTaskId Test","1", result.getTaskId());
@@ -426,11 +656,11 @@ class TaskServiceTest {
 //                .build();
 //        when(taskRepository.moveTaskById(email, "2", "1")).thenReturn(Mono.just(2));
 //
-//        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class)) {
+//        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class, CALLS_REAL_METHODS)) {
 //            utilities.when(SecurityUtils::getAuthenticatedUserEmail).thenReturn(email);
 //
 //            // When
-//            TasksDto.TaskMoveResponse result = taskService.moveTask(request);
+//            TasksDto.TaskMoveResponse result = taskService.moveTask(request).block();
 //
 //            // Then
 //            assertEquals("MoveTaskId Test","1", result.getTaskId());
@@ -450,11 +680,11 @@ class TaskServiceTest {
                 .build();
         when(taskRepository.archiveTaskById(email, "1")).thenReturn(Mono.just(3));
 
-        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class)) {
+        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class, CALLS_REAL_METHODS)) {
             utilities.when(SecurityUtils::getAuthenticatedUserEmail).thenReturn(email);
 
             // When
-            TasksDto.TaskArchiveResponse result = taskService.archiveTask(request);
+            TasksDto.TaskArchiveResponse result = taskService.archiveTask(request).block();
 
             // Then
             assertEquals("ArchiveTaskId Test","1", result.getTaskId());
@@ -478,11 +708,11 @@ class TaskServiceTest {
                 .build();
         when(taskRepository.unarchiveTaskByIdWithOriginalParent(email, "1")).thenReturn(Mono.just(response));
 
-        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class)) {
+        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class, CALLS_REAL_METHODS)) {
             utilities.when(SecurityUtils::getAuthenticatedUserEmail).thenReturn(email);
 
             // When
-            TasksDto.TaskUnarchiveResponse result = taskService.unarchiveTask(request);
+            TasksDto.TaskUnarchiveResponse result = taskService.unarchiveTask(request).block();
 
             // Then
             assertEquals("UnarchiveTaskId Test","1", result.getTaskId());
@@ -508,11 +738,11 @@ class TaskServiceTest {
                 .build();
         when(taskRepository.unarchiveTaskByIdWithSpecificParent(email, "root", "1")).thenReturn(Mono.just(response));
 
-        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class)) {
+        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class, CALLS_REAL_METHODS)) {
             utilities.when(SecurityUtils::getAuthenticatedUserEmail).thenReturn(email);
 
             // When
-            TasksDto.TaskUnarchiveResponse result = taskService.unarchiveTask(request);
+            TasksDto.TaskUnarchiveResponse result = taskService.unarchiveTask(request).block();
 
             // Then
             assertEquals("UnarchiveTaskId Test","1", result.getTaskId());
@@ -538,11 +768,11 @@ class TaskServiceTest {
                 .build();
         when(taskRepository.unarchiveTaskByIdWithSpecificParent(email, "2", "1")).thenReturn(Mono.just(response));
 
-        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class)) {
+        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class, CALLS_REAL_METHODS)) {
             utilities.when(SecurityUtils::getAuthenticatedUserEmail).thenReturn(email);
 
             // When
-            TasksDto.TaskUnarchiveResponse result = taskService.unarchiveTask(request);
+            TasksDto.TaskUnarchiveResponse result = taskService.unarchiveTask(request).block();
 
             // Then
             assertEquals("UnarchiveTaskId Test","1", result.getTaskId());
@@ -552,4 +782,56 @@ class TaskServiceTest {
             verify(taskRepository, never()).unarchiveTaskByIdWithOriginalParent(anyString(), anyString());
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void streamAllTasks_shouldEmitTaskResponsePerTask() {
+        // Given
+        String email = "test@example.com";
+        List<Task> tasks = Arrays.asList(
+                new Task("1", "Task 1", null, LocalDateTime.now(), LocalDateTime.now().plusDays(1), null, false),
+                new Task("2", "Task 2", "Memo 2", LocalDateTime.now(), LocalDateTime.now().plusDays(2), 2, true)
+        );
+        when(taskRepository.findAllTasks(email)).thenReturn(Flux.fromIterable(tasks));
+
+        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class, CALLS_REAL_METHODS)) {
+            utilities.when(SecurityUtils::getAuthenticatedUserEmail).thenReturn(email);
+
+            // When
+            List<TasksDto.TaskResponse> result = taskService.streamAllTasks().collectList().block();
+
+            // Then
+            assertEquals("StreamAllTasks Size Test", 2, result.size());
+            assertEquals("StreamAllTasks Memo Default Test", "", result.get(0).getMemo());
+            assertEquals("StreamAllTasks Priority Default Test", 0, result.get(0).getPriority());
+            assertEquals("StreamAllTasks Order Test", "2", result.get(1).getTaskId());
+            verify(taskRepository, times(1)).findAllTasks(email);
+        }
+    }
+
+    @Test
+    void searchTasksByFullText_shouldQueryIndexWithOwnerClauseAndQuotedTerms() {
+        // Given
+        String email = "test@example.com";
+        TasksDto.TaskFullTextSearchRequest request = TasksDto.TaskFullTextSearchRequest.builder()
+                .text("회의 AND*")
+                .type("archive")
+                .limit(20)
+                .offset(40)
+                .build();
+        String expectedQuery = "+owner:\"test@example.com\" +(name:(\"회의\" \"AND*\")^2 memo:(\"회의\" \"AND*\"))";
+        Task task = new Task("1", "주간 회의", null, LocalDateTime.now(), LocalDateTime.now().plusDays(1), 1, false);
+        when(taskRepository.searchTaskByFullText(email, "archive", expectedQuery, 40, 20)).thenReturn(Flux.just(task));
+
+        try (MockedStatic<SecurityUtils> utilities = mockStatic(SecurityUtils.class, CALLS_REAL_METHODS)) {
+            utilities.when(SecurityUtils::getAuthenticatedUserEmail).thenReturn(email);
+
+            // When
+            TasksDto.SearchTasksResponse result = taskService.searchTasksByFullText(request).block();
+
+            // Then
+            assertEquals("FullTextSearch Size Test", 1, result.getTaskList().size());
+            assertEquals("FullTextSearch Properties Test", "주간 회의", result.getTaskList().get(0).getName());
+            verify(taskRepository, times(1)).searchTaskByFullText(email, "archive", expectedQuery, 40, 20);
+        }
+    }
+}
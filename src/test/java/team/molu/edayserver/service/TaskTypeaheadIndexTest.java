@@ -0,0 +1,71 @@
+package team.molu.edayserver.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import team.molu.edayserver.domain.Task;
+import team.molu.edayserver.dto.TasksDto;
+import team.molu.edayserver.repository.TaskRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.util.AssertionErrors.assertEquals;
+
+@ExtendWith(MockitoExtension.class)
+class TaskTypeaheadIndexTest {
+    private static final String EMAIL = "test@example.com";
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private TaskTypeaheadIndex taskTypeaheadIndex;
+
+    @BeforeEach
+    void setUp() {
+        taskTypeaheadIndex = new TaskTypeaheadIndex(taskRepository, 10);
+        when(taskRepository.findAllTasks(EMAIL)).thenReturn(Flux.just(
+                task("1", "주간 회의 준비"),
+                task("2", "회의록 정리"),
+                task("3", "할 일 목록"),
+                task("4", "닭갈비 먹기")));
+    }
+
+    private static Task task(String id, String name) {
+        return new Task(id, name, null, LocalDateTime.now(), LocalDateTime.now().plusDays(1), 1, false);
+    }
+
+    private List<String> search(String query) {
+        return taskTypeaheadIndex.search(EMAIL, query, 10).block()
+                .stream().map(TasksDto.TaskResponse::getTaskId).toList();
+    }
+
+    @Test
+    void search_shouldMatchChosungQuery_withPrefixMatchFirst() {
+        assertEquals("Chosung Search Test", List.of("3", "2", "1"), search("ㅎㅇ"));
+        assertEquals("Chosung Whitespace Search Test", List.of("3"), search("ㅎ ㅇ ㅁ"));
+    }
+
+    @Test
+    void search_shouldMatchSyllableBeingTyped() {
+        // "닭" 입력 중 "달" 까지 친 상태, "회의록" 입력 중 "회의로" 까지 친 상태
+        assertEquals("Partial Syllable Search Test", List.of("4"), search("달"));
+        assertEquals("Partial Final Consonant Search Test", List.of("2"), search("회의로"));
+    }
+
+    @Test
+    void search_shouldLoadOnceAndApplyIncrementalUpdates() {
+        search("회의");
+
+        taskTypeaheadIndex.put(EMAIL, TaskService.convertToTaskResponse(task("5", "회고")));
+        taskTypeaheadIndex.remove(EMAIL, "2");
+        taskTypeaheadIndex.update(EMAIL, TaskService.convertToTaskResponse(task("9", "회식")));
+
+        assertEquals("Incremental Put/Remove Test", List.of("5", "3", "1"), search("ㅎ"));
+        verify(taskRepository, times(1)).findAllTasks(EMAIL);
+    }
+}
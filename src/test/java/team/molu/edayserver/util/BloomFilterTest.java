@@ -0,0 +1,42 @@
+package team.molu.edayserver.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.springframework.test.util.AssertionErrors.assertEquals;
+import static org.springframework.test.util.AssertionErrors.assertTrue;
+
+class BloomFilterTest {
+
+    @Test
+    void mightContain_shouldNeverMissInsertedValues() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        String[] values = new String[10_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = UUID.randomUUID().toString();
+            filter.put(values[i]);
+        }
+
+        for (String value : values) {
+            assertEquals("No False Negative Test", true, filter.mightContain(value));
+        }
+    }
+
+    @Test
+    void mightContain_shouldStayNearConfiguredFalsePositiveRate() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(UUID.randomUUID().toString());
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue("False Positive Rate Test : " + falsePositives, falsePositives < 2_000);
+    }
+}
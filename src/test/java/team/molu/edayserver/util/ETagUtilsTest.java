@@ -0,0 +1,38 @@
+package team.molu.edayserver.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.springframework.test.util.AssertionErrors.assertEquals;
+
+class ETagUtilsTest {
+
+    @Test
+    void strong_shouldChangeWithRevisionAndUser() {
+        String etag = ETagUtils.strong("test@example.com", 42);
+
+        assertEquals("ETag Quoted Test", true, etag.startsWith("\"") && etag.endsWith("\""));
+        assertEquals("ETag Revision Test", false, etag.equals(ETagUtils.strong("test@example.com", 43)));
+        assertEquals("ETag User Test", false, etag.equals(ETagUtils.strong("other@example.com", 42)));
+    }
+
+    @Test
+    void strong_shouldNotCollide_whenEmailHashCodesCollide() {
+        // "Aa"와 "BB"는 String.hashCode가 같음
+        String etag = ETagUtils.strong("Aa@example.com", 42);
+
+        assertEquals("HashCode Collision Test", false, etag.equals(ETagUtils.strong("BB@example.com", 42)));
+        assertEquals("ETag Format Test", true, etag.matches("\"[0-9a-f]{16}-42\""));
+    }
+
+    @Test
+    void matches_shouldHandleListsWeakTagsAndWildcard() {
+        String etag = ETagUtils.strong("test@example.com", 42);
+
+        assertEquals("Exact Match Test", true, ETagUtils.matches(etag, etag));
+        assertEquals("List Match Test", true, ETagUtils.matches("\"stale\", " + etag, etag));
+        assertEquals("Weak Match Test", true, ETagUtils.matches("W/" + etag, etag));
+        assertEquals("Wildcard Match Test", true, ETagUtils.matches("*", etag));
+        assertEquals("Stale Match Test", false, ETagUtils.matches(ETagUtils.strong("test@example.com", 41), etag));
+        assertEquals("Missing Header Test", false, ETagUtils.matches(null, etag));
+    }
+}
@@ -0,0 +1,52 @@
+package team.molu.edayserver.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolder;
+import reactor.core.publisher.Mono;
+import team.molu.edayserver.dto.CustomOAuth2User;
+import team.molu.edayserver.dto.UserDto;
+
+import static org.springframework.test.util.AssertionErrors.assertEquals;
+import static org.springframework.test.util.AssertionErrors.assertNull;
+
+class SecurityUtilsTest {
+
+    private static Authentication authentication(String email) {
+        CustomOAuth2User user = new CustomOAuth2User(UserDto.builder().email(email).role("MEMBER").build());
+        return new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void authenticatedUserEmail_shouldReadServletContext_atCallTime() {
+        SecurityContextHolder.getContext().setAuthentication(authentication("servlet@example.com"));
+        Mono<String> email = SecurityUtils.authenticatedUserEmail();
+
+        // 구독 시점(다른 스레드)에는 servlet 인증 정보가 없어도 호출 시점의 값을 사용
+        SecurityContextHolder.clearContext();
+
+        assertEquals("Servlet Email Test", "servlet@example.com", email.block());
+    }
+
+    @Test
+    void authenticatedUserEmail_shouldReadReactiveContext_whenServletContextIsEmpty() {
+        String email = SecurityUtils.authenticatedUserEmail()
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication("reactive@example.com")))
+                .block();
+
+        assertEquals("Reactive Email Test", "reactive@example.com", email);
+    }
+
+    @Test
+    void authenticatedUserEmail_shouldBeEmpty_whenUnauthenticated() {
+        assertNull("Unauthenticated Test", SecurityUtils.authenticatedUserEmail().block());
+    }
+}